@@ -1,15 +1,18 @@
 package code.with.vanilson.libraryapplication.admin;
 
 import code.with.vanilson.libraryapplication.common.https.HeaderConstants;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.time.Duration;
@@ -80,20 +83,26 @@ public class AdminController {
      * This method responds with the details of a specific admin based on the provided ID.
      *
      * @param id      The unique identifier of the admin to be retrieved.
-     * @param headers Optional HTTP headers that can be included in the request (not used in this method).
+     * @param request The request, checked for If-None-Match.
      * @return {@link ResponseEntity} containing the {@link AdminResponse} with the admin details and an HTTP status of 200 (OK).
      *
      * <p>
      * This method logs the retrieval request and returns the admin details wrapped in a {@code ResponseEntity} with an HTTP status of 200.
+     * A request whose If-None-Match still holds the current ETag gets 304 Not Modified from one version lookup,
+     * without the admin being loaded or mapped.
      * If the specified admin ID does not exist, an exception should be handled by the global exception handler.
      * </p>
      */
 
     @GetMapping(value = "/{id}")
-    public ResponseEntity<AdminResponse> getAdminById(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
-        var adminResponse = adminService.getAdminById(id); // assuming this service call returns AdminResponse
+    public ResponseEntity<AdminResponse> getAdminById(@PathVariable Long id, WebRequest request) {
+        var eTag = ETagUtils.toETag(adminService.getAdminVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        var adminResponse = adminService.getAdminById(id);
         return ResponseEntity.ok()
-                .headers(headers) // Use headers if necessary
+                .eTag(eTag)
                 .body(adminResponse);
     }
 
@@ -102,7 +111,6 @@ public class AdminController {
      * This method responds with the details of a specific admin based on the provided email.
      *
      * @param email   The email of the admin to be retrieved.
-     * @param headers Optional HTTP headers that can be included in the request (not used in this method).
      * @return {@link ResponseEntity} containing the {@link AdminResponse} with the admin details and an HTTP status of 200 (OK).
      *
      * <p>
@@ -112,11 +120,13 @@ public class AdminController {
      */
 
     @GetMapping(value = "/email/{email}")
-    public ResponseEntity<AdminResponse> getAdminByEmail(@PathVariable String email, @RequestHeader HttpHeaders headers) {
+    public ResponseEntity<AdminResponse> getAdminByEmail(@PathVariable String email) {
         var adminResponse = adminService.getAdminByEmail(email); // assuming this service call returns AdminResponse
-        return ResponseEntity.ok()
-                .headers(headers) // Use headers if necessary
-                .body(adminResponse);
+        var response = ResponseEntity.ok();
+        if (adminResponse.getVersion() != null) {
+            response.eTag(ETagUtils.toETag(adminResponse.getVersion()));
+        }
+        return response.body(adminResponse);
     }
 
     /**
@@ -150,7 +160,6 @@ public class AdminController {
         // Return the response entity with the AdminResponse object and headers
         return ResponseEntity
                 .created(URI.create("/api/v1/admins/" + adminResponse.getId()))
-                .eTag(adminResponse.getAdminCode())
                 .headers(headers)
                 .body(adminResponse);
     }
@@ -162,15 +171,17 @@ public class AdminController {
      *
      * @param adminId      The ID of the admin to be updated.
      * @param adminRequest The new admin data.
+     * @param ifMatch      Optional ETag the admin must still have; 412 Precondition Failed otherwise.
      * @return ResponseEntity containing the updated AdminResponse.
      */
     @PutMapping(value = "/update-admin/{adminId}")
     public ResponseEntity<AdminResponse> updateAdmin(
             @PathVariable Long adminId,
-            @RequestBody @Valid AdminRequest adminRequest) {
+            @RequestBody @Valid AdminRequest adminRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         // Call the service to update the admin
-        var updatedAdminResponse = adminService.updateAdmin(adminRequest, adminId);
+        var updatedAdminResponse = adminService.updateAdmin(adminRequest, adminId, ifMatch);
 
         // Log the updated admin information
         log.info("Updated admin with ID: {}", updatedAdminResponse.getId());
@@ -181,7 +192,6 @@ public class AdminController {
         // Return the response entity with the AdminResponse object and headers
         return ResponseEntity
                 .ok()
-                .eTag(updatedAdminResponse.getAdminCode())
                 .headers(headers)
                 .body(updatedAdminResponse);
     }
@@ -253,6 +263,9 @@ public class AdminController {
             headers.set(HeaderConstants.X_ADMIN_NAME, adminResponse.getName());
             headers.set(HeaderConstants.X_ADMIN_EMAIL, adminResponse.getEmail());
             headers.set(HeaderConstants.X_ADMIN_CODE, adminResponse.getAdminCode());
+            if (adminResponse.getVersion() != null) {
+                headers.setETag(ETagUtils.toETag(adminResponse.getVersion()));
+            }
         }
 
         // Optionally include Set-Cookie header based on context
@@ -56,6 +56,7 @@ public class AdminMapper {
                 .contact(admin.getContact())
                 .adminCode(admin.getAdminCode())
                 .role(admin.getRole())
+                .version(admin.getVersion())
                 .build();
     }
 
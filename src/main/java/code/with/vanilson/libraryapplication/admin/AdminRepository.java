@@ -1,8 +1,12 @@
 package code.with.vanilson.libraryapplication.admin;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +22,18 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
     Optional<Admin> findAdminByEmail(String email);
 
     boolean existsAdminByEmail(String email);
+
+    /**
+     * The version alone, so a conditional GET can be answered without loading the admin.
+     */
+    @Query("SELECT a.version FROM Admin a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads the admins embedded in listings as read-only projections, outside the persistence context.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.admin.AdminView("
+            + "a.id, a.name, a.email, a.address, a.contact, a.adminCode, a.role, a.version) "
+            + "FROM Admin a WHERE a.id IN :ids")
+    List<AdminView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
 }
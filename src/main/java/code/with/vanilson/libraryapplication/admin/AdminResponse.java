@@ -1,6 +1,7 @@
 package code.with.vanilson.libraryapplication.admin;
 
 import code.with.vanilson.libraryapplication.person.AddressDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -25,4 +26,6 @@ public class AdminResponse extends RepresentationModel<AdminResponse> {
     private String contact;
     private String adminCode;
     private Role role;
-}
\ No newline at end of file
+    @JsonIgnore // sent as the ETag header
+    private Long version;
+}
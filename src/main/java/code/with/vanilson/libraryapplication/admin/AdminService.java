@@ -3,6 +3,8 @@ package code.with.vanilson.libraryapplication.admin;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourcePreconditionFailedException;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -83,6 +85,18 @@ public class AdminService implements IAdminService {
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getAdminVersion(Long adminId) {
+        checkIfTheValueIsGreatOrLessThanZero(adminId);
+        return adminRepository.findVersionById(adminId)
+                .orElseThrow(() -> {
+                    log.error("Admin {} not found", adminId);
+                    return new ResourceNotFoundException(
+                            MessageFormat.format(getMessage(LIBRARY_ADMIN_NOT_FOUND), adminId));
+                });
+    }
+
     @Override
     @Transactional(readOnly = true)
     public AdminResponse getAdminByEmail(String email) {
@@ -133,13 +147,15 @@ public class AdminService implements IAdminService {
      *
      * @param adminRequest The request object containing the details of the admin to be updated.
      * @param adminId      The unique identifier of the admin to be updated.
+     * @param ifMatch      The If-Match header of the request; {@code null} skips the check.
      * @return The response object containing the details of the updated admin.
-     * @throws ResourceBadRequestException If the provided adminRequest is null or adminId is invalid.
-     * @throws ResourceNotFoundException   If the admin with the given adminId does not exist.
+     * @throws ResourceBadRequestException         If the provided adminRequest is null or adminId is invalid.
+     * @throws ResourceNotFoundException           If the admin with the given adminId does not exist.
+     * @throws ResourcePreconditionFailedException If the admin changed since the client read it.
      */
     @Override
     @Transactional
-    public AdminResponse updateAdmin(AdminRequest adminRequest, Long adminId) {
+    public AdminResponse updateAdmin(AdminRequest adminRequest, Long adminId, String ifMatch) {
         validateAdminRequest(adminRequest);
 
         checkIfTheValueIsGreatOrLessThanZero(adminId);
@@ -147,9 +163,12 @@ public class AdminService implements IAdminService {
         // Fetch the Admin entity directly from the repository, not the response.
         var existingAdmin = adminRepository.findById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException(LIBRARY_ADMIN_NOT_FOUND));
+        ETagUtils.requireMatch(ifMatch, existingAdmin.getVersion(), "admin", adminId);
 
         updateAdminDetails(adminRequest, existingAdmin);
         var updatedAdmin = adminRepository.save(existingAdmin);
+        // Flushed so the response carries the bumped version
+        adminRepository.flush();
 
         log.info(formatMessage("library.admin.update_success", updatedAdmin.getId()));
         return mapToAdminResponse(updatedAdmin);  // Return the mapped response object
@@ -0,0 +1,38 @@
+package code.with.vanilson.libraryapplication.admin;
+
+import code.with.vanilson.libraryapplication.person.Address;
+
+/**
+ * AdminView - the columns of an admin that responses show, read without loading the entity
+ *
+ * @param id        The ID of the admin.
+ * @param name      The name.
+ * @param email     The email address.
+ * @param address   The postal address.
+ * @param contact   The phone contact.
+ * @param adminCode The admin code.
+ * @param role      The role.
+ * @param version   The version, the ETag of the admin.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AdminView(Long id, String name, String email, Address address, String contact, String adminCode,
+                        Role role, Long version) {
+
+    /**
+     * @return The same response {@link AdminMapper#mapToAdminResponse(Admin)} builds from the entity.
+     */
+    public AdminResponse toResponse() {
+        return AdminResponse.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .address(AdminMapper.mapToAddressDTO(address))
+                .contact(contact)
+                .adminCode(adminCode)
+                .role(role)
+                .version(version)
+                .build();
+    }
+}
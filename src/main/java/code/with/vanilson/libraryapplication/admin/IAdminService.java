@@ -25,6 +25,14 @@ public interface IAdminService {
      */
     AdminResponse getAdminById(Long id);
 
+    /**
+     * Get the version of an admin, which is the ETag of its representation
+     *
+     * @param id ID of the admin
+     * @return the current version
+     */
+    long getAdminVersion(Long id);
+
     /**
      * Find an admin by email
      *
@@ -50,7 +58,18 @@ public interface IAdminService {
      *                     updated
      */
 
-    AdminResponse updateAdmin(AdminRequest adminRequest, Long adminId);
+    default AdminResponse updateAdmin(AdminRequest adminRequest, Long adminId) {
+        return updateAdmin(adminRequest, adminId, null);
+    }
+
+    /**
+     * Update an existing admin if it is still at the version the client read
+     *
+     * @param adminRequest Admin object to be updated with new information about the admin being updated
+     * @param adminId      ID of the admin to be updated
+     * @param ifMatch      If-Match header of the request; {@code null} skips the check
+     */
+    AdminResponse updateAdmin(AdminRequest adminRequest, Long adminId, String ifMatch);
 
     /**
      * Delete a admin
@@ -1,20 +1,27 @@
 package code.with.vanilson.libraryapplication.auth;
 
-import code.with.vanilson.libraryapplication.security.JwtTokenService;
+import code.with.vanilson.libraryapplication.security.PasswordHashingExecutor;
 import code.with.vanilson.libraryapplication.user.User;
 import code.with.vanilson.libraryapplication.user.UserRepository;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static code.with.vanilson.libraryapplication.util.constant.MessageConstants.*;
 
@@ -23,36 +30,100 @@ import static code.with.vanilson.libraryapplication.util.constant.MessageConstan
 @SuppressWarnings("all")
 public class AuthController {
 
+    private static final String RETRY_AFTER_SECONDS = "2";
+
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenService jwtTokenService;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Executor taskExecutor;
 
     public AuthController(
-            AuthenticationManager authenticationManager, JwtTokenService jwtTokenService,
-            UserRepository userRepository) {
+            AuthenticationManager authenticationManager, RefreshTokenService refreshTokenService,
+            UserRepository userRepository, PasswordEncoder passwordEncoder,
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor) {
         this.authenticationManager = authenticationManager;
-        this.jwtTokenService = jwtTokenService;
+        this.refreshTokenService = refreshTokenService;
         this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.taskExecutor = taskExecutor;
     }
 
+    /**
+     * Checks the password on the password hashing threads; the servlet thread is released meanwhile. The tokens are
+     * issued on the application task executor, so the hashing threads never wait on the database.
+     *
+     * @return The token pair, 401 for a wrong login or password, or 503 with {@code Retry-After} when too many
+     * password checks are queued.
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody @Valid AuthenticationDTO authRequest) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody @Valid AuthenticationDTO authRequest) {
         var authenticationToken = new UsernamePasswordAuthenticationToken(authRequest.login(), authRequest.password());
-        var authentication = this.authenticationManager.authenticate(authenticationToken);
-        var token = jwtTokenService.generateToken((User) authentication.getPrincipal());
-        return ResponseEntity.ok(new AuthResponseDTO(token));  // HTTP 200 for successful login
+        return passwordHashingExecutor.submit("login", () -> authenticationManager.authenticate(authenticationToken))
+                .map(authentication -> authentication.<ResponseEntity<?>>thenApplyAsync(result ->
+                                // HTTP 200 for successful login
+                                ResponseEntity.ok(refreshTokenService.issue((User) result.getPrincipal())),
+                        taskExecutor)
+                        .exceptionally(AuthController::unauthorized))
+                .orElseGet(AuthController::busy);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody @Valid RefreshRequestDTO refreshRequest) {
+        return refreshTokenService.refresh(refreshRequest.refreshToken())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)  // HTTP 200 with the new token pair
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of(MESSAGE, INVALID_REFRESH_TOKEN)));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody @Valid RefreshRequestDTO refreshRequest) {
+        refreshTokenService.revoke(refreshRequest.refreshToken());
+        return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Hashes the password on the password hashing threads; the servlet thread is released meanwhile. The user is
+     * saved on the application task executor.
+     *
+     * @return 201, 409 if the login is taken, or 503 with {@code Retry-After} when too many hashes are queued.
+     */
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody @Valid RegistrationRequestDTO registrationRequest) {
+    public CompletableFuture<ResponseEntity<?>> register(
+            @RequestBody @Valid RegistrationRequestDTO registrationRequest) {
         if (userRepository.findUserByLogin(registrationRequest.login()) != null) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(MESSAGE, USER_ALREADY_EXISTS));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(MESSAGE, USER_ALREADY_EXISTS)));
         }
-        String encryptedPassword = new BCryptPasswordEncoder().encode(registrationRequest.password());
-        User newUser = new User(registrationRequest.login(), encryptedPassword, registrationRequest.role());
-        userRepository.save(newUser);
+        return passwordHashingExecutor.submit("register", () -> passwordEncoder.encode(registrationRequest.password()))
+                .map(encryptedPassword -> encryptedPassword.<ResponseEntity<?>>thenApplyAsync(password -> {
+                    User newUser = new User(registrationRequest.login(), password, registrationRequest.role());
+                    userRepository.save(newUser);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(MESSAGE, USER_CREATED_SUCCESSFULLY));
+                }, taskExecutor))
+                .orElseGet(AuthController::busy);
+    }
+
+    // Helper Methods
+
+    /**
+     * Answers 401 for a failed password check; any other failure is left to the exception handlers.
+     */
+    private static ResponseEntity<?> unauthorized(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof AuthenticationException) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(MESSAGE, INVALID_CREDENTIALS));
+        }
+        throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+    }
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(MESSAGE, USER_CREATED_SUCCESSFULLY));
+    private static CompletableFuture<ResponseEntity<?>> busy() {
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(Map.of(MESSAGE, AUTHENTICATION_BUSY)));
     }
 
 }
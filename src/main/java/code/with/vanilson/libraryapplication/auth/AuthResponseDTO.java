@@ -1,4 +1,9 @@
 package code.with.vanilson.libraryapplication.auth;
 
-public record AuthResponseDTO(String token) {
+/**
+ * @param token        the access token, sent as {@code Authorization: Bearer}
+ * @param refreshToken the one-time token that renews the pair at {@code /auth/refresh}
+ * @param expiresIn    seconds until the access token expires
+ */
+public record AuthResponseDTO(String token, String refreshToken, long expiresIn) {
 }
@@ -0,0 +1,6 @@
+package code.with.vanilson.libraryapplication.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshRequestDTO(@NotBlank String refreshToken) {
+}
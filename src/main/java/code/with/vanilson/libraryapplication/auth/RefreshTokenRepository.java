@@ -0,0 +1,117 @@
+package code.with.vanilson.libraryapplication.auth;
+
+import code.with.vanilson.libraryapplication.security.JwtTokenService.AccessToken;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * RefreshTokenRepository - the refresh tokens in {@code refresh_tokens}, by the SHA-256 digest of the token.
+ * <p>
+ * A refresh token is used once: rotating it marks its row, and every rotation of a login adds a row to the same
+ * family. Each row remembers the access token issued with it, so revoking a family can revoke those too.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class RefreshTokenRepository {
+
+    private static final String INSERT_TOKEN = "INSERT INTO refresh_tokens (token_hash, family_id, user_id, "
+            + "access_token_id, access_expires_at, expires_at) "
+            + "VALUES (:tokenHash, :familyId, :userId, :accessTokenId, :accessExpiresAt, :expiresAt)";
+
+    private static final String SELECT_TOKEN = "SELECT refresh_token_id, family_id, user_id, expires_at, "
+            + "rotated_at, revoked_at FROM refresh_tokens WHERE token_hash = :tokenHash";
+
+    /**
+     * A stored refresh token.
+     */
+    public record RefreshToken(long refreshTokenId, String familyId, long userId, Instant expiresAt,
+                               Instant rotatedAt, Instant revokedAt) {
+
+        public boolean isUsable(Instant now) {
+            return rotatedAt == null && revokedAt == null && now.isBefore(expiresAt);
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RefreshTokenRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(String tokenHash, String familyId, long userId, AccessToken accessToken, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_TOKEN, new MapSqlParameterSource("tokenHash", tokenHash)
+                .addValue("familyId", familyId)
+                .addValue("userId", userId)
+                .addValue("accessTokenId", accessToken.tokenId())
+                .addValue("accessExpiresAt", Timestamp.from(accessToken.expiresAt()))
+                .addValue("expiresAt", Timestamp.from(expiresAt)));
+    }
+
+    /**
+     * One unique index lookup.
+     */
+    public Optional<RefreshToken> findByHash(String tokenHash) {
+        return jdbcTemplate.query(SELECT_TOKEN, Map.of("tokenHash", tokenHash), (resultSet, rowNum) ->
+                        new RefreshToken(
+                                resultSet.getLong("refresh_token_id"),
+                                resultSet.getString("family_id"),
+                                resultSet.getLong("user_id"),
+                                resultSet.getTimestamp("expires_at").toInstant(),
+                                toInstant(resultSet.getTimestamp("rotated_at")),
+                                toInstant(resultSet.getTimestamp("revoked_at"))))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Marks the token as used, unless it already was; of two concurrent rotations only one gets {@code 1}.
+     *
+     * @return the number of rows updated
+     */
+    public int markRotated(long refreshTokenId, Instant now) {
+        return jdbcTemplate.update("UPDATE refresh_tokens SET rotated_at = :now "
+                        + "WHERE refresh_token_id = :refreshTokenId AND rotated_at IS NULL AND revoked_at IS NULL",
+                new MapSqlParameterSource("refreshTokenId", refreshTokenId).addValue("now", Timestamp.from(now)));
+    }
+
+    /**
+     * Revokes every refresh token of the family.
+     *
+     * @return the access tokens issued with the family that have not expired yet
+     */
+    public List<AccessToken> revokeFamily(String familyId, Instant now) {
+        var parameters = new MapSqlParameterSource("familyId", familyId).addValue("now", Timestamp.from(now));
+        List<AccessToken> accessTokens = jdbcTemplate.query("SELECT access_token_id, access_expires_at "
+                        + "FROM refresh_tokens WHERE family_id = :familyId AND access_expires_at > :now",
+                parameters, (resultSet, rowNum) -> new AccessToken(null,
+                        resultSet.getString("access_token_id"),
+                        resultSet.getTimestamp("access_expires_at").toInstant()));
+        jdbcTemplate.update("UPDATE refresh_tokens SET revoked_at = :now "
+                + "WHERE family_id = :familyId AND revoked_at IS NULL", parameters);
+        return accessTokens;
+    }
+
+    /**
+     * @return the number of expired refresh tokens deleted
+     */
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM refresh_tokens WHERE expires_at <= :now",
+                Map.of("now", Timestamp.from(now)));
+    }
+
+    // Helper Methods
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
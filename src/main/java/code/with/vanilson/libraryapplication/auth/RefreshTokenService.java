@@ -0,0 +1,157 @@
+package code.with.vanilson.libraryapplication.auth;
+
+import code.with.vanilson.libraryapplication.auth.RefreshTokenRepository.RefreshToken;
+import code.with.vanilson.libraryapplication.security.JwtTokenService;
+import code.with.vanilson.libraryapplication.security.JwtTokenService.AccessToken;
+import code.with.vanilson.libraryapplication.security.TokenRevocationList;
+import code.with.vanilson.libraryapplication.user.User;
+import code.with.vanilson.libraryapplication.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * RefreshTokenService - issues the token pairs of a login and renews them with rotating refresh tokens.
+ * <p>
+ * A login costs one BCrypt check and starts a family; afterwards the client trades its refresh token for a new
+ * pair whenever the short access token runs out, which costs a few indexed queries and no BCrypt. Each refresh
+ * token is accepted once. Presenting one again means it was copied, so the whole family is revoked, with the
+ * access tokens issued to it, and its holder has to log in again. Only the SHA-256 digest of a refresh token is
+ * stored.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserRepository userRepository;
+    private final Duration refreshTokenTtl;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtTokenService jwtTokenService,
+                               TokenRevocationList tokenRevocationList,
+                               UserRepository userRepository,
+                               @Value("${library.auth.refresh-token-ttl:P14D}") Duration refreshTokenTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenService = jwtTokenService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.userRepository = userRepository;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    /**
+     * Issues the first token pair of a login, starting a new family.
+     *
+     * @param user the authenticated user
+     * @return the access token and the refresh token
+     */
+    @Transactional
+    public AuthResponseDTO issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Trades a refresh token for a new pair. The refresh token is used up whether or not this succeeds.
+     *
+     * @param refreshToken the refresh token held by the client
+     * @return the new pair, or empty if the refresh token is unknown, expired, used before or revoked
+     */
+    @Transactional
+    public Optional<AuthResponseDTO> refresh(String refreshToken) {
+        Optional<RefreshToken> stored = refreshTokenRepository.findByHash(hash(refreshToken));
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshToken token = stored.get();
+        Instant now = Instant.now();
+        if (token.rotatedAt() != null && token.revokedAt() == null) {
+            log.warn("Refresh token {} of user ID {} was presented again; revoking its family",
+                    token.refreshTokenId(), token.userId());
+            revokeFamily(token.familyId(), now);
+            return Optional.empty();
+        }
+        if (!token.isUsable(now)) {
+            return Optional.empty();
+        }
+        if (refreshTokenRepository.markRotated(token.refreshTokenId(), now) == 0) {
+            log.warn("Refresh token {} of user ID {} was rotated concurrently; revoking its family",
+                    token.refreshTokenId(), token.userId());
+            revokeFamily(token.familyId(), now);
+            return Optional.empty();
+        }
+        return userRepository.findById(token.userId())
+                .map(user -> issue(user, token.familyId()));
+    }
+
+    /**
+     * Logs out the family of the refresh token: its refresh tokens and its unexpired access tokens stop working.
+     *
+     * @param refreshToken the refresh token held by the client
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByHash(hash(refreshToken))
+                .ifPresent(token -> revokeFamily(token.familyId(), Instant.now()));
+    }
+
+    /**
+     * Deletes the refresh tokens that have expired.
+     */
+    @Scheduled(fixedDelayString = "${library.auth.refresh-purge:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    // Helper Methods
+
+    private AuthResponseDTO issue(User user, String familyId) {
+        AccessToken accessToken = jwtTokenService.issueAccessToken(user);
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.insert(hash(refreshToken), familyId, user.getId(), accessToken,
+                Instant.now().plus(refreshTokenTtl));
+        return new AuthResponseDTO(accessToken.token(), refreshToken,
+                jwtTokenService.getAccessTokenTtl().toSeconds());
+    }
+
+    private void revokeFamily(String familyId, Instant now) {
+        refreshTokenRepository.revokeFamily(familyId, now)
+                .forEach(accessToken -> tokenRevocationList.revoke(accessToken.tokenId(), accessToken.expiresAt()));
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -27,17 +27,34 @@ import static code.with.vanilson.libraryapplication.book.BookStatus.*;
 @SuppressWarnings("unused")
 @Table(name = "books")
 @Entity(name = "Book")
+@NamedEntityGraph(name = Book.LIBRARIAN_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "librarian", subgraph = "librarian"),
+        subgraphs = @NamedSubgraph(name = "librarian", attributeNodes = @NamedAttributeNode("admin")))
+@NamedEntityGraph(name = Book.CATALOG_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "librarian", subgraph = "librarian"),
+                @NamedAttributeNode(value = "members", subgraph = "members")},
+        subgraphs = {
+                @NamedSubgraph(name = "librarian", attributeNodes = @NamedAttributeNode("admin")),
+                @NamedSubgraph(name = "members", attributeNodes = {
+                        @NamedAttributeNode(value = "librarian", subgraph = "librarian"),
+                        @NamedAttributeNode("admin")})})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @lombok.Getter
 @lombok.Setter
-@lombok.ToString(exclude = {"members", "librarian"})
-@lombok.EqualsAndHashCode(exclude = {"members", "librarian"})
+@lombok.ToString(exclude = {"members", "librarian", "copies"})
+@lombok.EqualsAndHashCode(exclude = {"members", "librarian", "copies"})
 @JsonPropertyOrder(value = {"id", "title", "author", "isbn", "publisherName", "publisherYear", "status"})
 public class Book implements Serializable {
     @Serial
     private static final long serialVersionUID = 2L;
+
+    // Fetch plans matching what BookMapper.mapToBookResponse reads
+    public static final String LIBRARIAN_GRAPH = "Book.librarian";
+    public static final String CATALOG_GRAPH = "Book.catalog";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "book_id", nullable = false, unique = true)
@@ -57,6 +74,33 @@ public class Book implements Serializable {
     @Column(name = "book_status")
     private BookStatus status;
 
+    // Per-title stock counters, maintained atomically by the borrow/return updates in BookRepository
+    @Column(name = "total_copies", nullable = false)
+    @Builder.Default
+    private int totalCopies = 1;
+
+    @Column(name = "available_copies", nullable = false)
+    @Builder.Default
+    private int availableCopies = 1;
+
+    // Last number used in a generated copy barcode; never decreases, so barcodes of deleted copies are not reused
+    @Column(name = "last_copy_number", nullable = false)
+    private int lastCopyNumber;
+
+    // Lifetime checkouts, bumped by the borrow update; ranks typeahead suggestions
+    @Column(name = "borrow_count", nullable = false)
+    private long borrowCount;
+
+    // Bumped by every update, including the counter updates in BookRepository; also the ETag of the book
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @OneToMany(mappedBy = "book", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
+    @Builder.Default
+    private Set<BookCopy> copies = new HashSet<>();
+
     @ManyToMany(mappedBy = "borrowedBooks", fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JsonIgnore
     @Builder.Default
@@ -78,6 +122,23 @@ public class Book implements Serializable {
         this.status = status;
         this.members = members;
         this.librarian = librarian;
+        this.totalCopies = 1;
+        this.availableCopies = AVAILABLE.equals(status) ? 1 : 0;
+        this.copies = new HashSet<>();
+    }
+
+    /**
+     * Adds a physical copy to this title.
+     * The counters are not touched here; they are set when the title is created or updated atomically in the database.
+     *
+     * @param copy The copy to be attached to this book.
+     */
+    public void addCopy(BookCopy copy) {
+        if (null == copies) {
+            copies = new HashSet<>();
+        }
+        copies.add(copy);
+        copy.setBook(this);
     }
 
     /**
@@ -112,10 +173,11 @@ public class Book implements Serializable {
      * Checks if the book is available for borrowing.
      *
      * @return {@code true} if the book is available, {@code false} otherwise.
-     * The book is considered available if its status is {@link BookStatus#AVAILABLE}.
+     * The book is considered available if its status is {@link BookStatus#AVAILABLE} and at least one copy is on
+     * the shelf.
      */
     public boolean isAvailable() {
-        return AVAILABLE.equals(status);
+        return AVAILABLE.equals(status) && availableCopies > 0;
     }
 
     /**
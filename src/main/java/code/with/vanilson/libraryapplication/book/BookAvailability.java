@@ -0,0 +1,22 @@
+package code.with.vanilson.libraryapplication.book;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * BookAvailability - the shelf state of a title, as pushed by {@link BookAvailabilityFeed}
+ *
+ * @param bookId          The ID of the book.
+ * @param status          The status of the title.
+ * @param availableCopies Copies on the shelf.
+ * @param totalCopies     Copies owned.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookAvailability(Long bookId, BookStatus status, int availableCopies, int totalCopies) {
+
+    @JsonProperty("available")
+    public boolean available() {
+        return status == BookStatus.AVAILABLE && availableCopies > 0;
+    }
+}
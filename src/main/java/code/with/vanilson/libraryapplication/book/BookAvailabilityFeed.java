@@ -0,0 +1,214 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
+import code.with.vanilson.libraryapplication.common.utils.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BookAvailabilityFeed - pushes shelf changes of books to Server-Sent Events subscribers.
+ * <p>
+ * A subscription is an async request held open by the servlet container; no thread is parked on it. Writes happen
+ * on one fan-out thread: a change only queues the book ID, after commit, and changes that arrive while the thread
+ * is busy are coalesced into one read of the counters and one event per subscriber. Books nobody watches cost one
+ * map lookup. A comment line is sent to everyone periodically so dead connections and idle proxies are noticed.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class BookAvailabilityFeed {
+
+    public static final String EVENT_NAME = "availability";
+    static final int MAX_BOOKS_PER_SUBSCRIPTION = 100;
+
+    private final BookRepository bookRepository;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final Map<Long, Set<Subscriber>> subscribersByBook = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService fanOut = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-availability-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookAvailabilityFeed(BookRepository bookRepository,
+                                @Value("${library.availability.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${library.availability.timeout:PT30M}") Duration timeout) {
+        this.bookRepository = bookRepository;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    private record Subscriber(SseEmitter emitter, Set<Long> bookIds) {
+    }
+
+    /**
+     * Opens a subscription. The current availability of every book is sent first, so clients need no extra GET;
+     * afterwards one event follows each change. Browsers reconnect by themselves when the subscription times out.
+     *
+     * @param bookIds The books to watch, at most {@value #MAX_BOOKS_PER_SUBSCRIPTION}.
+     * @return The emitter to return from the controller, or empty when the feed is full.
+     * @throws ResourceBadRequestException if no book or too many books are given.
+     */
+    public Optional<SseEmitter> subscribe(Collection<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty() || bookIds.size() > MAX_BOOKS_PER_SUBSCRIPTION) {
+            throw new ResourceBadRequestException(MessageFormat.format(
+                    MessageProvider.getMessage("library.book.availability.books_required"),
+                    MAX_BOOKS_PER_SUBSCRIPTION));
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            log.warn("Availability feed is full ({} subscribers)", maxSubscribers);
+            return Optional.empty();
+        }
+        // Insertion ordered, so the snapshot goes out in the order the books were requested
+        Subscriber subscriber = new Subscriber(newEmitter(timeoutMillis),
+                Collections.unmodifiableSet(new LinkedHashSet<>(bookIds)));
+        subscriber.emitter().onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter().onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter().onError(error -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+        // Added inside compute so a concurrent unsubscribe cannot drop the set in between
+        subscriber.bookIds().forEach(bookId -> subscribersByBook.compute(bookId, (id, watchers) -> {
+            Set<Subscriber> updated = watchers == null ? ConcurrentHashMap.newKeySet() : watchers;
+            updated.add(subscriber);
+            return updated;
+        }));
+
+        // Registered before the snapshot is read, so a change in between is sent rather than missed. The snapshot is
+        // read and sent on the fan-out thread like every change, so no event can overtake an older one
+        fanOut.execute(() -> sendSnapshot(subscriber));
+        log.debug("Availability subscriber added for books {}, {} open", subscriber.bookIds(), subscriberCount.get());
+        return Optional.of(subscriber.emitter());
+    }
+
+    /**
+     * Announces that the shelf state of a book changed. Runs after the current transaction commits, so a rolled
+     * back borrow is never pushed.
+     *
+     * @param bookId The ID of the book.
+     */
+    public void publish(Long bookId) {
+        if (!subscribersByBook.containsKey(bookId)) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            // Only the first change of a burst schedules a flush
+            if (pending.add(bookId)) {
+                fanOut.execute(this::flush);
+            }
+        });
+    }
+
+    /**
+     * @return The number of open subscriptions.
+     */
+    public int size() {
+        return subscriberCount.get();
+    }
+
+    @Scheduled(fixedRateString = "${library.availability.heartbeat:PT25S}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            fanOut.execute(() -> subscribers.forEach(subscriber -> {
+                try {
+                    subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber, e);
+                }
+            }));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        fanOut.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+    }
+
+    /**
+     * Creates the emitter of a new subscription.
+     */
+    protected SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // Helper Methods
+
+    private void flush() {
+        List<Long> bookIds = new ArrayList<>(pending);
+        pending.removeAll(bookIds);
+        List<Long> watched = bookIds.stream()
+                .filter(subscribersByBook::containsKey)
+                .toList();
+        if (watched.isEmpty()) {
+            return;
+        }
+        try {
+            for (BookAvailability availability : bookRepository.findAvailability(watched)) {
+                subscribersByBook.getOrDefault(availability.bookId(), Set.of())
+                        .forEach(subscriber -> send(subscriber, availability));
+            }
+        } catch (RuntimeException e) {
+            log.error("Availability feed could not read books {}", watched, e);
+        }
+    }
+
+    private void sendSnapshot(Subscriber subscriber) {
+        try {
+            bookRepository.findAvailability(subscriber.bookIds())
+                    .forEach(availability -> send(subscriber, availability));
+        } catch (RuntimeException e) {
+            log.error("Availability feed could not read books {}", subscriber.bookIds(), e);
+            drop(subscriber, e);
+        }
+    }
+
+    private void send(Subscriber subscriber, BookAvailability availability) {
+        try {
+            subscriber.emitter().send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(availability, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        log.debug("Dropping availability subscriber for books {}: {}", subscriber.bookIds(), cause.getMessage());
+        subscriber.emitter().completeWithError(cause);
+        unsubscribe(subscriber);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscriber.bookIds().forEach(bookId -> subscribersByBook.computeIfPresent(bookId, (id, watchers) -> {
+            watchers.remove(subscriber);
+            return watchers.isEmpty() ? null : watchers;
+        }));
+    }
+}
@@ -0,0 +1,46 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.admin.AdminMapper;
+import code.with.vanilson.libraryapplication.admin.AdminResponse;
+import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
+import code.with.vanilson.libraryapplication.member.MemberResponse;
+import code.with.vanilson.libraryapplication.member.MembershipStatus;
+import code.with.vanilson.libraryapplication.person.Address;
+
+/**
+ * BookBorrowerView - one borrower of a book, with the member columns a book listing shows
+ *
+ * @param bookId           The ID of the book.
+ * @param memberId         The ID of the member.
+ * @param name             The name of the member.
+ * @param email            The email address of the member.
+ * @param address          The postal address of the member.
+ * @param contact          The phone contact of the member.
+ * @param membershipStatus The membership status.
+ * @param librarianId      The ID of the librarian of the member, resolved separately.
+ * @param adminId          The ID of the admin of the member, resolved separately.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookBorrowerView(Long bookId, Long memberId, String name, String email, Address address,
+                               String contact, MembershipStatus membershipStatus, Long librarianId, Long adminId) {
+
+    /**
+     * @param librarian The librarian of the member.
+     * @param admin     The admin of the member.
+     * @return The borrower as {@link BookMapper} embeds it in a book.
+     */
+    public MemberResponse toResponse(LibrarianResponse librarian, AdminResponse admin) {
+        MemberResponse memberResponse = new MemberResponse();
+        memberResponse.setId(memberId);
+        memberResponse.setName(name);
+        memberResponse.setEmail(email);
+        memberResponse.setAddress(AdminMapper.mapToAddressDTO(address));
+        memberResponse.setContact(contact);
+        memberResponse.setMembershipStatus(membershipStatus);
+        memberResponse.setLibrarianResponse(librarian);
+        memberResponse.setAdminResponse(admin);
+        return memberResponse;
+    }
+}
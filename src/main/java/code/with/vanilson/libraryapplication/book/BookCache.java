@@ -0,0 +1,108 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.common.utils.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * BookCache - bounded read-through cache in front of the book lookups by ID and ISBN.
+ * <p>
+ * Entries are evicted by size and by age. A miss is loaded once per key: concurrent callers for the same cold
+ * key wait for the first load instead of each going to the database. ISBNs map to book IDs, so a book is held
+ * once whatever it is looked up by. Hit, miss and eviction counts are exported to Micrometer as
+ * {@code cache.*{cache="books.by-id"}} and {@code cache.*{cache="books.by-isbn"}}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class BookCache {
+
+    static final String BY_ID = "books.by-id";
+    static final String BY_ISBN = "books.by-isbn";
+
+    private final Cache<Long, BookResponse> booksById;
+    private final Cache<String, Long> bookIdsByIsbn;
+
+    public BookCache(MeterRegistry meterRegistry,
+                     @Value("${library.cache.books.maximum-size:10000}") long maximumSize,
+                     @Value("${library.cache.books.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.booksById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.bookIdsByIsbn = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, booksById, BY_ID);
+        CaffeineCacheMetrics.monitor(meterRegistry, bookIdsByIsbn, BY_ISBN);
+    }
+
+    /**
+     * Returns the cached book or loads it.
+     * The caller gets its own copy, so links added by the controller never leak into the cache.
+     *
+     * @param bookId The ID of the book.
+     * @param loader Loads the book on a miss; exceptions are passed through and nothing is cached.
+     * @return A copy of the cached book.
+     */
+    public BookResponse getById(Long bookId, Function<Long, BookResponse> loader) {
+        return booksById.get(bookId, loader).toBuilder().build();
+    }
+
+    /**
+     * Peeks at the version of a cached book without loading it.
+     *
+     * @param bookId The ID of the book.
+     * @return The version of the cached book, or {@code null} on a miss.
+     */
+    public Long getVersion(Long bookId) {
+        BookResponse cached = booksById.getIfPresent(bookId);
+        return cached == null ? null : cached.getVersion();
+    }
+
+    /**
+     * Resolves an ISBN to a book ID, loading the mapping on a miss.
+     *
+     * @param isbn   The ISBN.
+     * @param loader Looks up the book ID on a miss; exceptions are passed through and nothing is cached.
+     * @return The ID of the book with this ISBN.
+     */
+    public Long getIdByIsbn(String isbn, Function<String, Long> loader) {
+        return bookIdsByIsbn.get(isbn, loader);
+    }
+
+    /**
+     * Drops a book now and again once the current transaction commits, so a read racing with the write cannot put
+     * the pre-commit state back.
+     *
+     * @param bookId The ID of the changed book.
+     * @param isbns  ISBNs that pointed to the book, {@code null}s ignored.
+     */
+    public void evict(Long bookId, String... isbns) {
+        Runnable eviction = () -> {
+            booksById.invalidate(bookId);
+            Arrays.stream(isbns)
+                    .filter(Objects::nonNull)
+                    .forEach(bookIdsByIsbn::invalidate);
+        };
+        eviction.run();
+        TransactionUtils.afterCommit(eviction);
+        log.debug("Evicted book ID {} from the cache", bookId);
+    }
+}
@@ -0,0 +1,181 @@
+package code.with.vanilson.libraryapplication.book;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * BookCirculationRepository - batched versions of the conditional borrow/return statements of
+ * {@link BookRepository}, for baskets of books.
+ * <p>
+ * Each method sends one JDBC batch and returns the per-book update counts, so the caller can tell which books went
+ * through without a round trip per book. It runs on the connection of the surrounding JPA transaction. Relies on the
+ * driver reporting real row counts for batched statements, which PostgreSQL and H2 do.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class BookCirculationRepository {
+
+    private static final String CHECKOUT_COPY = "UPDATE books SET "
+            + "version = version + 1, "
+            + "book_status = CASE WHEN available_copies > 1 THEN 'AVAILABLE' ELSE 'BORROWED' END, "
+            + "available_copies = available_copies - 1, "
+            + "borrow_count = borrow_count + 1, "
+            + "librarian_id = :librarianId "
+            + "WHERE book_id = :bookId AND book_status = 'AVAILABLE' AND available_copies > 0";
+
+    private static final String CHECKOUT_RESERVED_COPY = "UPDATE books SET "
+            + "version = version + 1, "
+            + "book_status = CASE WHEN available_copies > 0 THEN 'AVAILABLE' "
+            + "WHEN EXISTS (SELECT 1 FROM book_holds WHERE book_id = :bookId AND hold_status = 'READY') THEN 'RESERVED' "
+            + "ELSE 'BORROWED' END, "
+            + "borrow_count = borrow_count + 1, "
+            + "librarian_id = :librarianId "
+            + "WHERE book_id = :bookId";
+
+    private static final String RELEASE_COPY = "UPDATE books SET "
+            + "version = version + 1, "
+            + "book_status = CASE WHEN book_status IN ('BORROWED', 'RESERVED') THEN 'AVAILABLE' ELSE book_status END, "
+            + "available_copies = available_copies + 1, "
+            + "borrow_count = borrow_count - 1 "
+            + "WHERE book_id = :bookId";
+
+    private static final String CHECKIN_COPY = "UPDATE books SET "
+            + "version = version + 1, "
+            + "book_status = CASE WHEN book_status IN ('BORROWED', 'RESERVED') THEN 'AVAILABLE' ELSE book_status END, "
+            + "available_copies = available_copies + 1, "
+            + "librarian_id = :librarianId "
+            + "WHERE book_id = :bookId AND available_copies < total_copies "
+            + "AND EXISTS (SELECT 1 FROM member_books WHERE member_id = :memberId AND book_id = :bookId)";
+
+    private static final String ADD_BORROWER = "INSERT INTO member_books (member_id, book_id) "
+            + "SELECT :memberId, :bookId WHERE NOT EXISTS "
+            + "(SELECT 1 FROM member_books WHERE member_id = :memberId AND book_id = :bookId)";
+
+    private static final String REMOVE_BORROWER = "DELETE FROM member_books WHERE member_id = :memberId AND book_id = :bookId";
+
+    private static final String OPEN_LOAN = "INSERT INTO loans (book_id, member_id, librarian_id, checked_out_at, due_date) "
+            + "VALUES (:bookId, :memberId, :librarianId, :now, :dueDate)";
+
+    private static final String CLOSE_LOAN = "UPDATE loans SET returned_at = :now, return_librarian_id = :librarianId "
+            + "WHERE book_id = :bookId AND member_id = :memberId AND returned_at IS NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BookCirculationRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Set<Long> findExistingBookIds(Collection<Long> bookIds) {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT book_id FROM books WHERE book_id IN (:bookIds)",
+                new MapSqlParameterSource("bookIds", bookIds), Long.class));
+    }
+
+    /**
+     * @return the books among {@code bookIds} on which the member has a ready hold
+     */
+    public Set<Long> findReadyHoldBookIds(Long memberId, Collection<Long> bookIds) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT book_id FROM book_holds WHERE member_id = :memberId AND hold_status = 'READY' "
+                        + "AND book_id IN (:bookIds)",
+                new MapSqlParameterSource("memberId", memberId).addValue("bookIds", bookIds), Long.class));
+    }
+
+    public Set<Long> findBorrowedBookIds(Long memberId, Collection<Long> bookIds) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT book_id FROM member_books WHERE member_id = :memberId AND book_id IN (:bookIds)",
+                new MapSqlParameterSource("memberId", memberId).addValue("bookIds", bookIds), Long.class));
+    }
+
+    /**
+     * Takes one copy of each book off the shelf; same rules as {@link BookRepository#checkoutCopy}.
+     *
+     * @return per book, {@code 1} if a copy was checked out, {@code 0} otherwise
+     */
+    public int[] checkoutCopies(List<Long> bookIds, Long librarianId) {
+        return batch(CHECKOUT_COPY, null, librarianId, bookIds);
+    }
+
+    /**
+     * Lends the copies set aside for holds the member has just fulfilled; same rules as
+     * {@link BookRepository#checkoutReservedCopy}. The copies are already off the shelf, so the counter is untouched.
+     *
+     * @return per book, {@code 1} if the book exists, {@code 0} otherwise
+     */
+    public int[] checkoutReservedCopies(List<Long> bookIds, Long librarianId) {
+        return batch(CHECKOUT_RESERVED_COPY, null, librarianId, bookIds);
+    }
+
+    /**
+     * Puts back copies taken by {@link #checkoutCopies} or {@link #checkoutReservedCopies} that could not be handed
+     * to the member.
+     */
+    public int[] releaseCopies(List<Long> bookIds) {
+        return batch(RELEASE_COPY, null, null, bookIds);
+    }
+
+    /**
+     * Puts one copy of each book back on the shelf; same rules as {@link BookRepository#checkinCopy}.
+     *
+     * @return per book, {@code 1} if the copy was returned, {@code 0} otherwise
+     */
+    public int[] checkinCopies(List<Long> bookIds, Long memberId, Long librarianId) {
+        return batch(CHECKIN_COPY, memberId, librarianId, bookIds);
+    }
+
+    /**
+     * @return per book, {@code 1} if the member was added as a borrower, {@code 0} if they already were one
+     */
+    public int[] addBorrowers(Long memberId, List<Long> bookIds) {
+        return batch(ADD_BORROWER, memberId, null, bookIds);
+    }
+
+    public int[] removeBorrowers(Long memberId, List<Long> bookIds) {
+        return batch(REMOVE_BORROWER, memberId, null, bookIds);
+    }
+
+    /**
+     * Records a loan per book; same row as {@link LoanRepository#save} writes for a single borrow.
+     */
+    public int[] openLoans(Long memberId, Long librarianId, List<Long> bookIds, LocalDateTime now, LocalDate dueDate) {
+        return batch(OPEN_LOAN, bookIds, parameters(memberId, librarianId)
+                .addValue("now", now)
+                .addValue("dueDate", dueDate));
+    }
+
+    /**
+     * Closes the open loan of the member on each book; same rules as {@link LoanRepository#closeLoan}.
+     */
+    public int[] closeLoans(Long memberId, Long librarianId, List<Long> bookIds, LocalDateTime now) {
+        return batch(CLOSE_LOAN, bookIds, parameters(memberId, librarianId).addValue("now", now));
+    }
+
+    private int[] batch(String sql, Long memberId, Long librarianId, List<Long> bookIds) {
+        return batch(sql, bookIds, parameters(memberId, librarianId));
+    }
+
+    private int[] batch(String sql, List<Long> bookIds, MapSqlParameterSource common) {
+        if (bookIds.isEmpty()) {
+            return new int[0];
+        }
+        SqlParameterSource[] parameters = bookIds.stream()
+                .map(bookId -> new MapSqlParameterSource(common.getValues()).addValue("bookId", bookId))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(sql, parameters);
+    }
+
+    private static MapSqlParameterSource parameters(Long memberId, Long librarianId) {
+        return new MapSqlParameterSource("memberId", memberId).addValue("librarianId", librarianId);
+    }
+}
@@ -0,0 +1,37 @@
+package code.with.vanilson.libraryapplication.book;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * BookCirculationRequest - a basket of books borrowed or returned by one member at one desk
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookCirculationRequest {
+    @NotNull(message = "The member ID must not be null")
+    @Positive(message = "The member ID must be a positive integer")
+    private Long memberId;
+
+    @NotNull(message = "The librarian ID must not be null")
+    @Positive(message = "The librarian ID must be a positive integer")
+    private Long librarianId;
+
+    @NotEmpty(message = "There must be at least one book ID")
+    @Size(max = BookService.MAX_BATCH_SIZE, message = "A basket holds at most " + BookService.MAX_BATCH_SIZE + " books")
+    private List<@NotNull(message = "Book IDs must not be null") Long> bookIds;
+}
@@ -0,0 +1,18 @@
+package code.with.vanilson.libraryapplication.book;
+
+import java.util.List;
+
+/**
+ * BookCirculationResponse - per-book outcome of a batch borrow or return, in request order
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookCirculationResponse(Long memberId, int succeeded, int failed, List<BookCirculationResult> results) {
+
+    static BookCirculationResponse of(Long memberId, List<BookCirculationResult> results) {
+        int succeeded = (int) results.stream().filter(BookCirculationResult::success).count();
+        return new BookCirculationResponse(memberId, succeeded, results.size() - succeeded, results);
+    }
+}
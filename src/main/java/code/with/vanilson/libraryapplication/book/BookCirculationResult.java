@@ -0,0 +1,22 @@
+package code.with.vanilson.libraryapplication.book;
+
+/**
+ * BookCirculationResult - outcome of one book of a batch borrow or return
+ *
+ * @param bookId  The ID of the book.
+ * @param success Whether the book was borrowed or returned.
+ * @param message Why it was not, {@code null} on success.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookCirculationResult(Long bookId, boolean success, String message) {
+
+    static BookCirculationResult succeeded(Long bookId) {
+        return new BookCirculationResult(bookId, true, null);
+    }
+
+    static BookCirculationResult failed(Long bookId, String message) {
+        return new BookCirculationResult(bookId, false, message);
+    }
+}
@@ -1,14 +1,25 @@
 package code.with.vanilson.libraryapplication.book;
 
+import code.with.vanilson.libraryapplication.common.hateoas.LinkTemplate;
 import code.with.vanilson.libraryapplication.common.https.HeaderConstants;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
@@ -38,11 +49,25 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 public class BookController {
 
     public static final String BOOKS = "books";
+    private static final LinkRelation BOOKS_REL = LinkRelation.of(BOOKS);
+    private static final LinkTemplate BOOK_LINK =
+            LinkTemplate.of(BookController.class, "getBookById", long.class, WebRequest.class);
+    private static final LinkTemplate BOOKS_LINK = LinkTemplate.of(BookController.class, "getAllBooks");
     // Implement the CRUD operations for books here...
     private final BookService bookService;
-
-    public BookController(BookService bookService) {
+    private final BookImportService bookImportService;
+    private final BookExportService bookExportService;
+    private final BookHoldService bookHoldService;
+    private final BookAvailabilityFeed bookAvailabilityFeed;
+
+    public BookController(BookService bookService, BookImportService bookImportService,
+                          BookExportService bookExportService, BookHoldService bookHoldService,
+                          BookAvailabilityFeed bookAvailabilityFeed) {
         this.bookService = bookService;
+        this.bookImportService = bookImportService;
+        this.bookExportService = bookExportService;
+        this.bookHoldService = bookHoldService;
+        this.bookAvailabilityFeed = bookAvailabilityFeed;
     }
 
     /**
@@ -59,41 +84,105 @@ public class BookController {
 
         HttpHeaders headers = prepareResponseHeaders(null, false);
 
-        books.forEach(bookResponse -> {
-            bookResponse.add(linkTo(methodOn(BookController.class)
-                    .getBookById(headers, bookResponse.getId()))
-                    .withSelfRel());
-            bookResponse.add(linkTo(methodOn(BookController.class)
-                    .getAllBooks())
-                    .withRel(BOOKS));
-
-        });
+        addLinks(books);
         return ResponseEntity.ok()
                 .headers(headers)
                 .body(books);
     }
 
+    /**
+     * Retrieves one keyset page of books ordered by ID.
+     *
+     * @param cursor The ID of the last book of the previous page; omit it for the first page.
+     * @param size   The page size, capped by the service.
+     * @param status Optional status filter.
+     * @param genre  Optional genre filter.
+     * @return A ResponseEntity containing the page, with {@code self} and {@code next} links.
+     */
+    @GetMapping(value = "/page")
+    public ResponseEntity<BookPageResponse> getBooksPage(@RequestParam(name = "cursor", required = false) Long cursor,
+                                                         @RequestParam(name = "size", required = false) Integer size,
+                                                         @RequestParam(name = "status", required = false)
+                                                         BookStatus status,
+                                                         @RequestParam(name = "genre", required = false) String genre) {
+        log.info("Retrieving books page after cursor {}", cursor);
+        var page = bookService.getBooksPage(cursor, size, status, genre);
+
+        HttpHeaders headers = prepareResponseHeaders(null, false);
+
+        addLinks(page.getContent());
+        page.add(linkTo(methodOn(BookController.class)
+                .getBooksPage(cursor, size, status, genre))
+                .withSelfRel());
+        if (page.isHasNext()) {
+            page.add(linkTo(methodOn(BookController.class)
+                    .getBooksPage(page.getNextCursor(), size, status, genre))
+                    .withRel(IanaLinkRelations.NEXT));
+        }
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(page);
+    }
+
+    /**
+     * Searches the catalog by title, author, publisher and genre.
+     *
+     * @param query The free text query; the last word may be partial.
+     * @param limit The maximum number of hits, capped by the index.
+     * @return A ResponseEntity containing the ranked hits, best first.
+     */
+    @GetMapping(value = "/search")
+    public ResponseEntity<List<BookSearchResult>> searchBooks(@RequestParam(name = "q") String query,
+                                                              @RequestParam(name = "limit", required = false)
+                                                              Integer limit) {
+        log.info("Searching books for '{}'", query);
+        var results = bookService.searchBooks(query, limit);
+        return ResponseEntity.ok()
+                .headers(prepareResponseHeaders(null, false))
+                .body(results);
+    }
+
+    /**
+     * Suggests titles and authors starting with what has been typed so far.
+     *
+     * @param prefix The partially typed title or author.
+     * @param limit  The maximum number of completions, capped by the index.
+     * @return A ResponseEntity containing the completions, most borrowed first.
+     */
+    @GetMapping(value = "/suggest")
+    public ResponseEntity<List<BookSuggestion>> suggestBooks(@RequestParam(name = "prefix") String prefix,
+                                                             @RequestParam(name = "limit", required = false)
+                                                             Integer limit) {
+        log.debug("Suggesting books for '{}'", prefix);
+        var suggestions = bookService.suggestBooks(prefix, limit);
+        return ResponseEntity.ok()
+                .headers(prepareResponseHeaders(null, false))
+                .body(suggestions);
+    }
+
     /**
      * Retrieves a book by its unique identifier from the database.
+     * A request whose If-None-Match still holds the current ETag gets 304 Not Modified; the version comes from the
+     * cache or one primary key lookup, and the book is neither loaded nor mapped.
      *
-     * @param bookId The unique identifier of the book to retrieve.
+     * @param bookId  The unique identifier of the book to retrieve.
+     * @param request The request, checked for If-None-Match.
      * @return A ResponseEntity containing a BookResponse object.
      * The HTTP status code is 200 (OK) if the operation is successful.
      * The body of the response contains the book if found.
      * @throws IllegalArgumentException If the bookId is less than or equal to zero.
      */
     @GetMapping(value = "/{bookId}")
-    public ResponseEntity<BookResponse> getBookById(@RequestHeader HttpHeaders headers, @PathVariable long bookId) {
+    public ResponseEntity<BookResponse> getBookById(@PathVariable long bookId, WebRequest request) {
+        var eTag = ETagUtils.toETag(bookService.getBookVersion(bookId));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         var bookResponse = bookService.getBookById(bookId);
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getBookById(headers, bookResponse.getId()))
-                .withSelfRel());
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getAllBooks())
-                .withRel(BOOKS));
+        addLinks(bookResponse);
         return ResponseEntity
                 .ok()
-                .headers(headers)
+                .eTag(eTag)
                 .body(bookResponse);
     }
 
@@ -108,51 +197,53 @@ public class BookController {
                                                        @RequestHeader HttpHeaders headers) {
         var bookResponse = bookService.getBookByTitle(title);
 
-        bookResponse.add(
-                linkTo(methodOn(BookController.class).getBookById(headers, bookResponse.getId())).withSelfRel());
-        bookResponse.add(linkTo(methodOn(BookController.class).getAllBooks()).withRel(BOOKS));
+        addLinks(bookResponse);
         return ResponseEntity.ok(bookResponse);
     }
 
     /**
      * Retrieves a book by its author.
+     * A request whose If-None-Match still holds the version of the book found gets 304 Not Modified.
      *
-     * @param author the author of the book
-     * @return a ResponseEntity containing the BookResponse
+     * @param author  the author of the book
+     * @param request the request, checked for If-None-Match
+     * @return a ResponseEntity containing the BookResponse, with its version as the ETag
      */
-
     @GetMapping(value = "/author")
     public ResponseEntity<BookResponse> getBookByAuthor(@RequestParam(name = "author") String author,
-                                                        @RequestHeader HttpHeaders headers) {
+                                                        WebRequest request) {
         var bookResponse = bookService.getBookByAuthor(author);
-        bookResponse.add(
-                linkTo(methodOn(BookController.class).getBookById(headers, bookResponse.getId())).withSelfRel());
-        bookResponse.add(linkTo(methodOn(BookController.class).getAllBooks()).withRel(BOOKS));
+        var eTag = ETagUtils.toETag(bookResponse.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        addLinks(bookResponse);
         return ResponseEntity
                 .ok()
-                .headers(headers)
+                .eTag(eTag)
                 .body(bookResponse);
     }
 
     /**
      * Retrieves a book by its ISBN.
+     * The ISBN is resolved to an ID, then the request is answered like {@link #getBookById}: a request whose
+     * If-None-Match still holds the current ETag gets 304 Not Modified without the book being loaded.
      *
-     * @param isbn the ISBN of the book
-     * @return a ResponseEntity containing the BookResponse
+     * @param isbn    the ISBN of the book
+     * @param request the request, checked for If-None-Match
+     * @return a ResponseEntity containing the BookResponse, with its version as the ETag
      */
     @GetMapping(value = "/isbn")
-    public ResponseEntity<BookResponse> getBookByIsbn(@RequestParam(name = "isbn") String isbn,
-                                                      @RequestHeader HttpHeaders headers) {
-        var bookResponse = bookService.getBookByIsbn(isbn);
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getBookById(headers, bookResponse.getId()))
-                .withSelfRel());
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getAllBooks())
-                .withRel(BOOKS));
-
+    public ResponseEntity<BookResponse> getBookByIsbn(@RequestParam(name = "isbn") String isbn, WebRequest request) {
+        var bookId = bookService.getBookIdByIsbn(isbn);
+        var eTag = ETagUtils.toETag(bookService.getBookVersion(bookId));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        var bookResponse = bookService.getBookById(bookId);
+        addLinks(bookResponse);
         return ResponseEntity.ok()
-                .headers(headers)
+                .eTag(eTag)
                 .body(bookResponse);
     }
 
@@ -166,12 +257,7 @@ public class BookController {
     public ResponseEntity<BookResponse> getBookByGenre(@RequestParam(name = "genre") String genre,
                                                        @RequestHeader HttpHeaders headers) {
         var bookResponse = bookService.getBookByIsbn(genre);
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getBookById(headers, bookResponse.getId()))
-                .withSelfRel());
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getAllBooks())
-                .withRel(BOOKS));
+        addLinks(bookResponse);
         return ResponseEntity.ok(bookResponse);
     }
 
@@ -183,7 +269,7 @@ public class BookController {
      * The HTTP status code is 201 (Created) if the operation is successful.
      * The body of the response contains the newly created book.
      * The Location header contains the URI of the newly created book.
-     * The ETag header contains the ISBN of the newly created book.
+     * The ETag header contains the version of the newly created book.
      * @throws URISyntaxException If the URI creation fails.
      */
     // Create a new Book
@@ -194,17 +280,58 @@ public class BookController {
         // Prepare response headers
         HttpHeaders headers = prepareResponseHeaders(newBook, true);
 
-        newBook.add(linkTo(methodOn(BookController.class).getBookById(headers, newBook.getId())).withSelfRel());
-        newBook.add(linkTo(methodOn(BookController.class).getAllBooks()).withRel(BOOKS));
+        addLinks(newBook);
 
-        // Build a created response with URI and ETag
+        // Build a created response with URI; the ETag comes with the headers
         return ResponseEntity
                 .created(new URI("/api/books/" + newBook.getId()))
-                .eTag(newBook.getIsbn())
                 .headers(headers)
                 .body(newBook);
     }
 
+    /**
+     * Streams a publisher feed into the catalog.
+     *
+     * @param contentType {@code text/csv} with a header row, or {@code application/x-ndjson}.
+     * @param body        The feed, read incrementally.
+     * @param librarianId The librarian the books are assigned to, optional.
+     * @param chunkSize   Rows committed per transaction, optional.
+     * @return A ResponseEntity with the counts of imported, duplicate and rejected lines.
+     */
+    @PostMapping(value = "/import", consumes = {BookFeedFormat.TEXT_CSV, BookFeedFormat.APPLICATION_NDJSON})
+    public ResponseEntity<BookImportResponse> importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                          InputStream body,
+                                                          @RequestParam(required = false) Long librarianId,
+                                                          @RequestParam(required = false) Integer chunkSize) {
+        log.info("Importing books from a {} feed", contentType);
+        var response = bookImportService.importBooks(body, BookFeedFormat.fromContentType(contentType),
+                librarianId, chunkSize);
+        return ResponseEntity.ok()
+                .headers(prepareResponseHeaders(null, false))
+                .body(response);
+    }
+
+    /**
+     * Streams the whole catalog, one book per line, without HATEOAS links.
+     *
+     * @param format {@code ndjson} (default) or {@code csv}; the CSV columns can be fed back to the import.
+     * @return A ResponseEntity whose body is written from a database cursor as rows arrive.
+     */
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        BookFeedFormat feedFormat = BookFeedFormat.fromName(format);
+        log.info("Exporting books as {}", feedFormat);
+        HttpHeaders headers = prepareResponseHeaders(null, false);
+        headers.setContentType(feedFormat.mediaType());
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("books." + feedFormat.fileExtension())
+                .build());
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(output -> bookExportService.exportBooks(feedFormat, output));
+    }
+
     /**
      * Endpoint for borrowing a book.
      *
@@ -224,6 +351,49 @@ public class BookController {
                 .ok(response);
     }
 
+    /**
+     * Endpoint for borrowing a basket of books at a checkout desk or kiosk.
+     *
+     * @param request The member, the librarian and the IDs of the books.
+     * @return The outcome of every book; books that could not be borrowed do not fail the others.
+     */
+    @PostMapping("/borrow/batch")
+    public ResponseEntity<BookCirculationResponse> borrowBooks(@Valid @RequestBody BookCirculationRequest request) {
+        var response = bookService.borrowBooks(request);
+        log.info("Batch borrow: {} succeeded, {} failed", response.succeeded(), response.failed());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint for returning a basket of books.
+     *
+     * @param request The member, the librarian and the IDs of the books.
+     * @return The outcome of every book; books that could not be returned do not fail the others.
+     */
+    @PostMapping("/return/batch")
+    public ResponseEntity<BookCirculationResponse> returnBooks(@Valid @RequestBody BookCirculationRequest request) {
+        var response = bookService.returnBooks(request);
+        log.info("Batch return: {} succeeded, {} failed", response.succeeded(), response.failed());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint for adding a physical copy to the stock of a book.
+     *
+     * @param bookId      The ID of the book.
+     * @param copyRequest The barcode and branch of the new copy; the body is optional.
+     * @return Updated {@link BookResponse} with the new stock counters.
+     */
+    @PostMapping("/{bookId}/copies")
+    public ResponseEntity<BookResponse> addCopy(@PathVariable Long bookId,
+                                                @RequestBody(required = false) @Valid BookCopyRequest copyRequest) {
+        var response = bookService.addCopy(bookId, copyRequest);
+        log.info("Book {} now has {} copies", bookId, response.getTotalCopies());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(response);
+    }
+
     /**
      * Endpoint for checking if a book is available.
      *
@@ -237,6 +407,72 @@ public class BookController {
         return ResponseEntity.ok(available);
     }
 
+    /**
+     * Endpoint for placing a hold on a book with no copy on the shelf.
+     *
+     * @param bookId   The ID of the book.
+     * @param memberId The ID of the member joining the queue.
+     * @return The new hold with its place in the queue.
+     */
+    @PostMapping("/{bookId}/holds")
+    public ResponseEntity<BookHoldResponse> placeHold(@PathVariable Long bookId, @RequestParam Long memberId) {
+        var response = bookHoldService.placeHold(bookId, memberId);
+        return ResponseEntity
+                .created(URI.create("/api/books/holds/" + response.holdId()))
+                .body(response);
+    }
+
+    /**
+     * Endpoint for reading a hold and its place in the queue, in place of polling availability.
+     *
+     * @param holdId The ID of the hold.
+     * @return The hold; {@code position} is set while it waits, {@code expiresAt} once a copy is set aside.
+     */
+    @GetMapping("/holds/{holdId}")
+    public ResponseEntity<BookHoldResponse> getHold(@PathVariable Long holdId) {
+        return ResponseEntity.ok(bookHoldService.getHold(holdId));
+    }
+
+    /**
+     * Endpoint for listing the active holds of a member.
+     *
+     * @param memberId The ID of the member.
+     * @return The waiting and ready holds, oldest first.
+     */
+    @GetMapping("/holds")
+    public ResponseEntity<List<BookHoldResponse>> getMemberHolds(@RequestParam Long memberId) {
+        return ResponseEntity.ok(bookHoldService.getMemberHolds(memberId));
+    }
+
+    /**
+     * Endpoint for cancelling a hold.
+     *
+     * @param holdId   The ID of the hold.
+     * @param memberId The ID of the member who placed it.
+     * @return The cancelled hold.
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<BookHoldResponse> cancelHold(@PathVariable Long holdId, @RequestParam Long memberId) {
+        return ResponseEntity.ok(bookHoldService.cancelHold(holdId, memberId));
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of availability changes, in place of polling
+     * {@code /api/books/{bookId}/available}. The current state of every book is sent first, then one
+     * {@value BookAvailabilityFeed#EVENT_NAME} event per change.
+     *
+     * @param bookIds The books to watch.
+     * @return The event stream, or 503 with {@code Retry-After} when the feed is full.
+     */
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(@RequestParam(name = "bookIds") List<Long> bookIds) {
+        return bookAvailabilityFeed.subscribe(bookIds)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .build());
+    }
+
     /**
      * Endpoint for returning a borrowed book.
      *
@@ -260,24 +496,22 @@ public class BookController {
      *
      * @param bookRequest the request body containing the book details
      * @param id          the ID of the book to be updated
+     * @param ifMatch     optional ETag the book must still have; 412 Precondition Failed otherwise
      * @return a ResponseEntity containing the updated BookResponse
      */
     @PutMapping(value = "/update-book/{id}")
     public ResponseEntity<BookResponse> updateExistentBook(@Valid
                                                            @RequestBody BookRequest bookRequest,
-                                                           @PathVariable(name = "id") long id) {
+                                                           @PathVariable(name = "id") long id,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH,
+                                                                   required = false) String ifMatch) {
         log.info("Updating fine with ID: {}", id);
-        var bookResponse = bookService.updateBook(bookRequest, id);
+        var bookResponse = bookService.updateBook(bookRequest, id, ifMatch);
 
         // Prepare response headers
         HttpHeaders headers = prepareResponseHeaders(bookResponse, true);
         // Add HATEOAS links
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getBookById(headers, bookResponse.getId()))
-                .withSelfRel());
-        bookResponse.add(linkTo(methodOn(BookController.class)
-                .getAllBooks())
-                .withRel(BOOKS));
+        addLinks(bookResponse);
 
         return ResponseEntity
                 .ok()
@@ -297,7 +531,7 @@ public class BookController {
         bookService.deleteBook(id);
         // Add HATEOAS link to the list of all fines
         // Create a base URL for listing fines
-        String allFinesUrl = linkTo(methodOn(BookController.class).getAllBooks()).toUri().toString();
+        String allFinesUrl = BOOKS_LINK.expand(LinkTemplate.currentBaseUri());
         // You can include a location header or return the link in the response body if necessary
         return ResponseEntity
                 .noContent()
@@ -305,6 +539,28 @@ public class BookController {
                 .build();
     }
 
+    /**
+     * Adds the {@code self} and {@code books} links to a book.
+     */
+    private static void addLinks(BookResponse bookResponse) {
+        String baseUri = LinkTemplate.currentBaseUri();
+        bookResponse.add(BOOK_LINK.toLink(baseUri, IanaLinkRelations.SELF, bookResponse.getId()));
+        bookResponse.add(BOOKS_LINK.toLink(baseUri, BOOKS_REL));
+    }
+
+    /**
+     * Adds the {@code self} and {@code books} links to every book of a listing. The base URI is resolved once
+     * and the {@code books} link, the same for every row, is shared.
+     */
+    private static void addLinks(List<BookResponse> books) {
+        String baseUri = LinkTemplate.currentBaseUri();
+        Link booksLink = BOOKS_LINK.toLink(baseUri, BOOKS_REL);
+        books.forEach(bookResponse -> {
+            bookResponse.add(BOOK_LINK.toLink(baseUri, IanaLinkRelations.SELF, bookResponse.getId()));
+            bookResponse.add(booksLink);
+        });
+    }
+
     /**
      * Prepares HTTP headers for the response based on the provided admin data and cookie inclusion flag.
      * This method sets standard security headers, CORS headers, and optionally includes custom headers
@@ -352,6 +608,9 @@ public class BookController {
             headers.set(HeaderConstants.X_BOOK_TITLE, bookResponse.getTitle());
             headers.set(HeaderConstants.X_BOOK_AUTHOR, bookResponse.getAuthor());
             headers.set(HeaderConstants.X_BOOK_ISBN, bookResponse.getIsbn());
+            if (bookResponse.getVersion() != null) {
+                headers.setETag(ETagUtils.toETag(bookResponse.getVersion()));
+            }
         }
 
         // Optionally include Set-Cookie header based on context
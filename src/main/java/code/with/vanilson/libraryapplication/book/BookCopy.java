@@ -0,0 +1,51 @@
+package code.with.vanilson.libraryapplication.book;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * BookCopy - one physical item of a {@link Book} title
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Table(name = "book_copies")
+@Entity(name = "BookCopy")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString(exclude = "book")
+@lombok.EqualsAndHashCode(exclude = "book")
+public class BookCopy implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "copy_id", nullable = false, unique = true)
+    private Long copyId;
+
+    @Column(nullable = false, unique = true)
+    private String barcode;
+
+    private String branch;
+
+    // Physical state of the item (AVAILABLE or LOST); loans are tracked on the title counters
+    @Enumerated(EnumType.STRING)
+    @Column(name = "copy_status", nullable = false)
+    private BookStatus status;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    @JsonIgnore
+    private Book book;
+}
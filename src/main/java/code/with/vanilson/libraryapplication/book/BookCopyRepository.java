@@ -0,0 +1,17 @@
+package code.with.vanilson.libraryapplication.book;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * BookCopyRepository
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public interface BookCopyRepository extends JpaRepository<BookCopy, Long> {
+
+    boolean existsBookCopyByBarcode(String barcode);
+}
@@ -0,0 +1,27 @@
+package code.with.vanilson.libraryapplication.book;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * BookCopyRequest
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookCopyRequest {
+    // Generated from the ISBN when omitted
+    @Size(max = 100, message = "The barcode must be no more than 100 characters long")
+    private String barcode;
+
+    @Size(max = 100, message = "The branch must be no more than 100 characters long")
+    private String branch;
+}
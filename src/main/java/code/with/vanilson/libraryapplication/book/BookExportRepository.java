@@ -0,0 +1,54 @@
+package code.with.vanilson.libraryapplication.book;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * BookExportRepository - walks the whole catalog through a forward-only server-side cursor.
+ * <p>
+ * The statement runs with a fetch size, so the driver holds one batch of rows at a time instead of the full result.
+ * PostgreSQL only opens a cursor inside a transaction; outside one it still reads the whole result into memory.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class BookExportRepository {
+
+    private static final String SELECT_BOOKS = "SELECT book_id, title, author, isbn, genre, publisher_name, "
+            + "publisher_year, book_status, total_copies, available_copies, borrow_count "
+            + "FROM books ORDER BY book_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookExportRepository(DataSource dataSource, @Value("${library.export.fetch-size:1000}") int fetchSize) {
+        // Own template so the fetch size does not leak into other queries
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Hands every book to the consumer in ID order, one row at a time. Must run in a transaction.
+     */
+    public void streamBooks(Consumer<BookExportRow> consumer) {
+        jdbcTemplate.query(SELECT_BOOKS, resultSet -> {
+            consumer.accept(new BookExportRow(
+                    resultSet.getLong("book_id"),
+                    resultSet.getString("title"),
+                    resultSet.getString("author"),
+                    resultSet.getString("isbn"),
+                    resultSet.getString("genre"),
+                    resultSet.getString("publisher_name"),
+                    resultSet.getObject("publisher_year", Integer.class),
+                    resultSet.getString("book_status"),
+                    resultSet.getInt("total_copies"),
+                    resultSet.getInt("available_copies"),
+                    resultSet.getLong("borrow_count")));
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package code.with.vanilson.libraryapplication.book;
+
+/**
+ * BookExportRow - one book of the catalog export, read straight from the cursor
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookExportRow(Long id,
+                            String title,
+                            String author,
+                            String isbn,
+                            String genre,
+                            String publisherName,
+                            Integer publisherYear,
+                            String status,
+                            int totalCopies,
+                            int availableCopies,
+                            long borrowCount) {
+}
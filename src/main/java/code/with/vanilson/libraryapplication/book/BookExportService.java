@@ -0,0 +1,135 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.common.utils.StringUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * BookExportService - streams the whole catalog as CSV or NDJSON.
+ * <p>
+ * Rows go from the database cursor to the output one at a time; nothing is collected, so memory does not grow with
+ * the size of the catalog. The first row is flushed at once so clients see bytes immediately, later ones every
+ * fetch-size rows. The CSV columns are the ones the import reads, so an export can be fed back in.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class BookExportService {
+
+    static final String CSV_HEADER = "id,title,author,isbn,genre,publisherName,publisherYear,status,"
+            + "totalCopies,availableCopies,borrowCount";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BookExportRepository bookExportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter rowWriter;
+    private final int flushInterval;
+
+    public BookExportService(BookExportRepository bookExportRepository, PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper, @Value("${library.export.fetch-size:1000}") int flushInterval) {
+        this.bookExportRepository = bookExportRepository;
+        // The cursor only streams inside a transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // The generator is flushed in batches below, not after every row
+        this.rowWriter = objectMapper.writerFor(BookExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushInterval = Math.max(1, flushInterval);
+    }
+
+    /**
+     * Writes every book to the output, in ID order.
+     *
+     * @param format How the books are encoded.
+     * @param output The response body; flushed, not closed.
+     * @throws UncheckedIOException if the client goes away, which also closes the cursor.
+     */
+    public void exportBooks(BookFeedFormat format, OutputStream output) {
+        long started = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        Long rows = transactionTemplate.execute(status -> {
+            try {
+                return format == BookFeedFormat.CSV ? writeCsv(writer) : writeNdjson(writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Book export finished in {} ms: {} {} rows",
+                (System.nanoTime() - started) / 1_000_000, rows, format);
+    }
+
+    private long writeCsv(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long[] rows = {0};
+        bookExportRepository.streamBooks(row -> {
+            try {
+                writer.write(String.valueOf(row.id()));
+                writer.write(',');
+                writer.write(StringUtils.toCsvField(row.title()));
+                writer.write(',');
+                writer.write(StringUtils.toCsvField(row.author()));
+                writer.write(',');
+                writer.write(StringUtils.toCsvField(row.isbn()));
+                writer.write(',');
+                writer.write(StringUtils.toCsvField(row.genre()));
+                writer.write(',');
+                writer.write(StringUtils.toCsvField(row.publisherName()));
+                writer.write(',');
+                writer.write(row.publisherYear() == null ? "" : String.valueOf(row.publisherYear()));
+                writer.write(',');
+                writer.write(StringUtils.toCsvField(row.status()));
+                writer.write(',');
+                writer.write(String.valueOf(row.totalCopies()));
+                writer.write(',');
+                writer.write(String.valueOf(row.availableCopies()));
+                writer.write(',');
+                writer.write(String.valueOf(row.borrowCount()));
+                writer.write('\n');
+                flushIfDue(writer, ++rows[0]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows[0];
+    }
+
+    private long writeNdjson(Writer writer) throws IOException {
+        JsonGenerator generator = rowWriter.createGenerator(writer);
+        // Lines are ended below; the default separator would prefix each of them with a space
+        generator.setRootValueSeparator(null);
+        long[] rows = {0};
+        bookExportRepository.streamBooks(row -> {
+            try {
+                rowWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+                flushIfDue(generator, ++rows[0]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+        return rows[0];
+    }
+
+    private void flushIfDue(Flushable output, long rows) throws IOException {
+        if (rows == 1 || rows % flushInterval == 0) {
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
+import org.springframework.http.MediaType;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+/**
+ * BookFeedFormat - line-oriented formats of the bulk catalog import and export
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum BookFeedFormat {
+    CSV, // header row, then one book per row
+    NDJSON; // one JSON object per line
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    public static BookFeedFormat fromContentType(MediaType contentType) {
+        return contentType != null && contentType.getSubtype().contains("csv") ? CSV : NDJSON;
+    }
+
+    /**
+     * @param name {@code csv} or {@code ndjson}, in any case
+     * @throws ResourceBadRequestException if the name is not a known format
+     */
+    public static BookFeedFormat fromName(String name) {
+        for (BookFeedFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name.strip())) {
+                return format;
+            }
+        }
+        throw new ResourceBadRequestException(
+                MessageFormat.format(MessageProvider.getMessage("library.book.feed.format_invalid"), name));
+    }
+
+    public MediaType mediaType() {
+        return MediaType.parseMediaType(this == CSV ? TEXT_CSV : APPLICATION_NDJSON);
+    }
+
+    public String fileExtension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
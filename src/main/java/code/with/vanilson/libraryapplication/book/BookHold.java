@@ -0,0 +1,57 @@
+package code.with.vanilson.libraryapplication.book;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * BookHold - a member's place in the queue for a title with no copy on the shelf
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Table(name = "book_holds")
+@Entity(name = "BookHold")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class BookHold implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Identity keys are handed out in insert order, so they double as the queue order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hold_id", nullable = false, unique = true)
+    private Long holdId;
+
+    // Plain IDs: holds are read and moved by conditional updates, never navigated
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "hold_status", nullable = false)
+    private HoldStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "ready_at")
+    private LocalDateTime readyAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
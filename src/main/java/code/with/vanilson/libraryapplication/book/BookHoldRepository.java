@@ -0,0 +1,88 @@
+package code.with.vanilson.libraryapplication.book;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BookHoldRepository
+ * <p>
+ * Every state change is a conditional update on the current status, so two transactions can never move the same
+ * hold; the loser sees an update count of {@code 0}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public interface BookHoldRepository extends JpaRepository<BookHold, Long> {
+
+    boolean existsByBookIdAndMemberIdAndStatusIn(Long bookId, Long memberId, Collection<HoldStatus> statuses);
+
+    /**
+     * The head of the queue of a title.
+     */
+    Optional<BookHold> findFirstByBookIdAndStatusOrderByHoldIdAsc(Long bookId, HoldStatus status);
+
+    List<BookHold> findByMemberIdAndStatusInOrderByHoldIdAsc(Long memberId, Collection<HoldStatus> statuses);
+
+    /**
+     * Number of waiting holds queued before the given one; one index range count.
+     */
+    @Query("SELECT COUNT(h) FROM BookHold h "
+            + "WHERE h.bookId = :bookId "
+            + "AND h.status = code.with.vanilson.libraryapplication.book.HoldStatus.WAITING "
+            + "AND h.holdId < :holdId")
+    long countWaitingBefore(@Param("bookId") Long bookId, @Param("holdId") Long holdId);
+
+    @Query("SELECT h FROM BookHold h "
+            + "WHERE h.status = code.with.vanilson.libraryapplication.book.HoldStatus.READY "
+            + "AND h.expiresAt < :now "
+            + "ORDER BY h.holdId ASC")
+    List<BookHold> findExpiredReadyHolds(@Param("now") LocalDateTime now);
+
+    /**
+     * Sets a copy aside for a waiting hold.
+     *
+     * @return {@code 1} if the hold was still waiting, {@code 0} if another transaction moved it first
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookHold h SET "
+            + "h.status = code.with.vanilson.libraryapplication.book.HoldStatus.READY, "
+            + "h.readyAt = :now, "
+            + "h.expiresAt = :expiresAt "
+            + "WHERE h.holdId = :holdId "
+            + "AND h.status = code.with.vanilson.libraryapplication.book.HoldStatus.WAITING")
+    int markReady(@Param("holdId") Long holdId,
+                  @Param("now") LocalDateTime now,
+                  @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Closes the ready hold of a member who is borrowing the copy set aside for them.
+     *
+     * @return {@code 1} if the member had a ready hold on the book, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookHold h SET "
+            + "h.status = code.with.vanilson.libraryapplication.book.HoldStatus.FULFILLED "
+            + "WHERE h.bookId = :bookId "
+            + "AND h.memberId = :memberId "
+            + "AND h.status = code.with.vanilson.libraryapplication.book.HoldStatus.READY")
+    int fulfil(@Param("bookId") Long bookId, @Param("memberId") Long memberId);
+
+    /**
+     * Moves a hold from one status to another.
+     *
+     * @return {@code 1} if the hold was in the expected status, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookHold h SET h.status = :to WHERE h.holdId = :holdId AND h.status = :from")
+    int transition(@Param("holdId") Long holdId, @Param("from") HoldStatus from, @Param("to") HoldStatus to);
+}
@@ -0,0 +1,36 @@
+package code.with.vanilson.libraryapplication.book;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * BookHoldResponse - a hold and, while it waits, its place in the queue
+ *
+ * @param holdId    The ID of the hold.
+ * @param bookId    The ID of the book.
+ * @param memberId  The ID of the member.
+ * @param status    Where the hold is in its lifecycle.
+ * @param position  1-based place in the queue, only while {@link HoldStatus#WAITING}.
+ * @param createdAt When the hold was placed.
+ * @param readyAt   When a copy was set aside for the member.
+ * @param expiresAt Until when the copy set aside is kept.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BookHoldResponse(Long holdId,
+                               Long bookId,
+                               Long memberId,
+                               HoldStatus status,
+                               Long position,
+                               LocalDateTime createdAt,
+                               LocalDateTime readyAt,
+                               LocalDateTime expiresAt) {
+
+    static BookHoldResponse of(BookHold hold, Long position) {
+        return new BookHoldResponse(hold.getHoldId(), hold.getBookId(), hold.getMemberId(), hold.getStatus(),
+                position, hold.getCreatedAt(), hold.getReadyAt(), hold.getExpiresAt());
+    }
+}
@@ -0,0 +1,258 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
+import code.with.vanilson.libraryapplication.member.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BookHoldService - first come, first served holds on titles with no copy on the shelf.
+ * <p>
+ * A returned copy goes to the oldest waiting hold instead of the shelf: the hold becomes {@link HoldStatus#READY}
+ * and the copy is kept for the member for {@code library.holds.pickup-window}. Borrowing it closes the hold;
+ * cancelling or letting it expire passes the copy to the next hold, or back to the shelf.
+ * <p>
+ * Promotion runs in the transaction of the return, after the check-in update has locked the book row, so
+ * simultaneous returns of a title promote one after the other. The hold itself is moved with a conditional update
+ * as well, so a hold cancelled at the same moment is skipped instead of being handed a copy.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class BookHoldService {
+
+    private static final String LIBRARY_HOLD_NOT_FOUND = "library.book.hold.not_found";
+
+    private final BookHoldRepository bookHoldRepository;
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+    private final BookCirculationRepository bookCirculationRepository;
+    private final BookCache bookCache;
+    private final BookAvailabilityFeed bookAvailabilityFeed;
+    private final Duration pickupWindow;
+
+    public BookHoldService(BookHoldRepository bookHoldRepository, BookRepository bookRepository,
+                           MemberRepository memberRepository, BookCirculationRepository bookCirculationRepository,
+                           BookCache bookCache, BookAvailabilityFeed bookAvailabilityFeed,
+                           @Value("${library.holds.pickup-window:P3D}") Duration pickupWindow) {
+        this.bookHoldRepository = bookHoldRepository;
+        this.bookRepository = bookRepository;
+        this.memberRepository = memberRepository;
+        this.bookCirculationRepository = bookCirculationRepository;
+        this.bookCache = bookCache;
+        this.bookAvailabilityFeed = bookAvailabilityFeed;
+        this.pickupWindow = pickupWindow;
+    }
+
+    /**
+     * Puts a member at the end of the queue of a book.
+     * The book row is locked first, so no return of the same title can slip between the availability check and
+     * the insert and put its copy on the shelf while this member waits.
+     *
+     * @param bookId   The ID of the book.
+     * @param memberId The ID of the member.
+     * @return The new hold with its place in the queue.
+     * @throws ResourceNotFoundException   if the book or member is not found.
+     * @throws ResourceBadRequestException if a copy is on the shelf.
+     * @throws ResourceConflictException   if the member already has an active hold on the book or has it on loan.
+     */
+    @Transactional
+    public BookHoldResponse placeHold(Long bookId, Long memberId) {
+        if (bookId == null || bookId <= 0) {
+            throw resourceBadRequestException("library.book.bad_request", bookId);
+        }
+        if (memberId == null || !memberRepository.existsById(memberId)) {
+            throw resourceNotFoundException("library.members.not_found", memberId);
+        }
+        Book book = bookRepository.findLockedByBookId(bookId)
+                .orElseThrow(() -> resourceNotFoundException("library.book.not_found", bookId));
+        if (book.getAvailableCopies() > 0) {
+            throw resourceBadRequestException("library.book.hold.copy_available", book.getTitle());
+        }
+        if (bookHoldRepository.existsByBookIdAndMemberIdAndStatusIn(bookId, memberId, HoldStatus.ACTIVE)) {
+            throw resourceConflictException("library.book.hold.already_exists", bookId, memberId);
+        }
+        if (!bookCirculationRepository.findBorrowedBookIds(memberId, List.of(bookId)).isEmpty()) {
+            throw resourceConflictException("library.book.hold.already_borrowed", bookId, memberId);
+        }
+
+        BookHold hold = bookHoldRepository.save(BookHold.builder()
+                .bookId(bookId)
+                .memberId(memberId)
+                .status(HoldStatus.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build());
+        BookHoldResponse response = toResponse(hold);
+        log.info("Member ID {} placed hold {} on book ID {} at position {}",
+                memberId, hold.getHoldId(), bookId, response.position());
+        return response;
+    }
+
+    /**
+     * Reads a hold; while it waits, its position is one index range count, so clients can poll this instead of
+     * the availability of the book.
+     *
+     * @param holdId The ID of the hold.
+     * @return The hold with its place in the queue.
+     * @throws ResourceNotFoundException if the hold is not found.
+     */
+    @Transactional(readOnly = true)
+    public BookHoldResponse getHold(Long holdId) {
+        return toResponse(findHoldById(holdId));
+    }
+
+    /**
+     * @param memberId The ID of the member.
+     * @return The waiting and ready holds of the member, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<BookHoldResponse> getMemberHolds(Long memberId) {
+        return bookHoldRepository.findByMemberIdAndStatusInOrderByHoldIdAsc(memberId, HoldStatus.ACTIVE).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * Cancels a hold. A copy already set aside for it goes to the next hold in the queue, or back to the shelf.
+     *
+     * @param holdId   The ID of the hold.
+     * @param memberId The ID of the member who placed it.
+     * @return The cancelled hold.
+     * @throws ResourceNotFoundException   if the hold is not found.
+     * @throws ResourceBadRequestException if the hold belongs to another member or is no longer active.
+     */
+    @Transactional
+    public BookHoldResponse cancelHold(Long holdId, Long memberId) {
+        BookHold hold = findHoldById(holdId);
+        if (!hold.getMemberId().equals(memberId)) {
+            throw resourceBadRequestException("library.book.hold.not_cancellable", holdId, memberId);
+        }
+        if (bookHoldRepository.transition(holdId, HoldStatus.READY, HoldStatus.CANCELLED) == 1) {
+            releaseReservedCopy(hold.getBookId());
+        } else if (bookHoldRepository.transition(holdId, HoldStatus.WAITING, HoldStatus.CANCELLED) == 0) {
+            throw resourceBadRequestException("library.book.hold.not_cancellable", holdId, memberId);
+        }
+        log.info("Member ID {} cancelled hold {} on book ID {}", memberId, holdId, hold.getBookId());
+        return toResponse(findHoldById(holdId));
+    }
+
+    /**
+     * Called by {@link BookService} in its transaction when a copy reaches the shelf, after a return or when
+     * stock is added. Sets the copy aside for the oldest waiting hold, if there is one.
+     *
+     * @param bookId The ID of the book.
+     * @return {@code true} if a hold was promoted and the copy taken off the shelf again.
+     */
+    public boolean promoteNextHold(Long bookId) {
+        if (claimNextHold(bookId).isEmpty()) {
+            return false;
+        }
+        bookRepository.reserveCopy(bookId);
+        bookCache.evict(bookId);
+        return true;
+    }
+
+    /**
+     * Called by {@link BookService} in its transaction before lending a copy.
+     *
+     * @return {@code true} if a copy was set aside for the member, whose hold is now fulfilled.
+     */
+    public boolean fulfilHold(Long bookId, Long memberId) {
+        return bookHoldRepository.fulfil(bookId, memberId) == 1;
+    }
+
+    /**
+     * Expires ready holds whose copy was not picked up in time and passes each copy on.
+     */
+    @Scheduled(fixedDelayString = "${library.holds.expiry-sweep:PT5M}")
+    @Transactional
+    public void expireReadyHolds() {
+        for (BookHold hold : bookHoldRepository.findExpiredReadyHolds(LocalDateTime.now())) {
+            if (bookHoldRepository.transition(hold.getHoldId(), HoldStatus.READY, HoldStatus.EXPIRED) == 1) {
+                log.info("Hold {} of member ID {} on book ID {} expired",
+                        hold.getHoldId(), hold.getMemberId(), hold.getBookId());
+                releaseReservedCopy(hold.getBookId());
+            }
+        }
+    }
+
+    // Helper Methods
+
+    /**
+     * Moves the head of the queue to {@link HoldStatus#READY}. A head that another transaction moved in the
+     * meantime fails the conditional update and the next one is tried.
+     *
+     * @return The hold that was promoted, if anyone was waiting.
+     */
+    private Optional<BookHold> claimNextHold(Long bookId) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<BookHold> head = bookHoldRepository.findFirstByBookIdAndStatusOrderByHoldIdAsc(bookId,
+                HoldStatus.WAITING);
+        while (head.isPresent()) {
+            BookHold hold = head.get();
+            if (bookHoldRepository.markReady(hold.getHoldId(), now, now.plus(pickupWindow)) == 1) {
+                log.info("Hold {} of member ID {} on book ID {} is ready for pickup",
+                        hold.getHoldId(), hold.getMemberId(), bookId);
+                return head;
+            }
+            head = bookHoldRepository.findFirstByBookIdAndStatusOrderByHoldIdAsc(bookId, HoldStatus.WAITING);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A copy set aside for a hold is free again: it goes to the next hold, or back on the shelf.
+     */
+    private void releaseReservedCopy(Long bookId) {
+        if (claimNextHold(bookId).isEmpty()) {
+            bookRepository.releaseReservedCopy(bookId);
+            bookCache.evict(bookId);
+            bookAvailabilityFeed.publish(bookId);
+        }
+    }
+
+    private BookHoldResponse toResponse(BookHold hold) {
+        Long position = hold.getStatus() == HoldStatus.WAITING
+                ? bookHoldRepository.countWaitingBefore(hold.getBookId(), hold.getHoldId()) + 1
+                : null;
+        return BookHoldResponse.of(hold, position);
+    }
+
+    private BookHold findHoldById(Long holdId) {
+        return bookHoldRepository.findById(holdId)
+                .orElseThrow(() -> resourceNotFoundException(LIBRARY_HOLD_NOT_FOUND, holdId));
+    }
+
+    private ResourceNotFoundException resourceNotFoundException(String messageKey, Object... args) {
+        String message = MessageFormat.format(MessageProvider.getMessage(messageKey), args);
+        log.error(message);
+        return new ResourceNotFoundException(message);
+    }
+
+    private ResourceBadRequestException resourceBadRequestException(String messageKey, Object... args) {
+        String message = MessageFormat.format(MessageProvider.getMessage(messageKey), args);
+        log.error(message);
+        return new ResourceBadRequestException(message);
+    }
+
+    private ResourceConflictException resourceConflictException(String messageKey, Object... args) {
+        String message = MessageFormat.format(MessageProvider.getMessage(messageKey), args);
+        log.error(message);
+        return new ResourceConflictException(message);
+    }
+}
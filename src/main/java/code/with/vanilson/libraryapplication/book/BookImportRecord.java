@@ -0,0 +1,48 @@
+package code.with.vanilson.libraryapplication.book;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * BookImportRecord - one title of a bulk catalog import, read from a CSV row or an NDJSON line
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BookImportRecord {
+    @NotBlank(message = "The book title should not be blank")
+    @Size(max = 255, message = "The book title must be between 1 and 255 characters")
+    private String title;
+
+    @NotBlank(message = "The book author should not be blank")
+    @Size(max = 255, message = "The book author must be between 1 and 255 characters")
+    private String author;
+
+    @NotNull(message = "The ISBN must not be null")
+    @Pattern(regexp = "^(97[89]\\d{9}[\\dX]|\\d{9}[\\dX])$",
+            message = "The ISBN must be a valid ISBN-10 or ISBN-13 format")
+    private String isbn;
+
+    @Size(max = 100, message = "The genre must be no more than 100 characters long")
+    private String genre;
+
+    @Size(max = 100, message = "The publisher name must be no more than 100 characters long")
+    private String publisherName;
+
+    @Positive(message = "The publisher year must be a positive integer")
+    private Integer publisherYear;
+
+    @Positive(message = "The number of copies must be a positive integer")
+    @Max(value = 1000, message = "The number of copies must be at most 1000")
+    private Integer copies; // defaults to one copy
+}
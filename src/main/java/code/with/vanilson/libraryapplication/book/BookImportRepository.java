@@ -0,0 +1,87 @@
+package code.with.vanilson.libraryapplication.book;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * BookImportRepository - set-based statements for the bulk catalog import.
+ * <p>
+ * Books use IDENTITY keys, which keep Hibernate from batching inserts, so rows are written with JDBC batches
+ * instead and the generated IDs are read back per chunk with one query.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class BookImportRepository {
+
+    private static final String INSERT_BOOK = "INSERT INTO books "
+            + "(title, author, isbn, genre, publisher_name, publisher_year, book_status, "
+            + "total_copies, available_copies, last_copy_number, borrow_count, librarian_id, version) "
+            + "VALUES (:title, :author, :isbn, :genre, :publisherName, :publisherYear, 'AVAILABLE', "
+            + ":copies, :copies, :copies, 0, :librarianId, 0)";
+
+    private static final String INSERT_COPY = "INSERT INTO book_copies (book_id, barcode, copy_status) "
+            + "VALUES (:bookId, :barcode, 'AVAILABLE')";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BookImportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Bulk form of {@link BookRepository#existsBooksByIsbn}.
+     *
+     * @return the ISBNs already in the catalog
+     */
+    public Set<String> findExistingIsbns(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT isbn FROM books WHERE isbn IN (:isbns)",
+                new MapSqlParameterSource("isbns", isbns), String.class));
+    }
+
+    public void insertBooks(List<BookImportRecord> records, Long librarianId) {
+        SqlParameterSource[] parameters = records.stream()
+                .map(record -> new MapSqlParameterSource()
+                        .addValue("title", record.getTitle())
+                        .addValue("author", record.getAuthor())
+                        .addValue("isbn", record.getIsbn())
+                        .addValue("genre", record.getGenre())
+                        .addValue("publisherName", record.getPublisherName())
+                        .addValue("publisherYear", record.getPublisherYear())
+                        .addValue("copies", record.getCopies())
+                        .addValue("librarianId", librarianId))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_BOOK, parameters);
+    }
+
+    public Map<String, Long> findBookIdsByIsbn(Collection<String> isbns) {
+        Map<String, Long> bookIds = new HashMap<>();
+        jdbcTemplate.query("SELECT book_id, isbn FROM books WHERE isbn IN (:isbns)",
+                new MapSqlParameterSource("isbns", isbns),
+                resultSet -> {
+                    bookIds.put(resultSet.getString("isbn"), resultSet.getLong("book_id"));
+                });
+        return bookIds;
+    }
+
+    /**
+     * @param barcodesByBookId the barcodes of the copies to create, per book
+     */
+    public void insertCopies(Map<Long, List<String>> barcodesByBookId) {
+        SqlParameterSource[] parameters = barcodesByBookId.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(barcode -> new MapSqlParameterSource("bookId", entry.getKey())
+                                .addValue("barcode", barcode)))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_COPY, parameters);
+    }
+}
@@ -0,0 +1,23 @@
+package code.with.vanilson.libraryapplication.book;
+
+import java.util.List;
+
+/**
+ * BookImportResponse - summary of a bulk catalog import
+ *
+ * @param processed  Data lines read from the body.
+ * @param imported   Books inserted.
+ * @param duplicates Lines skipped because the ISBN was already in the catalog or earlier in the same chunk.
+ * @param rejected   Lines that could not be parsed or failed validation.
+ * @param chunks     Committed chunks.
+ * @param rejects    The first rejected lines with the reason; capped, see {@code rejected} for the total.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookImportResponse(long processed, long imported, long duplicates, long rejected, int chunks,
+                                 List<Reject> rejects) {
+
+    public record Reject(long line, String reason) {
+    }
+}
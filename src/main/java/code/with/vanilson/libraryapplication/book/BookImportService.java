@@ -0,0 +1,298 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
+import code.with.vanilson.libraryapplication.common.utils.StringUtils;
+import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * BookImportService - streams a publisher feed into the catalog.
+ * <p>
+ * The body is read line by line and only one chunk of parsed rows is held at a time, so memory does not grow with
+ * the size of the feed. Each chunk is deduplicated against the catalog with one query, written with JDBC batches
+ * and committed on its own; later chunks see earlier ones through the ISBN check. A bad line is reported and
+ * skipped, it never fails the import.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class BookImportService {
+
+    static final int MAX_CHUNK_SIZE = 10_000;
+    static final int MAX_REPORTED_REJECTS = 100;
+
+    private final BookImportRepository bookImportRepository;
+    private final LibrarianRepository librarianRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int defaultChunkSize;
+
+    public BookImportService(BookImportRepository bookImportRepository, LibrarianRepository librarianRepository,
+                             BookSearchIndex bookSearchIndex, BookSuggestIndex bookSuggestIndex,
+                             TransactionTemplate transactionTemplate, ObjectMapper objectMapper, Validator validator,
+                             @Value("${library.import.chunk-size:1000}") int defaultChunkSize) {
+        this.bookImportRepository = bookImportRepository;
+        this.librarianRepository = librarianRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.bookSuggestIndex = bookSuggestIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * Running totals of one import.
+     */
+    private static final class Progress {
+        private long processed;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+        private int chunks;
+        private final List<BookImportResponse.Reject> rejects = new ArrayList<>();
+
+        private void reject(long line, String reason) {
+            rejected++;
+            if (rejects.size() < MAX_REPORTED_REJECTS) {
+                rejects.add(new BookImportResponse.Reject(line, reason));
+            }
+        }
+
+        private BookImportResponse toResponse() {
+            return new BookImportResponse(processed, imported, duplicates, rejected, chunks, List.copyOf(rejects));
+        }
+    }
+
+    private record Row(long line, BookImportRecord record) {
+    }
+
+    /**
+     * Imports books from a CSV or NDJSON body.
+     *
+     * @param body        The request body, read once and not closed.
+     * @param format      How the body is encoded.
+     * @param librarianId The librarian the books are assigned to, optional.
+     * @param chunkSize   Rows per transaction; defaults to {@code library.import.chunk-size}, capped at
+     *                    {@value #MAX_CHUNK_SIZE}.
+     * @return Counts of imported, duplicate and rejected lines, with the first rejects.
+     * @throws ResourceNotFoundException   if the librarian is not found.
+     * @throws ResourceBadRequestException if the body cannot be read or a CSV body has no header.
+     */
+    public BookImportResponse importBooks(InputStream body, BookFeedFormat format, Long librarianId,
+                                          Integer chunkSize) {
+        if (librarianId != null && !librarianRepository.existsById(librarianId)) {
+            throw new ResourceNotFoundException(
+                    MessageFormat.format(MessageProvider.getMessage("library.librarian.not_found"), librarianId));
+        }
+        int size = chunkSize == null || chunkSize <= 0 ? defaultChunkSize : Math.min(chunkSize, MAX_CHUNK_SIZE);
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<String> header = format == BookFeedFormat.CSV ? readHeader(reader) : List.of();
+            long line = header.isEmpty() ? 0 : 1;
+            List<Row> chunk = new ArrayList<>(size);
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                progress.processed++;
+                Row row = parse(line, text, format, header, progress);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == size) {
+                    writeChunk(chunk, librarianId, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, librarianId, progress);
+            }
+        } catch (IOException e) {
+            log.error("Book import aborted after {} lines", progress.processed, e);
+            throw new ResourceBadRequestException(MessageProvider.getMessage("library.book.import.unreadable"));
+        }
+
+        log.info("Book import finished in {} ms: {} lines, {} imported, {} duplicates, {} rejected",
+                (System.nanoTime() - started) / 1_000_000, progress.processed, progress.imported,
+                progress.duplicates, progress.rejected);
+        return progress.toResponse();
+    }
+
+    private List<String> readHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new ResourceBadRequestException(MessageProvider.getMessage("library.book.import.header_required"));
+        }
+        // Accepts title, publisherName, publisher_name, Publisher-Name...
+        return StringUtils.splitCsvLine(header.strip()).stream()
+                .map(column -> column.strip().replaceAll("[_\\-\\s]", "").toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    private Row parse(long line, String text, BookFeedFormat format, List<String> header, Progress progress) {
+        BookImportRecord record;
+        try {
+            record = format == BookFeedFormat.CSV
+                    ? fromCsv(StringUtils.splitCsvLine(text), header)
+                    : objectMapper.readValue(text, BookImportRecord.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            progress.reject(line, e.getMessage());
+            return null;
+        }
+        if (record.getCopies() == null) {
+            record.setCopies(1);
+        }
+        Set<ConstraintViolation<BookImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            progress.reject(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return new Row(line, record);
+    }
+
+    private static BookImportRecord fromCsv(List<String> fields, List<String> header) {
+        if (fields.size() != header.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + header.size() + " columns but found " + fields.size());
+        }
+        BookImportRecord record = new BookImportRecord();
+        for (int i = 0; i < header.size(); i++) {
+            String value = fields.get(i).strip();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (header.get(i)) {
+                case "title" -> record.setTitle(value);
+                case "author" -> record.setAuthor(value);
+                case "isbn" -> record.setIsbn(value);
+                case "genre" -> record.setGenre(value);
+                case "publishername", "publisher" -> record.setPublisherName(value);
+                case "publisheryear", "year" -> record.setPublisherYear(parseNumber(value, "publisher year"));
+                case "copies" -> record.setCopies(parseNumber(value, "copies"));
+                default -> {
+                    // Unknown columns are ignored, like unknown NDJSON properties
+                }
+            }
+        }
+        return record;
+    }
+
+    private static Integer parseNumber(String value, String column) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    /**
+     * Writes one chunk in its own transaction. When a concurrent writer inserts one of the ISBNs between the check
+     * and the insert, the chunk is rolled back and retried once against the new state of the catalog.
+     */
+    private void writeChunk(List<Row> chunk, Long librarianId, Progress progress) {
+        // Keeps the first row of every ISBN in the chunk
+        Map<String, Row> rows = new LinkedHashMap<>();
+        chunk.forEach(row -> rows.merge(row.record().getIsbn(), row, (first, second) -> first));
+        progress.duplicates += chunk.size() - rows.size();
+
+        int inserted;
+        try {
+            inserted = insertNew(rows, librarianId);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Chunk {} of the book import collided with a concurrent insert, retrying", progress.chunks + 1);
+            inserted = insertNew(rows, librarianId);
+        }
+        progress.duplicates += rows.size() - inserted;
+        progress.imported += inserted;
+        progress.chunks++;
+        log.info("Book import chunk {} committed: {} inserted, {} imported so far of {} lines",
+                progress.chunks, inserted, progress.imported, progress.processed);
+    }
+
+    private int insertNew(Map<String, Row> rows, Long librarianId) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            Set<String> existing = bookImportRepository.findExistingIsbns(rows.keySet());
+            List<BookImportRecord> records = rows.values().stream()
+                    .map(Row::record)
+                    .filter(record -> !existing.contains(record.getIsbn()))
+                    .toList();
+            if (records.isEmpty()) {
+                return 0;
+            }
+            bookImportRepository.insertBooks(records, librarianId);
+
+            Map<String, Long> bookIds = bookImportRepository.findBookIdsByIsbn(
+                    records.stream().map(BookImportRecord::getIsbn).toList());
+            Map<Long, List<String>> barcodes = new LinkedHashMap<>();
+            for (BookImportRecord record : records) {
+                Long bookId = bookIds.get(record.getIsbn());
+                barcodes.put(bookId, barcodes(record));
+                Book book = toBook(bookId, record);
+                bookSearchIndex.index(book);
+                bookSuggestIndex.index(book);
+            }
+            bookImportRepository.insertCopies(barcodes);
+            return records.size();
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    /**
+     * Same barcodes as {@link BookService#createBook} generates.
+     */
+    private static List<String> barcodes(BookImportRecord record) {
+        List<String> barcodes = new ArrayList<>(record.getCopies());
+        for (int copy = 1; copy <= record.getCopies(); copy++) {
+            barcodes.add(String.format("%s-%03d", record.getIsbn(), copy));
+        }
+        return barcodes;
+    }
+
+    private static Book toBook(Long bookId, BookImportRecord record) {
+        return Book.builder()
+                .bookId(bookId)
+                .title(record.getTitle())
+                .author(record.getAuthor())
+                .isbn(record.getIsbn())
+                .genre(record.getGenre())
+                .publisherName(record.getPublisherName())
+                .publisherYear(record.getPublisherYear())
+                .status(BookStatus.AVAILABLE)
+                .totalCopies(record.getCopies())
+                .availableCopies(record.getCopies())
+                .build();
+    }
+}
@@ -34,6 +34,7 @@ public class BookMapper {
         validateNotNull(librarian, "library.librarian.cannot_be_null");
         validateNotNull(members, "library.member.cannot_be_null");
 
+        int copies = request.getCopies() == null ? 1 : request.getCopies();
         Book book = Book.builder()
                 .title(request.getTitle())
                 .author(request.getAuthor())
@@ -42,6 +43,8 @@ public class BookMapper {
                 .publisherName(request.getPublisherName())
                 .publisherYear(request.getPublisherYear())
                 .status(request.getStatus())
+                .totalCopies(copies)
+                .availableCopies(BookStatus.AVAILABLE.equals(request.getStatus()) ? copies : 0)
                 .librarian(librarian)
                 .members(members) // Add members to book
                 .build();
@@ -67,8 +70,11 @@ public class BookMapper {
                 .publisherName(book.getPublisherName())
                 .publisherYear(book.getPublisherYear())
                 .status(book.getStatus())
+                .totalCopies(book.getTotalCopies())
+                .availableCopies(book.getAvailableCopies())
                 .librarian(LibrarianMapper.mapToLibrarianResponse(book.getLibrarian()))
                 .members(mapToMemberResponse(book.getMembers()))
+                .version(book.getVersion())
                 .build();
     }
 
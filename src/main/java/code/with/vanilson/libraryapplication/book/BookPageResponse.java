@@ -0,0 +1,24 @@
+package code.with.vanilson.libraryapplication.book;
+
+import lombok.*;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * BookPageResponse - one keyset page of the catalog
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@Getter
+@Setter
+public class BookPageResponse extends RepresentationModel<BookPageResponse> {
+    private List<BookResponse> content;
+    private int size;
+    private Long nextCursor; // null when this is the last page
+    private boolean hasNext;
+}
@@ -1,8 +1,18 @@
 package code.with.vanilson.libraryapplication.book;
 
+import code.with.vanilson.libraryapplication.librarian.Librarian;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,14 +25,250 @@ import java.util.Optional;
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
 
+    @EntityGraph(Book.CATALOG_GRAPH)
     Optional<Book> findBookByAuthor(String author);
 
+    @EntityGraph(Book.CATALOG_GRAPH)
     Optional<Book> findBookByIsbn(String isbn);
 
+    @EntityGraph(Book.CATALOG_GRAPH)
     Optional<Book> findBookByTitle(String title);
 
+    @EntityGraph(Book.CATALOG_GRAPH)
     Optional<Book> findBookByGenre(String genre);
 
     public boolean existsBooksByIsbn(String isbn);
 
+    @Query("SELECT b.bookId FROM Book b WHERE b.isbn = :isbn")
+    Optional<Long> findBookIdByIsbn(@Param("isbn") String isbn);
+
+    /**
+     * The version alone, so a conditional GET can be answered without loading the book.
+     */
+    @Query("SELECT b.version FROM Book b WHERE b.bookId = :bookId")
+    Optional<Long> findVersionByBookId(@Param("bookId") Long bookId);
+
+    @EntityGraph(Book.CATALOG_GRAPH)
+    Optional<Book> findWithAssociationsByBookId(Long bookId);
+
+    /**
+     * Reads the whole catalog as read-only projections, outside the persistence context; the librarian is left
+     * as an ID and the borrowers are read by {@link #findAllBorrowerViews()}.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.book.BookView("
+            + "b.bookId, b.title, b.author, b.isbn, b.genre, b.publisherName, b.publisherYear, b.status, "
+            + "b.totalCopies, b.availableCopies, b.version, l.id) "
+            + "FROM Book b LEFT JOIN b.librarian l ORDER BY b.bookId")
+    List<BookView> findAllViews();
+
+    /**
+     * Keyset page of the catalog as read-only projections, with the filters of
+     * {@link #findBooksAfter(long, BookStatus, String, Pageable)}.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.book.BookView("
+            + "b.bookId, b.title, b.author, b.isbn, b.genre, b.publisherName, b.publisherYear, b.status, "
+            + "b.totalCopies, b.availableCopies, b.version, l.id) "
+            + "FROM Book b LEFT JOIN b.librarian l "
+            + "WHERE b.bookId > :cursor "
+            + "AND (:status IS NULL OR b.status = :status) "
+            + "AND (:genre IS NULL OR b.genre = :genre) "
+            + "ORDER BY b.bookId ASC")
+    List<BookView> findBookViewsAfter(@Param("cursor") long cursor,
+                                      @Param("status") BookStatus status,
+                                      @Param("genre") String genre,
+                                      Pageable pageable);
+
+    /**
+     * Reads the borrowers of every book as read-only projections, one row per loan.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.book.BookBorrowerView("
+            + "b.bookId, m.id, m.name, m.email, m.address, m.contact, m.membershipStatus, ml.id, ma.id) "
+            + "FROM Book b JOIN b.members m LEFT JOIN m.librarian ml LEFT JOIN m.admin ma")
+    List<BookBorrowerView> findAllBorrowerViews();
+
+    /**
+     * Reads the borrowers of the given books as read-only projections, one row per loan.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.book.BookBorrowerView("
+            + "b.bookId, m.id, m.name, m.email, m.address, m.contact, m.membershipStatus, ml.id, ma.id) "
+            + "FROM Book b JOIN b.members m LEFT JOIN m.librarian ml LEFT JOIN m.admin ma "
+            + "WHERE b.bookId IN :bookIds")
+    List<BookBorrowerView> findBorrowerViews(@Param("bookIds") Collection<Long> bookIds);
+
+    /**
+     * Keyset (seek) query over the catalog ordered by {@code book_id}. Only the rows after {@code cursor}
+     * are read, so the cost of a page does not depend on how deep into the catalog the client is.
+     * The page size is taken from {@code pageable}; no count query is issued.
+     *
+     * @param cursor   the last book id seen by the client ({@code 0} for the first page)
+     * @param status   optional status filter, ignored when {@code null}
+     * @param genre    optional genre filter, ignored when {@code null}
+     * @param pageable carries the maximum number of rows to return
+     * @return the books following the cursor in ascending id order
+     */
+    @EntityGraph(Book.LIBRARIAN_GRAPH)
+    @Query("SELECT b FROM Book b "
+            + "WHERE b.bookId > :cursor "
+            + "AND (:status IS NULL OR b.status = :status) "
+            + "AND (:genre IS NULL OR b.genre = :genre) "
+            + "ORDER BY b.bookId ASC")
+    List<Book> findBooksAfter(@Param("cursor") long cursor,
+                              @Param("status") BookStatus status,
+                              @Param("genre") String genre,
+                              Pageable pageable);
+
+    /**
+     * Reads the per-title availability counter without loading the entity.
+     */
+    @Query("SELECT b.availableCopies FROM Book b WHERE b.bookId = :bookId")
+    Optional<Integer> findAvailableCopies(@Param("bookId") Long bookId);
+
+    /**
+     * Reads the shelf state of several books without loading the entities.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.book.BookAvailability("
+            + "b.bookId, b.status, b.availableCopies, b.totalCopies) "
+            + "FROM Book b WHERE b.bookId IN :bookIds")
+    List<BookAvailability> findAvailability(@Param("bookIds") Collection<Long> bookIds);
+
+    /**
+     * Atomically takes one copy of an available title off the shelf. The title becomes
+     * {@link BookStatus#BORROWED} when its last copy goes out. The check and the write happen in one statement,
+     * so concurrent callers can never check out more copies than exist.
+     * The status is assigned before the counter so the CASE sees the pre-update count on every database.
+     *
+     * @return {@code 1} if a copy was checked out, {@code 0} if the book is missing or has no copy available
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET "
+            + "b.version = b.version + 1, "
+            + "b.status = CASE WHEN b.availableCopies > 1 "
+            + "THEN code.with.vanilson.libraryapplication.book.BookStatus.AVAILABLE "
+            + "ELSE code.with.vanilson.libraryapplication.book.BookStatus.BORROWED END, "
+            + "b.availableCopies = b.availableCopies - 1, "
+            + "b.borrowCount = b.borrowCount + 1, "
+            + "b.librarian = :librarian "
+            + "WHERE b.bookId = :bookId "
+            + "AND b.status = code.with.vanilson.libraryapplication.book.BookStatus.AVAILABLE "
+            + "AND b.availableCopies > 0")
+    int checkoutCopy(@Param("bookId") Long bookId, @Param("librarian") Librarian librarian);
+
+    /**
+     * Atomically puts one copy back on the shelf, but only when the given member is one of the borrowers.
+     * The row stays locked until the transaction ends, which serializes hold promotion for the title.
+     *
+     * @return {@code 1} if the copy was returned, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET "
+            + "b.version = b.version + 1, "
+            + "b.status = CASE WHEN b.status IN (code.with.vanilson.libraryapplication.book.BookStatus.BORROWED, "
+            + "code.with.vanilson.libraryapplication.book.BookStatus.RESERVED) "
+            + "THEN code.with.vanilson.libraryapplication.book.BookStatus.AVAILABLE ELSE b.status END, "
+            + "b.availableCopies = b.availableCopies + 1, "
+            + "b.librarian = :librarian "
+            + "WHERE b.bookId = :bookId "
+            + "AND b.availableCopies < b.totalCopies "
+            + "AND EXISTS (SELECT 1 FROM Member m JOIN m.borrowedBooks bb WHERE m.id = :memberId AND bb.bookId = :bookId)")
+    int checkinCopy(@Param("bookId") Long bookId,
+                    @Param("memberId") Long memberId,
+                    @Param("librarian") Librarian librarian);
+
+    /**
+     * Atomically adds {@code count} copies to the stock of a title.
+     *
+     * @return {@code 1} if the title exists, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET "
+            + "b.version = b.version + 1, "
+            + "b.status = CASE WHEN b.status IN (code.with.vanilson.libraryapplication.book.BookStatus.BORROWED, "
+            + "code.with.vanilson.libraryapplication.book.BookStatus.RESERVED) "
+            + "THEN code.with.vanilson.libraryapplication.book.BookStatus.AVAILABLE ELSE b.status END, "
+            + "b.totalCopies = b.totalCopies + :count, "
+            + "b.availableCopies = b.availableCopies + :count "
+            + "WHERE b.bookId = :bookId")
+    int addCopies(@Param("bookId") Long bookId, @Param("count") int count);
+
+    /**
+     * Takes the next number for a generated copy barcode. The row stays locked until the transaction ends, so two
+     * copies added at once never get the same number; read it back with {@link #findLastCopyNumberByBookId}.
+     *
+     * @return {@code 1} if the title exists, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET b.lastCopyNumber = b.lastCopyNumber + 1 WHERE b.bookId = :bookId")
+    int incrementLastCopyNumber(@Param("bookId") Long bookId);
+
+    @Query("SELECT b.lastCopyNumber FROM Book b WHERE b.bookId = :bookId")
+    int findLastCopyNumberByBookId(@Param("bookId") Long bookId);
+
+    /**
+     * Loads a book and locks its row until the transaction ends. Placing a hold takes this lock so it cannot
+     * interleave with a return of the same title deciding whether anyone is waiting.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.bookId = :bookId")
+    Optional<Book> findLockedByBookId(@Param("bookId") Long bookId);
+
+    /**
+     * Takes a copy that just came back off the shelf again and sets it aside for a hold. The title becomes
+     * {@link BookStatus#RESERVED} when no copy is left on the shelf.
+     *
+     * @return {@code 1} if a copy was set aside, {@code 0} if none is on the shelf
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET "
+            + "b.version = b.version + 1, "
+            + "b.status = CASE WHEN b.availableCopies > 1 THEN b.status "
+            + "ELSE code.with.vanilson.libraryapplication.book.BookStatus.RESERVED END, "
+            + "b.availableCopies = b.availableCopies - 1 "
+            + "WHERE b.bookId = :bookId AND b.availableCopies > 0")
+    int reserveCopy(@Param("bookId") Long bookId);
+
+    /**
+     * Puts a copy that was set aside for a hold back on the shelf, once nobody else is waiting for it.
+     *
+     * @return {@code 1} if the title exists, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET "
+            + "b.version = b.version + 1, "
+            + "b.status = CASE WHEN b.status IN (code.with.vanilson.libraryapplication.book.BookStatus.BORROWED, "
+            + "code.with.vanilson.libraryapplication.book.BookStatus.RESERVED) "
+            + "THEN code.with.vanilson.libraryapplication.book.BookStatus.AVAILABLE ELSE b.status END, "
+            + "b.availableCopies = b.availableCopies + 1 "
+            + "WHERE b.bookId = :bookId")
+    int releaseReservedCopy(@Param("bookId") Long bookId);
+
+    /**
+     * Lends the copy set aside for a hold. The shelf counter is not touched, it was decremented when the copy was
+     * reserved; the status only reflects what is left on the shelf and on the hold shelf.
+     *
+     * @return {@code 1} if the title exists, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET "
+            + "b.version = b.version + 1, "
+            + "b.status = CASE WHEN b.availableCopies > 0 "
+            + "THEN code.with.vanilson.libraryapplication.book.BookStatus.AVAILABLE "
+            + "WHEN EXISTS (SELECT 1 FROM BookHold h WHERE h.bookId = :bookId "
+            + "AND h.status = code.with.vanilson.libraryapplication.book.HoldStatus.READY) "
+            + "THEN code.with.vanilson.libraryapplication.book.BookStatus.RESERVED "
+            + "ELSE code.with.vanilson.libraryapplication.book.BookStatus.BORROWED END, "
+            + "b.borrowCount = b.borrowCount + 1, "
+            + "b.librarian = :librarian "
+            + "WHERE b.bookId = :bookId")
+    int checkoutReservedCopy(@Param("bookId") Long bookId, @Param("librarian") Librarian librarian);
+
+    @Modifying
+    @Query(value = "INSERT INTO member_books (member_id, book_id) "
+            + "SELECT :memberId, :bookId WHERE NOT EXISTS "
+            + "(SELECT 1 FROM member_books WHERE member_id = :memberId AND book_id = :bookId)", nativeQuery = true)
+    int addBorrower(@Param("bookId") Long bookId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM member_books WHERE member_id = :memberId AND book_id = :bookId", nativeQuery = true)
+    int removeBorrower(@Param("bookId") Long bookId, @Param("memberId") Long memberId);
+
 }
@@ -48,6 +48,10 @@ public class BookRequest {
     @NotNull(message = "The book status must not be null")
     private BookStatus status;
 
+    @Positive(message = "The number of copies must be a positive integer")
+    @Max(value = 1000, message = "The number of copies must be at most 1000")
+    private Integer copies; // defaults to one copy
+
     @NotNull(message = "The member Ids must not be null")
     @Size(min = 1, message = "There must be at least one member ID")
     private Set<@Positive(message = "Each member ID must be a positive integer") Long> memberIds;
@@ -2,6 +2,7 @@ package code.with.vanilson.libraryapplication.book;
 
 import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
 import code.with.vanilson.libraryapplication.member.MemberResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -15,7 +16,7 @@ import java.util.Set;
  * @since 2024-08-26
  */
 @EqualsAndHashCode(callSuper = true)
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @Setter
 public class BookResponse extends RepresentationModel<BookResponse> {
@@ -27,6 +28,10 @@ public class BookResponse extends RepresentationModel<BookResponse> {
     private String publisherName;
     private Integer publisherYear;
     private BookStatus status;
+    private int totalCopies;
+    private int availableCopies;
     private Set<MemberResponse> members; // Updated to Set<member>
     private LibrarianResponse librarian; // Updated to Librarian
-}
\ No newline at end of file
+    @JsonIgnore // sent as the ETag header
+    private Long version;
+}
@@ -0,0 +1,219 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.common.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * BookSearchIndex - in-process inverted index over title, author, publisher and genre tokens.
+ * <p>
+ * Terms are kept in a sorted map so the last query token can be matched as a prefix with a range scan.
+ * Every query token must match (AND semantics); hits are ranked by field weight, with exact term matches
+ * counting double. Writers are serialized, readers never block.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int GENRE_WEIGHT = 1;
+    private static final int PUBLISHER_WEIGHT = 1;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private final BookRepository bookRepository;
+    private final ConcurrentNavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Long, IndexedBook> documents = new ConcurrentHashMap<>();
+
+    public BookSearchIndex(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    private record IndexedBook(Long id, String title, String author, String isbn, String genre,
+                               String publisherName, Map<String, Integer> termWeights) {
+    }
+
+    /**
+     * Builds the index from the catalog at startup, one keyset page at a time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            postings.clear();
+            documents.clear();
+        }
+        long cursor = 0;
+        List<Book> books;
+        do {
+            books = bookRepository.findBooksAfter(cursor, null, null, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            books.forEach(book -> put(toDocument(book)));
+            if (!books.isEmpty()) {
+                cursor = books.get(books.size() - 1).getBookId();
+            }
+        } while (books.size() == REBUILD_BATCH_SIZE);
+        log.info("Book search index built with {} books and {} terms in {} ms",
+                documents.size(), postings.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Adds or replaces a book once the current transaction commits.
+     *
+     * @param book The saved book.
+     */
+    public void index(Book book) {
+        var document = toDocument(book);
+        TransactionUtils.afterCommit(() -> put(document));
+    }
+
+    /**
+     * Removes a book once the current transaction commits.
+     *
+     * @param bookId The ID of the deleted book.
+     */
+    public void remove(Long bookId) {
+        TransactionUtils.afterCommit(() -> evict(bookId));
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query Free text; the last token is matched as a prefix.
+     * @param limit Maximum number of hits; defaults to {@value #DEFAULT_LIMIT}, capped at {@value #MAX_LIMIT}.
+     * @return Hits ordered by descending score, then by ID.
+     */
+    public List<BookSearchResult> search(String query, Integer limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        int maxResults = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        Map<Long, Integer> scores = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            boolean prefix = i == tokens.size() - 1;
+            Map<Long, Integer> tokenScores = scoreToken(token, prefix);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((id, score) -> score + tokenScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxResults)
+                .map(entry -> toResult(documents.get(entry.getKey()), entry.getValue()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Lower-cases, strips accents and splits on anything that is not a letter or a digit.
+     *
+     * @param text The text to split.
+     * @return The tokens, possibly empty.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private Map<Long, Integer> scoreToken(String token, boolean prefix) {
+        Map<String, Set<Long>> matches = prefix
+                ? postings.subMap(token, true, token + Character.MAX_VALUE, true)
+                : postings.containsKey(token) ? Map.of(token, postings.get(token)) : Map.of();
+
+        Map<Long, Integer> tokenScores = new HashMap<>();
+        matches.forEach((term, ids) -> {
+            int boost = term.length() == token.length() ? 2 : 1;
+            for (Long id : ids) {
+                IndexedBook document = documents.get(id);
+                if (document != null) {
+                    int weight = document.termWeights().getOrDefault(term, 0) * boost;
+                    tokenScores.merge(id, weight, Math::max);
+                }
+            }
+        });
+        return tokenScores;
+    }
+
+    private synchronized void put(IndexedBook document) {
+        evict(document.id());
+        document.termWeights().keySet()
+                .forEach(term -> postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet())
+                        .add(document.id()));
+        documents.put(document.id(), document);
+    }
+
+    private synchronized void evict(Long bookId) {
+        IndexedBook previous = documents.remove(bookId);
+        if (previous == null) {
+            return;
+        }
+        previous.termWeights().keySet().forEach(term -> postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(bookId);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    private static IndexedBook toDocument(Book book) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        addTerms(termWeights, book.getTitle(), TITLE_WEIGHT);
+        addTerms(termWeights, book.getAuthor(), AUTHOR_WEIGHT);
+        addTerms(termWeights, book.getGenre(), GENRE_WEIGHT);
+        addTerms(termWeights, book.getPublisherName(), PUBLISHER_WEIGHT);
+        return new IndexedBook(book.getBookId(), book.getTitle(), book.getAuthor(), book.getIsbn(), book.getGenre(),
+                book.getPublisherName(), Map.copyOf(termWeights));
+    }
+
+    private static void addTerms(Map<String, Integer> termWeights, String text, int weight) {
+        tokenize(text).forEach(term -> termWeights.merge(term, weight, Integer::sum));
+    }
+
+    private static BookSearchResult toResult(IndexedBook document, int score) {
+        if (document == null) {
+            return null;
+        }
+        return new BookSearchResult(document.id(), document.title(), document.author(), document.isbn(),
+                document.genre(), document.publisherName(), score);
+    }
+}
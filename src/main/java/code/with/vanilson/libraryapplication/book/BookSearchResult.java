@@ -0,0 +1,12 @@
+package code.with.vanilson.libraryapplication.book;
+
+/**
+ * BookSearchResult - a ranked catalog search hit, served from {@link BookSearchIndex} without a database round trip
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookSearchResult(Long id, String title, String author, String isbn, String genre,
+                               String publisherName, int score) {
+}
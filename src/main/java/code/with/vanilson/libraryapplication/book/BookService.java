@@ -1,19 +1,29 @@
 package code.with.vanilson.libraryapplication.book;
 
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourcePreconditionFailedException;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
 import code.with.vanilson.libraryapplication.librarian.Librarian;
 import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.librarian.StaffDirectory;
 import code.with.vanilson.libraryapplication.member.Member;
+import code.with.vanilson.libraryapplication.member.MemberBalanceService;
 import code.with.vanilson.libraryapplication.member.MemberRepository;
+import code.with.vanilson.libraryapplication.member.MemberResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.MessageFormat;
-import java.util.List;
-import java.util.Set;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.*;
 
 /**
  * BookService - Implementation of IBookService for managing books in the library system
@@ -29,20 +39,52 @@ public class BookService implements IBookService {
     private static final String LIBRARY_BOOK_NOT_FOUND = "library.book.not_found";
     private static final String LIBRARY_LIBRARIAN_NOT_FOUND = "library.librarian.not_found";
     private static final String LIBRARY_MEMBERS_NOT_FOUND = "library.members.not_found";
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 50;
 
     private final BookRepository bookRepository;
     private final MemberRepository memberRepository;
     private final LibrarianRepository librarianRepository;
+    private final BookCopyRepository bookCopyRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final BookCache bookCache;
+    private final BookCirculationRepository bookCirculationRepository;
+    private final BookHoldService bookHoldService;
+    private final BookAvailabilityFeed bookAvailabilityFeed;
+    private final StaffDirectory staffDirectory;
+    private final LoanRepository loanRepository;
+    private final MemberBalanceService memberBalanceService;
+    private final Period loanPeriod;
 
     public BookService(BookRepository bookRepository, MemberRepository memberRepository,
-                       LibrarianRepository librarianRepository) {
+                       LibrarianRepository librarianRepository, BookCopyRepository bookCopyRepository,
+                       BookSearchIndex bookSearchIndex, BookSuggestIndex bookSuggestIndex, BookCache bookCache,
+                       BookCirculationRepository bookCirculationRepository, BookHoldService bookHoldService,
+                       BookAvailabilityFeed bookAvailabilityFeed, StaffDirectory staffDirectory,
+                       LoanRepository loanRepository, MemberBalanceService memberBalanceService,
+                       @Value("${library.loans.loan-period:P14D}") Period loanPeriod) {
         this.bookRepository = bookRepository;
         this.memberRepository = memberRepository;
         this.librarianRepository = librarianRepository;
+        this.bookCopyRepository = bookCopyRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.bookSuggestIndex = bookSuggestIndex;
+        this.bookCache = bookCache;
+        this.bookCirculationRepository = bookCirculationRepository;
+        this.bookHoldService = bookHoldService;
+        this.bookAvailabilityFeed = bookAvailabilityFeed;
+        this.staffDirectory = staffDirectory;
+        this.loanRepository = loanRepository;
+        this.memberBalanceService = memberBalanceService;
+        this.loanPeriod = loanPeriod;
     }
 
     /**
      * Retrieves all books.
+     * This reads the whole catalog; listings should use {@link #getBooksPage(Long, Integer, BookStatus, String)}.
+     * Books and borrowers are read as projections, so no entity is loaded or checked for changes.
      *
      * @return List of BookResponse containing all books.
      */
@@ -50,13 +92,48 @@ public class BookService implements IBookService {
     @Transactional(readOnly = true)
     public List<BookResponse> getAllBooks() {
         log.info("Retrieving all books");
-        return bookRepository.findAll().stream()
-                .map(BookMapper::mapToBookResponse)
-                .toList();
+        return toResponses(bookRepository.findAllViews(), bookRepository.findAllBorrowerViews());
+    }
+
+    /**
+     * Retrieves one keyset page of books.
+     * One extra row is fetched to find out whether a next page exists without a count query.
+     *
+     * @param cursor ID of the last book of the previous page, {@code null} for the first page.
+     * @param size   requested page size; defaults to {@value #DEFAULT_PAGE_SIZE}, capped at {@value #MAX_PAGE_SIZE}.
+     * @param status optional status filter.
+     * @param genre  optional genre filter.
+     * @return BookPageResponse with the books of the page and the next cursor.
+     * @throws ResourceBadRequestException if the cursor is negative.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BookPageResponse getBooksPage(Long cursor, Integer size, BookStatus status, String genre) {
+        long after = cursor == null ? 0L : cursor;
+        if (after < 0) {
+            throw resourceBadRequestException("library.book.bad_request", cursor);
+        }
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        log.info("Retrieving books after cursor {} (size {}, status {}, genre {})", after, pageSize, status, genre);
+
+        var books = bookRepository.findBookViewsAfter(after, status, genre, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = books.size() > pageSize;
+        var pageBooks = hasNext ? books.subList(0, pageSize) : books;
+        var borrowers = pageBooks.isEmpty()
+                ? List.<BookBorrowerView>of()
+                : bookRepository.findBorrowerViews(pageBooks.stream().map(BookView::bookId).toList());
+        var content = toResponses(pageBooks, borrowers);
+
+        return BookPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? pageBooks.get(pageBooks.size() - 1).bookId() : null)
+                .build();
     }
 
     /**
-     * Retrieves a book by its ID.
+     * Retrieves a book by its ID, served from {@link BookCache} when possible.
      *
      * @param bookId The ID of the book.
      * @return BookResponse if the book exists.
@@ -66,8 +143,28 @@ public class BookService implements IBookService {
     @Transactional(readOnly = true)
     public BookResponse getBookById(Long bookId) {
         validateBookId(bookId);
-        return bookRepository.findById(bookId)
+        return bookCache.getById(bookId, id -> bookRepository.findWithAssociationsByBookId(id)
                 .map(BookMapper::mapToBookResponse)
+                .orElseThrow(() -> resourceNotFoundException(LIBRARY_BOOK_NOT_FOUND, id)));
+    }
+
+    /**
+     * Reads the version of a book for a conditional GET: from {@link BookCache} when the book is cached, which is
+     * evicted on every change, otherwise with a query on the primary key.
+     *
+     * @param bookId The ID of the book.
+     * @return The current version.
+     * @throws ResourceNotFoundException if book is not found.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getBookVersion(Long bookId) {
+        validateBookId(bookId);
+        Long cached = bookCache.getVersion(bookId);
+        if (cached != null) {
+            return cached;
+        }
+        return bookRepository.findVersionByBookId(bookId)
                 .orElseThrow(() -> resourceNotFoundException(LIBRARY_BOOK_NOT_FOUND, bookId));
     }
 
@@ -85,11 +182,32 @@ public class BookService implements IBookService {
                 .orElseThrow(() -> resourceNotFoundException("library.library.book.with.author.not_found", author));
     }
 
+    /**
+     * Retrieves a book by its ISBN. The ISBN is resolved to an ID, then the book is read like {@link #getBookById},
+     * so both lookups share one cached copy.
+     *
+     * @param isbn The ISBN of the book.
+     * @return BookResponse if the book exists.
+     * @throws ResourceNotFoundException if no book has this ISBN.
+     */
     @Override
+    @Transactional(readOnly = true)
     public BookResponse getBookByIsbn(String isbn) {
-        return bookRepository.findBookByIsbn(isbn)
-                .map(BookMapper::mapToBookResponse)
-                .orElseThrow(() -> resourceNotFoundException("library.library.book.with.isbn.not_found", isbn));
+        return getBookById(getBookIdByIsbn(isbn));
+    }
+
+    /**
+     * Resolves an ISBN to the ID of the book, from {@link BookCache} when it is cached.
+     *
+     * @param isbn The ISBN of the book.
+     * @return The ID of the book.
+     * @throws ResourceNotFoundException if no book has this ISBN.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getBookIdByIsbn(String isbn) {
+        return bookCache.getIdByIsbn(isbn, key -> bookRepository.findBookIdByIsbn(key)
+                .orElseThrow(() -> resourceNotFoundException("library.library.book.with.isbn.not_found", key)));
     }
 
     @Override
@@ -114,7 +232,16 @@ public class BookService implements IBookService {
         Set<Member> members = findMembersByIds(bookRequest.getMemberIds());
 
         Book newBook = BookMapper.mapToBookEntity(bookRequest, librarian, members);
+        for (int copy = 1; copy <= newBook.getTotalCopies(); copy++) {
+            newBook.addCopy(BookCopy.builder()
+                    .barcode(generateBarcode(newBook, copy))
+                    .status(BookStatus.AVAILABLE)
+                    .build());
+        }
+        newBook.setLastCopyNumber(newBook.getTotalCopies());
         Book savedBook = bookRepository.save(newBook);
+        bookSearchIndex.index(savedBook);
+        bookSuggestIndex.index(savedBook);
         log.debug("Book created with ID: {}", savedBook.getBookId());
         log.debug("Associated members: {}", savedBook.getMembers().stream()
                 .map(Member::getId)
@@ -127,21 +254,31 @@ public class BookService implements IBookService {
      *
      * @param bookRequest BookRequest with updated details.
      * @param bookId      The ID of the book to update.
+     * @param ifMatch     The If-Match header of the request; {@code null} skips the check.
      * @return BookResponse of the updated book.
-     * @throws ResourceNotFoundException if book, librarian, or members are not found.
+     * @throws ResourceNotFoundException           if book, librarian, or members are not found.
+     * @throws ResourcePreconditionFailedException if the book changed since the client read it.
      */
     @Override
     @Transactional
-    public BookResponse updateBook(BookRequest bookRequest, Long bookId) {
+    public BookResponse updateBook(BookRequest bookRequest, Long bookId, String ifMatch) {
         validateBookRequest(bookRequest);
         validateBookId(bookId);
 
         Book existingBook = findBookById(bookId);
+        ETagUtils.requireMatch(ifMatch, existingBook.getVersion(), "book", bookId);
         Librarian librarian = findLibrarianById(bookRequest.getLibrarianId());
         Set<Member> members = findMembersByIds(bookRequest.getMemberIds());
+        validateStatus(existingBook, bookRequest.getStatus());
 
+        bookCache.evict(bookId, existingBook.getIsbn(), bookRequest.getIsbn());
+        bookAvailabilityFeed.publish(bookId);
         updateBookFields(existingBook, bookRequest, librarian, members);
         Book updatedBook = bookRepository.save(existingBook);
+        // Flushed so the response carries the bumped version
+        bookRepository.flush();
+        bookSearchIndex.index(updatedBook);
+        bookSuggestIndex.index(updatedBook);
         return BookMapper.mapToBookResponse(updatedBook);
     }
 
@@ -150,114 +287,404 @@ public class BookService implements IBookService {
      *
      * @param bookId The ID of the book to delete.
      * @throws ResourceNotFoundException if the book is not found.
+     * @throws ResourceConflictException if the book has loan history, which is never deleted.
      */
     @Override
     @Transactional
     public void deleteBook(Long bookId) {
         Book book = findBookById(bookId);
+        if (loanRepository.existsByBookId(bookId)) {
+            throw new ResourceConflictException(
+                    MessageFormat.format(MessageProvider.getMessage("library.book.has_loans"), bookId));
+        }
         bookRepository.delete(book);
+        bookCache.evict(bookId, book.getIsbn());
+        bookSearchIndex.remove(bookId);
+        bookSuggestIndex.remove(bookId);
+    }
+
+    /**
+     * Full-text search over title, author, publisher and genre, served from {@link BookSearchIndex}.
+     *
+     * @param query Free text; the last word may be partial.
+     * @param limit Maximum number of hits, optional.
+     * @return Ranked hits, best first.
+     */
+    @Override
+    public List<BookSearchResult> searchBooks(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw resourceBadRequestException("library.book.search.query_required");
+        }
+        return bookSearchIndex.search(query, limit);
     }
 
     /**
-     * Allows a librarian to borrow a book for a member.
-     * Checks the availability of the book before proceeding with the borrowing process.
+     * Typeahead completions over titles and authors, served from {@link BookSuggestIndex}.
+     * A blank prefix yields no completions rather than an error, since it is sent on every keystroke.
+     *
+     * @param prefix What has been typed so far.
+     * @param limit  Maximum number of completions, optional.
+     * @return Completions, most borrowed first.
+     */
+    @Override
+    public List<BookSuggestion> suggestBooks(String prefix, Integer limit) {
+        return bookSuggestIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Allows a librarian to borrow a copy of a book for a member.
+     * The availability check and the counter decrement are a single conditional update, so concurrent
+     * borrow requests can never take more copies than are on the shelf. A member with a ready hold on the book
+     * gets the copy set aside for them instead. A {@link Loan} due after {@code library.loans.loan-period} is
+     * recorded in the same transaction.
      *
      * @param bookId      The ID of the book to be borrowed.
      * @param memberId    The ID of the member who wants to borrow the book.
      * @param librarianId The ID of the librarian processing the borrow request.
      * @return Updated {@link BookResponse} representing the borrowed book.
      * @throws ResourceNotFoundException   if the book, member, or librarian is not found.
-     * @throws ResourceBadRequestException if the book is not available for borrowing.
+     * @throws ResourceBadRequestException if the book is not available for borrowing, the member already holds
+     *                                     a copy of it, or owes more than {@code library.fines.borrow-limit}.
      */
     @Override
     @Transactional
     public BookResponse borrowBook(Long bookId, Long memberId, Long librarianId) {
-        Book book = findBookById(bookId);
-        if (!book.isAvailable()) {
+        validateBookId(bookId);
+        if (!memberRepository.existsById(memberId)) {
+            throw resourceNotFoundException(LIBRARY_MEMBERS_NOT_FOUND, memberId);
+        }
+        memberBalanceService.requireBorrowingAllowed(memberId);
+        var librarian = findLibrarianById(librarianId);
+
+        int updated = bookHoldService.fulfilHold(bookId, memberId)
+                ? bookRepository.checkoutReservedCopy(bookId, librarian)
+                : bookRepository.checkoutCopy(bookId, librarian);
+        if (updated == 0) {
+            Book book = findBookById(bookId);
             String message = MessageFormat.format(MessageProvider.getMessage("library.book.not_available"), book.getTitle());
             log.error("Book is not available for borrowing: {}", book.getTitle());
             throw new ResourceBadRequestException(message);
         }
-
-        // Retrieve member by ID and handle Optional
-        var member = memberRepository.findById(memberId)
-                .orElseThrow(() -> resourceNotFoundException(LIBRARY_MEMBERS_NOT_FOUND, memberId));
-
-        var librarian = findLibrarianById(librarianId);
-
-        // Add member to the book and update status
-        book.addBookMember(member);
-        book.setStatus(BookStatus.BORROWED);
-        book.setLibrarian(librarian);
-
-        // Save the updated book
-        Book updatedBook = bookRepository.save(book);
-        log.info("Book '{}' borrowed by member ID: {}, processed by librarian ID: {}", 
-                book.getTitle(), memberId, librarianId);
-
-        // Return the mapped BookResponse
-        return BookMapper.mapToBookResponse(updatedBook);
+        if (bookRepository.addBorrower(bookId, memberId) == 0) {
+            // Rolls back the checkout above
+            throw resourceBadRequestException("library.book.borrow_limit_reached");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        loanRepository.save(Loan.builder()
+                .bookId(bookId)
+                .memberId(memberId)
+                .librarianId(librarianId)
+                .checkedOutAt(now)
+                .dueDate(dueDate(now))
+                .build());
+        log.info("Book ID {} borrowed by member ID: {}, processed by librarian ID: {}",
+                bookId, memberId, librarianId);
+
+        bookCache.evict(bookId);
+        bookAvailabilityFeed.publish(bookId);
+        Book borrowedBook = findBookById(bookId);
+        // Picks up the new borrow count for suggestion ranking
+        bookSuggestIndex.index(borrowedBook);
+        return BookMapper.mapToBookResponse(borrowedBook);
     }
 
     /**
      * Checks if a book is available for borrowing.
+     * Answered from the per-title availability counter, without loading the book.
      *
      * @param bookId The ID of the book to check.
-     * @return {@code true} if the book is available, {@code false} otherwise.
+     * @return {@code true} if at least one copy is available, {@code false} otherwise.
      */
     @Override
     @Transactional(readOnly = true)
     public boolean isBookAvailable(Long bookId) {
-        try {
-            var book = findBookById(bookId);
-            boolean available = book.isAvailable();
-            if (available) {
-                log.info("Book is available for borrowing: {}", book.getTitle());
-            } else {
-                log.info("Book is not available for borrowing: {}", book.getTitle());
-            }
-            return available;
-        } catch (ResourceNotFoundException e) {
+        var availableCopies = bookRepository.findAvailableCopies(bookId);
+        if (availableCopies.isEmpty()) {
             log.error("Book with ID {} not found", bookId);
             return false;
         }
+        log.debug("Book with ID {} has {} copies available", bookId, availableCopies.get());
+        return availableCopies.get() > 0;
+    }
+
+    /**
+     * Adds one physical copy to the stock of a book.
+     *
+     * @param bookId      The ID of the book.
+     * @param copyRequest The barcode and branch of the new copy; the barcode is generated when missing.
+     * @return Updated {@link BookResponse} with the new counters.
+     * @throws ResourceNotFoundException  if the book is not found.
+     * @throws ResourceConflictException if the barcode is already in use.
+     */
+    @Override
+    @Transactional
+    public BookResponse addCopy(Long bookId, BookCopyRequest copyRequest) {
+        validateBookId(bookId);
+        Book book = findBookById(bookId);
+        String barcode = copyRequest == null || copyRequest.getBarcode() == null
+                ? nextBarcode(book)
+                : copyRequest.getBarcode();
+        if (bookCopyRepository.existsBookCopyByBarcode(barcode)) {
+            throw new ResourceConflictException(
+                    MessageFormat.format(MessageProvider.getMessage("library.book.copy.already_exists"), barcode));
+        }
+        bookCopyRepository.save(BookCopy.builder()
+                .barcode(barcode)
+                .branch(copyRequest == null ? null : copyRequest.getBranch())
+                .status(BookStatus.AVAILABLE)
+                .book(book)
+                .build());
+        bookRepository.addCopies(bookId, 1);
+        bookHoldService.promoteNextHold(bookId);
+        bookCache.evict(bookId);
+        bookAvailabilityFeed.publish(bookId);
+        log.info("Copy {} added to book ID {}", barcode, bookId);
+        return BookMapper.mapToBookResponse(findBookById(bookId));
     }
 
     /**
      * Returns a borrowed book back to the library.
+     * The book is only released when it is borrowed by the given member; the check and the status
+     * change are a single conditional update. The open {@link Loan} is closed and the copy then goes to the
+     * oldest waiting hold, if any.
      *
      * @param bookId      The ID of the book being returned.
      * @param memberId    The ID of the member returning the book.
      * @param librarianId The ID of the librarian processing the return.
      * @return Updated {@link BookResponse} after the book is returned.
-     * @throws ResourceNotFoundException   if the book, member, or librarian is not found.
+     * @throws ResourceNotFoundException   if the book or librarian is not found.
      * @throws ResourceBadRequestException if the book is not currently borrowed by the member.
      */
     @Override
     @Transactional
     public BookResponse returnBook(Long bookId, Long memberId, Long librarianId) {
-        Book book = findBookById(bookId);
-        Member member = memberRepository.getReferenceById(memberId);
+        validateBookId(bookId);
         Librarian librarian = findLibrarianById(librarianId);
 
-        if (!book.isBorrowed() || !book.isReservedBy(member)) {
+        if (bookRepository.checkinCopy(bookId, memberId, librarian) == 0) {
+            findBookById(bookId);
             var message = MessageFormat.format(MessageProvider.getMessage("library.book.not_borrowed"), bookId);
             log.error(message);
             throw new ResourceBadRequestException(message);
         }
+        bookRepository.removeBorrower(bookId, memberId);
+        loanRepository.closeLoan(bookId, memberId, librarianId, LocalDateTime.now());
+        bookHoldService.promoteNextHold(bookId);
+        bookCache.evict(bookId);
+        bookAvailabilityFeed.publish(bookId);
+        log.info("Book ID {} returned by member ID: {}, processed by librarian ID: {}",
+                bookId, memberId, librarianId);
+
+        return BookMapper.mapToBookResponse(findBookById(bookId));
+    }
 
-        book.getMembers().remove(member);
-        member.getBorrowedBooks().remove(book);
+    /**
+     * Borrows a basket of books for one member in one transaction.
+     * The member and librarian are resolved once and every step is a single JDBC batch over the basket. A book that
+     * cannot be borrowed is reported in its result and does not affect the others. A book the member has a ready
+     * hold on is lent from the copy set aside for them, as in {@link #borrowBook}.
+     *
+     * @param request The member, the librarian and the books.
+     * @return One result per distinct book, in request order.
+     * @throws ResourceNotFoundException   if the member or librarian is not found.
+     * @throws ResourceBadRequestException if the basket is empty or too large, or the member owes more than
+     *                                     {@code library.fines.borrow-limit}.
+     */
+    @Override
+    @Transactional
+    public BookCirculationResponse borrowBooks(BookCirculationRequest request) {
+        List<Long> bookIds = validateBasket(request);
+        Long memberId = request.getMemberId();
+        if (!memberRepository.existsById(memberId)) {
+            throw resourceNotFoundException(LIBRARY_MEMBERS_NOT_FOUND, memberId);
+        }
+        memberBalanceService.requireBorrowingAllowed(memberId);
+        Long librarianId = findLibrarianById(request.getLibrarianId()).getId();
+
+        Map<Long, BookCirculationResult> results = new HashMap<>();
+        List<Long> candidates = findExistingBooks(bookIds, results);
+        Set<Long> alreadyBorrowed = candidates.isEmpty()
+                ? Set.of()
+                : bookCirculationRepository.findBorrowedBookIds(memberId, candidates);
+        candidates = candidates.stream()
+                .filter(bookId -> !alreadyBorrowed.contains(bookId)
+                        || fail(results, bookId, "library.book.borrow_limit_reached"))
+                .toList();
 
-        book.setStatus(BookStatus.AVAILABLE);
-        book.setLibrarian(librarian);
+        // As for a single borrow, a member with a ready hold takes the copy set aside for them
+        Set<Long> readyHolds = candidates.isEmpty()
+                ? Set.of()
+                : bookCirculationRepository.findReadyHoldBookIds(memberId, candidates);
+        List<Long> reserved = candidates.stream()
+                .filter(bookId -> readyHolds.contains(bookId) && bookHoldService.fulfilHold(bookId, memberId))
+                .toList();
+        List<Long> fromShelf = candidates.stream()
+                .filter(bookId -> !reserved.contains(bookId))
+                .toList();
+
+        List<Long> checkedOut = new ArrayList<>(applied(reserved,
+                bookCirculationRepository.checkoutReservedCopies(reserved, librarianId),
+                results, "library.book.not_available"));
+        checkedOut.addAll(applied(fromShelf, bookCirculationRepository.checkoutCopies(fromShelf, librarianId),
+                results, "library.book.not_available"));
+        int[] linked = bookCirculationRepository.addBorrowers(memberId, checkedOut);
+        // Lost a race with a concurrent borrow of the same book by the same member
+        List<Long> duplicates = rejected(checkedOut, linked);
+        bookCirculationRepository.releaseCopies(duplicates);
+        duplicates.forEach(bookId -> {
+            fail(results, bookId, "library.book.borrow_limit_reached");
+            // The hold is spent, so the copy set aside for it goes to the next one in the queue
+            if (reserved.contains(bookId)) {
+                bookHoldService.promoteNextHold(bookId);
+            }
+        });
 
-        bookRepository.save(book);
-        return BookMapper.mapToBookResponse(book);
+        List<Long> borrowed = checkedOut.stream()
+                .filter(bookId -> !duplicates.contains(bookId))
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        bookCirculationRepository.openLoans(memberId, librarianId, borrowed, now, dueDate(now));
+        borrowed.forEach(bookId -> {
+            results.put(bookId, BookCirculationResult.succeeded(bookId));
+            bookCache.evict(bookId);
+            bookAvailabilityFeed.publish(bookId);
+            bookSuggestIndex.recordBorrow(bookId);
+        });
+        log.info("Batch borrow for member ID {} by librarian ID {}: {}", memberId, librarianId, results.values());
+        return BookCirculationResponse.of(memberId, bookIds.stream().map(results::get).toList());
+    }
+
+    /**
+     * Returns a basket of books for one member in one transaction, with the same batching and per-book outcome as
+     * {@link #borrowBooks(BookCirculationRequest)}.
+     *
+     * @param request The member, the librarian and the books.
+     * @return One result per distinct book, in request order.
+     * @throws ResourceNotFoundException   if the librarian is not found.
+     * @throws ResourceBadRequestException if the basket is empty or too large.
+     */
+    @Override
+    @Transactional
+    public BookCirculationResponse returnBooks(BookCirculationRequest request) {
+        List<Long> bookIds = validateBasket(request);
+        Long memberId = request.getMemberId();
+        Long librarianId = findLibrarianById(request.getLibrarianId()).getId();
+
+        Map<Long, BookCirculationResult> results = new HashMap<>();
+        List<Long> candidates = findExistingBooks(bookIds, results);
+        List<Long> checkedIn = applied(candidates,
+                bookCirculationRepository.checkinCopies(candidates, memberId, librarianId),
+                results, "library.book.not_borrowed");
+        bookCirculationRepository.removeBorrowers(memberId, checkedIn);
+        bookCirculationRepository.closeLoans(memberId, librarianId, checkedIn, LocalDateTime.now());
+
+        checkedIn.forEach(bookId -> {
+            results.put(bookId, BookCirculationResult.succeeded(bookId));
+            bookHoldService.promoteNextHold(bookId);
+            bookCache.evict(bookId);
+            bookAvailabilityFeed.publish(bookId);
+        });
+        log.info("Batch return for member ID {} by librarian ID {}: {}", memberId, librarianId, results.values());
+        return BookCirculationResponse.of(memberId, bookIds.stream().map(results::get).toList());
     }
 
     // Helper Methods
 
+    private LocalDate dueDate(LocalDateTime checkedOutAt) {
+        return checkedOutAt.toLocalDate().plus(loanPeriod);
+    }
+
+    /**
+     * Assembles book responses from projections. The borrowers are grouped by book, and the librarians and admins
+     * of books and borrowers are resolved together by {@link StaffDirectory}.
+     */
+    private List<BookResponse> toResponses(List<BookView> books, List<BookBorrowerView> borrowers) {
+        Set<Long> librarianIds = StaffDirectory.idsOf(books, BookView::librarianId);
+        librarianIds.addAll(StaffDirectory.idsOf(borrowers, BookBorrowerView::librarianId));
+        var staff = staffDirectory.resolve(librarianIds, StaffDirectory.idsOf(borrowers, BookBorrowerView::adminId));
+
+        Map<Long, Set<MemberResponse>> membersByBook = new HashMap<>();
+        for (BookBorrowerView borrower : borrowers) {
+            membersByBook.computeIfAbsent(borrower.bookId(), bookId -> new HashSet<>())
+                    .add(borrower.toResponse(staff.librarian(borrower.librarianId()),
+                            staff.admin(borrower.adminId())));
+        }
+        return books.stream()
+                .map(book -> book.toResponse(staff.librarian(book.librarianId()),
+                        membersByBook.getOrDefault(book.bookId(), new HashSet<>())))
+                .toList();
+    }
+
+    /**
+     * Validates a circulation basket.
+     *
+     * @param request The basket.
+     * @return The distinct book IDs, in request order.
+     * @throws ResourceBadRequestException if the basket is missing, empty or larger than {@value #MAX_BATCH_SIZE}.
+     */
+    private List<Long> validateBasket(BookCirculationRequest request) {
+        if (request == null || request.getBookIds() == null || request.getBookIds().isEmpty()) {
+            throw resourceBadRequestException("library.book.circulation.basket_required");
+        }
+        List<Long> bookIds = request.getBookIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (bookIds.isEmpty() || bookIds.size() > MAX_BATCH_SIZE) {
+            throw resourceBadRequestException("library.book.circulation.basket_too_large", MAX_BATCH_SIZE);
+        }
+        return bookIds;
+    }
+
+    /**
+     * Records a failure for every invalid or unknown book ID.
+     *
+     * @return The IDs of the books that exist, in request order.
+     */
+    private List<Long> findExistingBooks(List<Long> bookIds, Map<Long, BookCirculationResult> results) {
+        List<Long> validIds = bookIds.stream()
+                .filter(bookId -> bookId > 0 || fail(results, bookId, "library.book.bad_request"))
+                .toList();
+        Set<Long> existing = validIds.isEmpty() ? Set.of() : bookCirculationRepository.findExistingBookIds(validIds);
+        return validIds.stream()
+                .filter(bookId -> existing.contains(bookId) || fail(results, bookId, LIBRARY_BOOK_NOT_FOUND))
+                .toList();
+    }
+
+    /**
+     * Splits a batch by update count, recording a failure for every book the statement did not touch.
+     *
+     * @return The IDs of the books that were updated.
+     */
+    private List<Long> applied(List<Long> bookIds, int[] counts, Map<Long, BookCirculationResult> results,
+                               String failureKey) {
+        List<Long> rejected = rejected(bookIds, counts);
+        rejected.forEach(bookId -> fail(results, bookId, failureKey));
+        return bookIds.stream()
+                .filter(bookId -> !rejected.contains(bookId))
+                .toList();
+    }
+
+    private static List<Long> rejected(List<Long> bookIds, int[] counts) {
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < bookIds.size(); i++) {
+            if (counts[i] == 0) {
+                rejected.add(bookIds.get(i));
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Records a failed book; always {@code false} so it can end a filter chain.
+     */
+    private static boolean fail(Map<Long, BookCirculationResult> results, Long bookId, String messageKey) {
+        String message = MessageFormat.format(MessageProvider.getMessage(messageKey), bookId);
+        results.put(bookId, BookCirculationResult.failed(bookId, message));
+        return false;
+    }
+
+
     /**
      * Validates the book request.
      *
@@ -339,6 +766,49 @@ public class BookService implements IBookService {
         return members;
     }
 
+    /**
+     * Builds the default barcode of a copy from the ISBN of its book.
+     *
+     * @param book   The book the copy belongs to.
+     * @param number The 1-based number of the copy.
+     * @return the barcode, e.g. {@code 9780000000000-003}.
+     */
+    private static String generateBarcode(Book book, long number) {
+        return String.format("%s-%03d", book.getIsbn(), number);
+    }
+
+    /**
+     * Generates the barcode of a new copy from the per-title copy number, which only ever increases, so the barcode
+     * of a deleted copy is never handed out again. Numbers taken by a barcode given explicitly are skipped.
+     */
+    private String nextBarcode(Book book) {
+        String barcode;
+        do {
+            bookRepository.incrementLastCopyNumber(book.getBookId());
+            barcode = generateBarcode(book, bookRepository.findLastCopyNumberByBookId(book.getBookId()));
+        } while (bookCopyRepository.existsBookCopyByBarcode(barcode));
+        return barcode;
+    }
+
+    /**
+     * Checks the requested status against the copy counters, which the circulation updates keep in step with it.
+     * AVAILABLE needs a copy on the shelf; BORROWED and RESERVED are only ever set by a checkout or a hold, so an
+     * update may keep them but not introduce them. LOST and LOANED are set by hand.
+     *
+     * @throws ResourceBadRequestException if the status contradicts the counters.
+     */
+    private void validateStatus(Book book, BookStatus status) {
+        boolean contradicts = switch (status) {
+            case AVAILABLE -> book.getAvailableCopies() == 0;
+            case BORROWED, RESERVED -> status != book.getStatus();
+            case LOST, LOANED -> false;
+        };
+        if (contradicts) {
+            throw resourceBadRequestException("library.book.status_conflicts_with_copies", status,
+                    book.getAvailableCopies(), book.getTotalCopies());
+        }
+    }
+
     /**
      * Updates the book entity with new details.
      *
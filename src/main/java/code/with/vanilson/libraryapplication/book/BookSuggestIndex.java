@@ -0,0 +1,473 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.book.BookSuggestion.Field;
+import code.with.vanilson.libraryapplication.common.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * BookSuggestIndex - typeahead completions over titles and authors, kept in a radix trie.
+ * <p>
+ * Each title and author is normalized like {@link BookSearchIndex} does and inserted under the whole phrase and
+ * under every word start, so "mart" completes "Robert Martin". Edges carry whole label strings and children are
+ * kept in sorted arrays, so a node costs a handful of references. Every node caches its best
+ * {@value #MAX_LIMIT} completions by borrow count, which makes a lookup one walk down the prefix with no
+ * subtree scan. Writers are serialized and publish new arrays instead of mutating them, so readers never block.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class BookSuggestIndex {
+
+    static final int DEFAULT_LIMIT = 5;
+    static final int MAX_LIMIT = 10;
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Comparator<Entry> BY_POPULARITY = Comparator.comparingLong((Entry entry) -> entry.popularity)
+            .reversed()
+            .thenComparing(entry -> entry.phrase)
+            .thenComparing(entry -> entry.field);
+
+    private final BookRepository bookRepository;
+    private final Node root = new Node("");
+    private final ConcurrentMap<Long, IndexedBook> documents = new ConcurrentHashMap<>();
+    // Distinct title/author phrases; guarded by this
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public BookSuggestIndex(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    private record IndexedBook(Long id, String title, String author, long borrowCount) {
+    }
+
+    /**
+     * One completion. Books sharing a title or an author share the entry, and their checkouts add up.
+     */
+    private static final class Entry {
+        private final String text;
+        private final Field field;
+        private final String phrase;
+        private volatile long popularity;
+        private int books;
+
+        private Entry(String text, Field field, String phrase, long popularity) {
+            this.text = text;
+            this.field = field;
+            this.phrase = phrase;
+            this.popularity = popularity;
+            this.books = 1;
+        }
+
+        private BookSuggestion toSuggestion() {
+            return new BookSuggestion(text, field, popularity);
+        }
+    }
+
+    /**
+     * A trie node. The label is the edge leading into it; the arrays are replaced, never written in place.
+     */
+    private static final class Node {
+        private final String label;
+        private volatile Node[] children = NO_CHILDREN;
+        private volatile Entry[] terminals = NO_ENTRIES;
+        private volatile Entry[] top = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node relabel(String newLabel) {
+            Node node = new Node(newLabel);
+            node.children = children;
+            node.terminals = terminals;
+            node.top = top;
+            return node;
+        }
+    }
+
+    /**
+     * Builds the trie from the catalog at startup, one keyset page at a time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            root.children = NO_CHILDREN;
+            root.terminals = NO_ENTRIES;
+            root.top = NO_ENTRIES;
+            documents.clear();
+            entries.clear();
+        }
+        long cursor = 0;
+        List<Book> books;
+        do {
+            books = bookRepository.findBooksAfter(cursor, null, null, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            books.forEach(book -> put(toDocument(book)));
+            if (!books.isEmpty()) {
+                cursor = books.get(books.size() - 1).getBookId();
+            }
+        } while (books.size() == REBUILD_BATCH_SIZE);
+        log.info("Book suggest index built with {} books and {} completions in {} ms",
+                documents.size(), entries.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Adds or replaces a book, or picks up its new borrow count, once the current transaction commits.
+     *
+     * @param book The saved book.
+     */
+    public void index(Book book) {
+        var document = toDocument(book);
+        TransactionUtils.afterCommit(() -> put(document));
+    }
+
+    /**
+     * Counts one more checkout of a book once the current transaction commits, for writers that do not reload it.
+     *
+     * @param bookId The ID of the borrowed book.
+     */
+    public void recordBorrow(Long bookId) {
+        TransactionUtils.afterCommit(() -> bump(bookId));
+    }
+
+    /**
+     * Removes a book once the current transaction commits.
+     *
+     * @param bookId The ID of the deleted book.
+     */
+    public void remove(Long bookId) {
+        TransactionUtils.afterCommit(() -> evict(bookId));
+    }
+
+    /**
+     * Completes a prefix.
+     *
+     * @param prefix What has been typed so far; case and accents are ignored.
+     * @param limit  Maximum number of completions; defaults to {@value #DEFAULT_LIMIT}, capped at {@value #MAX_LIMIT}.
+     * @return Completions ordered by descending borrow count, then alphabetically.
+     */
+    public List<BookSuggestion> suggest(String prefix, Integer limit) {
+        String key = String.join(" ", BookSearchIndex.tokenize(prefix));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        int maxResults = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        Node node = find(key);
+        if (node == null) {
+            return List.of();
+        }
+        return Arrays.stream(node.top)
+                .limit(maxResults)
+                .map(Entry::toSuggestion)
+                .toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node[] children = node.children;
+            int index = indexOf(children, key.charAt(offset));
+            if (index < 0) {
+                return null;
+            }
+            Node child = children[index];
+            int length = Math.min(child.label.length(), key.length() - offset);
+            if (!key.regionMatches(offset, child.label, 0, length)) {
+                return null;
+            }
+            offset += length;
+            node = child;
+        }
+        return node;
+    }
+
+    private synchronized void put(IndexedBook document) {
+        IndexedBook previous = documents.put(document.id(), document);
+        if (previous != null && Objects.equals(previous.title(), document.title())
+                && Objects.equals(previous.author(), document.author())) {
+            long delta = document.borrowCount() - previous.borrowCount();
+            if (delta != 0) {
+                adjust(entries.get(entryKey(Field.TITLE, phrase(document.title()))), delta);
+                adjust(entries.get(entryKey(Field.AUTHOR, phrase(document.author()))), delta);
+            }
+            return;
+        }
+        if (previous != null) {
+            release(Field.TITLE, previous.title(), previous.borrowCount());
+            release(Field.AUTHOR, previous.author(), previous.borrowCount());
+        }
+        acquire(Field.TITLE, document.title(), document.borrowCount());
+        acquire(Field.AUTHOR, document.author(), document.borrowCount());
+    }
+
+    private synchronized void bump(Long bookId) {
+        IndexedBook previous = documents.get(bookId);
+        if (previous != null) {
+            put(new IndexedBook(bookId, previous.title(), previous.author(), previous.borrowCount() + 1));
+        }
+    }
+
+    private synchronized void evict(Long bookId) {
+        IndexedBook previous = documents.remove(bookId);
+        if (previous != null) {
+            release(Field.TITLE, previous.title(), previous.borrowCount());
+            release(Field.AUTHOR, previous.author(), previous.borrowCount());
+        }
+    }
+
+    private void acquire(Field field, String text, long borrowCount) {
+        String phrase = phrase(text);
+        if (phrase.isEmpty()) {
+            return;
+        }
+        Entry entry = entries.get(entryKey(field, phrase));
+        if (entry != null) {
+            entry.books++;
+            adjust(entry, borrowCount);
+            return;
+        }
+        Entry created = new Entry(text, field, phrase, borrowCount);
+        entries.put(entryKey(field, phrase), created);
+        keys(phrase).forEach(key -> attach(root, key, created));
+    }
+
+    private void release(Field field, String text, long borrowCount) {
+        String phrase = phrase(text);
+        Entry entry = entries.get(entryKey(field, phrase));
+        if (entry == null) {
+            return;
+        }
+        if (--entry.books > 0) {
+            adjust(entry, -borrowCount);
+            return;
+        }
+        entries.remove(entryKey(field, phrase));
+        keys(phrase).forEach(key -> detach(root, key, entry));
+    }
+
+    private void adjust(Entry entry, long delta) {
+        if (entry == null || delta == 0) {
+            return;
+        }
+        entry.popularity += delta;
+        keys(entry.phrase).forEach(key -> refresh(root, key, entry, delta > 0));
+    }
+
+    /**
+     * Inserts the entry under {@code rest}, splitting an edge where the key leaves it, and re-ranks the path.
+     */
+    private void attach(Node node, String rest, Entry entry) {
+        if (rest.isEmpty()) {
+            node.terminals = append(node.terminals, entry);
+        } else {
+            Node[] children = node.children;
+            int index = indexOf(children, rest.charAt(0));
+            if (index < 0) {
+                Node leaf = new Node(rest);
+                attach(leaf, "", entry);
+                node.children = insertAt(children, -index - 1, leaf);
+            } else {
+                Node child = children[index];
+                int common = commonPrefixLength(child.label, rest);
+                if (common < child.label.length()) {
+                    // Build the split off to the side and publish it with a single array swap
+                    Node split = new Node(child.label.substring(0, common));
+                    Node tail = child.relabel(child.label.substring(common));
+                    split.children = new Node[]{tail};
+                    split.top = tail.top;
+                    attach(split, rest.substring(common), entry);
+                    node.children = replaceAt(children, index, split);
+                } else {
+                    attach(child, rest.substring(common), entry);
+                }
+            }
+        }
+        node.top = promote(node.top, entry);
+    }
+
+    /**
+     * Removes the entry from under {@code rest}, prunes empty nodes, merges single-child chains and re-ranks the path.
+     */
+    private void detach(Node node, String rest, Entry entry) {
+        if (rest.isEmpty()) {
+            node.terminals = without(node.terminals, entry);
+        } else {
+            Node[] children = node.children;
+            int index = indexOf(children, rest.charAt(0));
+            if (index < 0 || !rest.startsWith(children[index].label)) {
+                return;
+            }
+            Node child = children[index];
+            detach(child, rest.substring(child.label.length()), entry);
+            if (child.terminals.length == 0 && child.children.length == 0) {
+                node.children = removeAt(children, index);
+            } else if (child.terminals.length == 0 && child.children.length == 1) {
+                Node only = child.children[0];
+                node.children = replaceAt(children, index, only.relabel(child.label + only.label));
+            }
+        }
+        if (contains(node.top, entry)) {
+            node.top = rank(node);
+        }
+    }
+
+    /**
+     * Re-ranks every node on the path to {@code rest} after the popularity of the entry changed.
+     */
+    private void refresh(Node node, String rest, Entry entry, boolean increased) {
+        if (!rest.isEmpty()) {
+            Node[] children = node.children;
+            int index = indexOf(children, rest.charAt(0));
+            if (index >= 0 && rest.startsWith(children[index].label)) {
+                refresh(children[index], rest.substring(children[index].label.length()), entry, increased);
+            }
+        }
+        if (increased) {
+            node.top = promote(node.top, entry);
+        } else if (contains(node.top, entry)) {
+            node.top = rank(node);
+        }
+    }
+
+    /**
+     * Fits an entry that was just added, or just gained popularity, into a cached ranking without a rescan.
+     */
+    private static Entry[] promote(Entry[] top, Entry entry) {
+        Entry[] ranked;
+        if (contains(top, entry)) {
+            ranked = top.clone();
+        } else if (top.length == MAX_LIMIT && BY_POPULARITY.compare(entry, top[MAX_LIMIT - 1]) > 0) {
+            return top;
+        } else {
+            ranked = append(top, entry);
+        }
+        Arrays.sort(ranked, BY_POPULARITY);
+        return ranked.length > MAX_LIMIT ? Arrays.copyOf(ranked, MAX_LIMIT) : ranked;
+    }
+
+    /**
+     * Rebuilds a cached ranking from the node's own entries and its children's rankings; needed when an entry
+     * that was in it lost popularity or went away.
+     */
+    private static Entry[] rank(Node node) {
+        List<Entry> candidates = new ArrayList<>(Arrays.asList(node.terminals));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        return candidates.stream()
+                .distinct()
+                .sorted(BY_POPULARITY)
+                .limit(MAX_LIMIT)
+                .toArray(Entry[]::new);
+    }
+
+    /**
+     * The whole phrase and every suffix starting at a word boundary.
+     */
+    private static List<String> keys(String phrase) {
+        List<String> keys = new ArrayList<>();
+        keys.add(phrase);
+        for (int i = phrase.indexOf(' '); i >= 0; i = phrase.indexOf(' ', i + 1)) {
+            keys.add(phrase.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private static String phrase(String text) {
+        return String.join(" ", BookSearchIndex.tokenize(text));
+    }
+
+    private static String entryKey(Field field, String phrase) {
+        return field.name() + ':' + phrase;
+    }
+
+    private static int indexOf(Node[] children, char first) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char current = children[middle].label.charAt(0);
+            if (current < first) {
+                low = middle + 1;
+            } else if (current > first) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefixLength(String left, String right) {
+        int length = Math.min(left.length(), right.length());
+        int i = 0;
+        while (i < length && left.charAt(i) == right.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Node[] insertAt(Node[] children, int index, Node child) {
+        Node[] copy = new Node[children.length + 1];
+        System.arraycopy(children, 0, copy, 0, index);
+        copy[index] = child;
+        System.arraycopy(children, index, copy, index + 1, children.length - index);
+        return copy;
+    }
+
+    private static Node[] replaceAt(Node[] children, int index, Node child) {
+        Node[] copy = children.clone();
+        copy[index] = child;
+        return copy;
+    }
+
+    private static Node[] removeAt(Node[] children, int index) {
+        Node[] copy = new Node[children.length - 1];
+        System.arraycopy(children, 0, copy, 0, index);
+        System.arraycopy(children, index + 1, copy, index, children.length - index - 1);
+        return copy;
+    }
+
+    private static boolean contains(Entry[] entries, Entry entry) {
+        for (Entry candidate : entries) {
+            if (candidate == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry[] append(Entry[] terminals, Entry entry) {
+        Entry[] copy = Arrays.copyOf(terminals, terminals.length + 1);
+        copy[terminals.length] = entry;
+        return copy;
+    }
+
+    private static Entry[] without(Entry[] terminals, Entry entry) {
+        return Arrays.stream(terminals)
+                .filter(terminal -> terminal != entry)
+                .toArray(Entry[]::new);
+    }
+
+    private static IndexedBook toDocument(Book book) {
+        return new IndexedBook(book.getBookId(), book.getTitle(), book.getAuthor(), book.getBorrowCount());
+    }
+}
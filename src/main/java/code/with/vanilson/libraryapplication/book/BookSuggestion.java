@@ -0,0 +1,19 @@
+package code.with.vanilson.libraryapplication.book;
+
+/**
+ * BookSuggestion - a typeahead completion for a title or an author, served from {@link BookSuggestIndex}
+ *
+ * @param text       The title or author as stored in the catalog.
+ * @param field      Whether the completion is a title or an author.
+ * @param popularity Lifetime checkouts of the matching books.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookSuggestion(String text, Field field, long popularity) {
+
+    public enum Field {
+        TITLE,
+        AUTHOR
+    }
+}
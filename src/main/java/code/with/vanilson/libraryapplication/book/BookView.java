@@ -0,0 +1,53 @@
+package code.with.vanilson.libraryapplication.book;
+
+import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
+import code.with.vanilson.libraryapplication.member.MemberResponse;
+
+import java.util.Set;
+
+/**
+ * BookView - the columns of a book that listings show, read without loading the entity
+ *
+ * @param bookId          The ID of the book.
+ * @param title           The title.
+ * @param author          The author.
+ * @param isbn            The ISBN.
+ * @param genre           The genre.
+ * @param publisherName   The publisher.
+ * @param publisherYear   The year of publication.
+ * @param status          The status of the title.
+ * @param totalCopies     Copies owned.
+ * @param availableCopies Copies on the shelf.
+ * @param version         The version, the ETag of the book.
+ * @param librarianId     The ID of the librarian managing the book, resolved separately.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record BookView(Long bookId, String title, String author, String isbn, String genre, String publisherName,
+                       Integer publisherYear, BookStatus status, int totalCopies, int availableCopies, Long version,
+                       Long librarianId) {
+
+    /**
+     * @param librarian The librarian managing the book.
+     * @param members   The borrowers of the book.
+     * @return The same response {@link BookMapper#mapToBookResponse(Book)} builds from the entity.
+     */
+    public BookResponse toResponse(LibrarianResponse librarian, Set<MemberResponse> members) {
+        return BookResponse.builder()
+                .id(bookId)
+                .title(title)
+                .author(author)
+                .isbn(isbn)
+                .genre(genre)
+                .publisherName(publisherName)
+                .publisherYear(publisherYear)
+                .status(status)
+                .totalCopies(totalCopies)
+                .availableCopies(availableCopies)
+                .librarian(librarian)
+                .members(members)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package code.with.vanilson.libraryapplication.book;
+
+import java.util.Set;
+
+/**
+ * HoldStatus - lifecycle of a {@link BookHold}
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum HoldStatus {
+    WAITING, // in the queue for the next returned copy
+    READY, // a copy is set aside for the member until the hold expires
+    FULFILLED, // the member borrowed the copy set aside for them
+    CANCELLED,
+    EXPIRED; // the member did not pick up the copy in time
+
+    public static final Set<HoldStatus> ACTIVE = Set.of(WAITING, READY);
+}
@@ -18,6 +18,17 @@ public interface IBookService {
      */
     List<BookResponse> getAllBooks();
 
+    /**
+     * Get one keyset page of books ordered by ID
+     *
+     * @param cursor ID of the last book of the previous page, {@code null} for the first page
+     * @param size   requested page size, clamped to a bounded maximum
+     * @param status optional status filter
+     * @param genre  optional genre filter
+     * @return BookPageResponse containing the page and the cursor for the next one
+     */
+    BookPageResponse getBooksPage(Long cursor, Integer size, BookStatus status, String genre);
+
     /**
      * Get a book by its ID
      *
@@ -26,6 +37,14 @@ public interface IBookService {
      */
     BookResponse getBookById(Long id);
 
+    /**
+     * Get the version of a book, which is the ETag of its representation
+     *
+     * @param id ID of the book
+     * @return the current version
+     */
+    long getBookVersion(Long id);
+
     /**
      * Get a book by its title
      *
@@ -50,6 +69,14 @@ public interface IBookService {
      */
     BookResponse getBookByIsbn(String isbn);
 
+    /**
+     * Get the ID of a book by its isbn
+     *
+     * @param isbn isbn of the book
+     * @return the ID of the book
+     */
+    long getBookIdByIsbn(String isbn);
+
     /**
      * Get a book by its genre
      *
@@ -73,7 +100,19 @@ public interface IBookService {
      * @param bookId      ID of the book to be updated
      * @return Updated BookResponse
      */
-    BookResponse updateBook(BookRequest bookRequest, Long bookId);
+    default BookResponse updateBook(BookRequest bookRequest, Long bookId) {
+        return updateBook(bookRequest, bookId, null);
+    }
+
+    /**
+     * Update an existing book if it is still at the version the client read
+     *
+     * @param bookRequest Book object to be updated with new information
+     * @param bookId      ID of the book to be updated
+     * @param ifMatch     If-Match header of the request; {@code null} skips the check
+     * @return Updated BookResponse
+     */
+    BookResponse updateBook(BookRequest bookRequest, Long bookId, String ifMatch);
 
     /**
      * Delete a book
@@ -110,4 +149,47 @@ public interface IBookService {
      * @return Updated {@link BookResponse} after the book is returned.
      */
     BookResponse returnBook(Long bookId, Long memberId, Long librarianId);
+
+    /**
+     * Adds a physical copy to the stock of a book
+     *
+     * @param bookId      ID of the book
+     * @param copyRequest barcode and branch of the new copy
+     * @return Updated BookResponse with the new stock counters
+     */
+    BookResponse addCopy(Long bookId, BookCopyRequest copyRequest);
+
+    /**
+     * Searches the catalog by title, author, publisher and genre
+     *
+     * @param query free text, the last word may be partial
+     * @param limit maximum number of hits, optional
+     * @return ranked hits, best first
+     */
+    List<BookSearchResult> searchBooks(String query, Integer limit);
+
+    /**
+     * Completes a partially typed title or author
+     *
+     * @param prefix what has been typed so far
+     * @param limit  maximum number of completions, optional
+     * @return completions, most borrowed first
+     */
+    List<BookSuggestion> suggestBooks(String prefix, Integer limit);
+
+    /**
+     * Borrows several books for one member in one transaction
+     *
+     * @param request member, librarian and book IDs
+     * @return the outcome of every book; one unavailable book does not fail the others
+     */
+    BookCirculationResponse borrowBooks(BookCirculationRequest request);
+
+    /**
+     * Returns several books for one member in one transaction
+     *
+     * @param request member, librarian and book IDs
+     * @return the outcome of every book; one failed return does not fail the others
+     */
+    BookCirculationResponse returnBooks(BookCirculationRequest request);
 }
@@ -0,0 +1,61 @@
+package code.with.vanilson.libraryapplication.book;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Loan - one checkout of a book by a member, kept after the return as circulation history
+ * <p>
+ * Rows are inserted by the borrow and closed by the return, in the same transaction as the availability update;
+ * they are never deleted or reopened. A loan is open while {@code returnedAt} is {@code null}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Table(name = "loans")
+@Entity(name = "Loan")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+public class Loan implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "loan_id", nullable = false, unique = true)
+    private Long loanId;
+
+    // Plain IDs: loans are written by the circulation statements and scanned by index, never navigated
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "librarian_id")
+    private Long librarianId;
+
+    @Column(name = "checked_out_at", nullable = false)
+    private LocalDateTime checkedOutAt;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "returned_at")
+    private LocalDateTime returnedAt;
+
+    @Column(name = "return_librarian_id")
+    private Long returnLibrarianId;
+}
@@ -0,0 +1,72 @@
+package code.with.vanilson.libraryapplication.book;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LoanRepository
+ * <p>
+ * Loans are only ever inserted and closed; the batched versions for baskets live in
+ * {@link BookCirculationRepository}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public interface LoanRepository extends JpaRepository<Loan, Long> {
+
+    /**
+     * Closes the open loan of a member on a book.
+     *
+     * @return {@code 1} if an open loan was closed, {@code 0} if there was none
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Loan l SET l.returnedAt = :now, l.returnLibrarianId = :librarianId "
+            + "WHERE l.bookId = :bookId AND l.memberId = :memberId AND l.returnedAt IS NULL")
+    int closeLoan(@Param("bookId") Long bookId,
+                  @Param("memberId") Long memberId,
+                  @Param("librarianId") Long librarianId,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * One keyset page of open loans due before a day, by due date; a range scan on {@code idx_loans_open_due}.
+     *
+     * @param day      Loans due strictly before this day are returned.
+     * @param afterDue Due date of the last loan of the previous page; {@link LocalDate#EPOCH} for the first page.
+     * @param afterId  ID of the last loan of the previous page; {@code 0} for the first page.
+     * @param pageable Only the page size is used.
+     */
+    @Query("SELECT l FROM Loan l "
+            + "WHERE l.returnedAt IS NULL "
+            + "AND l.dueDate < :day "
+            + "AND (l.dueDate > :afterDue OR (l.dueDate = :afterDue AND l.loanId > :afterId)) "
+            + "ORDER BY l.dueDate ASC, l.loanId ASC")
+    List<Loan> findOpenLoansDueBefore(@Param("day") LocalDate day,
+                                      @Param("afterDue") LocalDate afterDue,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    /**
+     * The loan history of a member, newest first; a range scan on {@code idx_loans_member}.
+     */
+    List<Loan> findByMemberIdOrderByLoanIdDesc(Long memberId, Pageable pageable);
+
+    /**
+     * Whether the book has any loan history, open or closed; a lookup on {@code idx_loans_borrower}.
+     */
+    boolean existsByBookId(Long bookId);
+
+    /**
+     * Whether the member has any loan history, open or closed; a lookup on {@code idx_loans_member}.
+     */
+    boolean existsByMemberId(Long memberId);
+}
@@ -0,0 +1,18 @@
+package code.with.vanilson.libraryapplication.common.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * ResourcePreconditionFailedException - an {@code If-Match} precondition did not hold.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class ResourcePreconditionFailedException extends RuntimeException {
+    public ResourcePreconditionFailedException(String message) {
+        super(message);
+    }
+}
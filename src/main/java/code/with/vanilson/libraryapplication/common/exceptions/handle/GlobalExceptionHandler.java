@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -103,6 +104,46 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handles and responds to ResourcePreconditionFailedException exceptions.
+     * This exception is thrown when the {@code If-Match} header of a write no longer matches the resource.
+     *
+     * @param ex      The ResourcePreconditionFailedException that occurred.
+     * @param request The HTTP request that triggered the exception.
+     * @return A ResponseEntity containing an ErrorResponse object and an HTTP status of 412 (Precondition Failed).
+     */
+    @ExceptionHandler(ResourcePreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(ResourcePreconditionFailedException ex,
+                                                                           HttpServletRequest request) {
+        var path = request.getRequestURI();
+        return buildErrorResponse(
+                ex.getMessage(),
+                HttpStatus.PRECONDITION_FAILED,
+                path
+        );
+    }
+
+    /**
+     * Handles and responds to OptimisticLockingFailureException exceptions.
+     * This exception is thrown when another request updated the same row between the read and the write.
+     *
+     * @param ex      The OptimisticLockingFailureException that occurred.
+     * @param request The HTTP request that triggered the exception.
+     * @return A ResponseEntity containing an ErrorResponse object and an HTTP status of 409 (Conflict).
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                                                                        HttpServletRequest request) {
+        var path = request.getRequestURI();
+        return buildErrorResponse(
+                messageSource.getMessage("library.resource.concurrent_update", null, Locale.getDefault()),
+                HttpStatus.CONFLICT,
+                path
+        );
+    }
+
     /**
      * Handles and responds to ResourceInternalServerErrorException exceptions.
      * This exception is thrown when an internal server error occurs during processing a request.
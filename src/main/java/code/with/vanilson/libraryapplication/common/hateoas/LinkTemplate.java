@@ -0,0 +1,143 @@
+package code.with.vanilson.libraryapplication.common.hateoas;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LinkTemplate - the URI template of a controller method, resolved once and expanded by string concatenation.
+ * <p>
+ * {@code linkTo(methodOn(...))} builds a CGLIB proxy, records the invocation and walks the request mappings by
+ * reflection on every call, which adds up when two links are attached to every row of a listing. A template
+ * reads the mappings once, at class initialisation; expanding it appends the literal parts and the encoded
+ * variables to the base URI of the request, which is resolved once per request by {@link #currentBaseUri()}.
+ * The hrefs are the ones {@code linkTo} produces, so the {@code _links} of a response do not change.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LinkTemplate {
+
+    private final String template;
+    private final String[] literals;
+
+    private LinkTemplate(String template) {
+        this.template = template;
+        this.literals = split(template);
+    }
+
+    /**
+     * Resolves the mapping of a controller method: the path of the controller joined with the path of the method.
+     *
+     * @param controller     The controller class.
+     * @param methodName     The name of the handler method.
+     * @param parameterTypes The parameter types of the handler method.
+     * @return The template, e.g. {@code /api/books/{bookId}}.
+     * @throws IllegalStateException if the method does not exist, so a renamed handler fails at startup.
+     */
+    public static LinkTemplate of(Class<?> controller, String methodName, Class<?>... parameterTypes) {
+        Method method = ReflectionUtils.findMethod(controller, methodName, parameterTypes);
+        if (method == null) {
+            throw new IllegalStateException("No handler method " + controller.getSimpleName() + "." + methodName);
+        }
+        return new LinkTemplate(join(path(AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class)),
+                path(AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class))));
+    }
+
+    /**
+     * @return The scheme, host, port, context path and servlet mapping of the current request, e.g.
+     * {@code http://localhost:8080}; the same base {@code linkTo} starts from.
+     * @throws IllegalStateException if no request is bound to the current thread.
+     */
+    public static String currentBaseUri() {
+        return ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+    }
+
+    /**
+     * @param baseUri The base URI of the request, see {@link #currentBaseUri()}.
+     * @param values  The values of the template variables, in order of appearance.
+     * @return The absolute URI with every value encoded as a path segment.
+     * @throws IllegalArgumentException if the number of values does not match the template.
+     */
+    public String expand(String baseUri, Object... values) {
+        if (values.length != literals.length - 1) {
+            throw new IllegalArgumentException("Template " + template + " expects " + (literals.length - 1)
+                    + " values, got " + values.length);
+        }
+        StringBuilder uri = new StringBuilder(baseUri.length() + template.length() + 16).append(baseUri);
+        for (int i = 0; i < values.length; i++) {
+            uri.append(literals[i])
+                    .append(UriUtils.encodePathSegment(String.valueOf(values[i]), StandardCharsets.UTF_8));
+        }
+        return uri.append(literals[values.length]).toString();
+    }
+
+    /**
+     * @param baseUri The base URI of the request, see {@link #currentBaseUri()}.
+     * @param rel     The relation of the link.
+     * @param values  The values of the template variables, in order of appearance.
+     * @return The expanded link.
+     */
+    public Link toLink(String baseUri, LinkRelation rel, Object... values) {
+        return Link.of(expand(baseUri, values), rel);
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    // Helper Methods
+
+    private static String path(RequestMapping mapping) {
+        return mapping == null || mapping.path().length == 0 ? "" : mapping.path()[0];
+    }
+
+    private static String join(String typePath, String methodPath) {
+        String joined = typePath.endsWith("/") && methodPath.startsWith("/")
+                ? typePath + methodPath.substring(1)
+                : typePath + methodPath;
+        return joined.isEmpty() || joined.startsWith("/") ? joined : "/" + joined;
+    }
+
+    /**
+     * Splits a template into the literal parts around its variables; {@code /a/{x}/b} gives {@code /a/} and
+     * {@code /b}. A regular expression after the variable name, as in {@code {id:\d+}}, is dropped.
+     */
+    private static String[] split(String template) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = closingBrace(template, open);
+            parts.add(template.substring(start, open));
+            start = close + 1;
+            open = template.indexOf('{', start);
+        }
+        parts.add(template.substring(start));
+        return parts.toArray(String[]::new);
+    }
+
+    private static int closingBrace(String template, int open) {
+        int depth = 0;
+        for (int i = open; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unbalanced braces in mapping " + template);
+    }
+}
@@ -77,6 +77,8 @@ public class HeaderConstants {
     public static final String X_ADMIN_NAME = "X-Admin-Name";
     public static final String X_ADMIN_EMAIL = "X-Admin-Email";
     public static final String X_ADMIN_CODE = "X-Admin-Code";
+    public static final String X_RATE_LIMIT_LIMIT = "X-RateLimit-Limit";
+    public static final String X_RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
 
 
     // Common values
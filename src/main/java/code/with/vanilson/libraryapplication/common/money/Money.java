@@ -0,0 +1,112 @@
+package code.with.vanilson.libraryapplication.common.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Money - an amount in whole cents, the scale of the {@code DECIMAL(.., 2)} money columns.
+ * <p>
+ * Sums and differences of cents are exact, so balances built from many fines never drift the way {@code double}
+ * does, and the arithmetic is a {@code long} operation instead of a {@link BigDecimal} allocation. Loops over many
+ * amounts, such as the nightly accrual, work on the raw cents with the static helpers and only wrap or convert at
+ * the edges. {@link BigDecimal} is only used to cross JSON and JDBC, where it is exact.
+ *
+ * @param cents The amount in cents.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * @param amount An amount with at most two decimals, e.g. {@code 12.50}.
+     * @throws IllegalArgumentException if the amount has fractions of a cent or does not fit in cents.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        return ofCents(toCents(amount));
+    }
+
+    /**
+     * @param amount An amount such as {@code "12.50"}; the form used in configuration.
+     * @throws IllegalArgumentException if the amount is not a number, has fractions of a cent or does not fit.
+     */
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount.trim()));
+    }
+
+    /**
+     * @return The cents of an amount; {@code 12.5} gives {@code 1250}.
+     * @throws IllegalArgumentException if the amount has fractions of a cent or does not fit in cents.
+     */
+    public static long toCents(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Not a whole number of cents: " + amount, e);
+        }
+    }
+
+    /**
+     * @return The amount of some cents with two decimals; {@code 1250} gives {@code 12.50}.
+     */
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    public Money min(Money other) {
+        return cents <= other.cents ? this : other;
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    /**
+     * @return The amount with two decimals; also how it is written to JSON.
+     */
+    @JsonValue
+    public BigDecimal toDecimal() {
+        return toDecimal(cents);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toDecimal().toPlainString();
+    }
+}
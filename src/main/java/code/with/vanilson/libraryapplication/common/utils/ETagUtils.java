@@ -0,0 +1,57 @@
+package code.with.vanilson.libraryapplication.common.utils;
+
+import code.with.vanilson.libraryapplication.common.exceptions.ResourcePreconditionFailedException;
+
+import java.text.MessageFormat;
+
+/**
+ * ETagUtils - entity tags built from the {@code @Version} column of an entity.
+ * <p>
+ * Every write of a row bumps its version, so the quoted version is a strong validator of the entity's own fields.
+ * Embedded summaries of related resources are not part of it; they are revalidated through their own URLs.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ETagUtils {
+
+    private static final String ANY = "*";
+
+    private ETagUtils() {
+        // utility class
+    }
+
+    /**
+     * @param version The version of the entity.
+     * @return The strong entity tag, e.g. {@code "3"}.
+     */
+    public static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Checks an {@code If-Match} header against the current version, using the strong comparison of RFC 9110:
+     * weak tags never match.
+     *
+     * @param ifMatch  The header value; {@code null} or blank means the client sent no precondition.
+     * @param version  The current version of the entity.
+     * @param resource The resource name used in the error message.
+     * @param id       The ID of the entity.
+     * @throws ResourcePreconditionFailedException if none of the listed tags is the current one.
+     */
+    public static void requireMatch(String ifMatch, Long version, String resource, Object id) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+        String current = toETag(version);
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (ANY.equals(candidate) || current.equals(candidate)) {
+                return;
+            }
+        }
+        throw new ResourcePreconditionFailedException(MessageFormat.format(
+                MessageProvider.getMessage("library.resource.precondition_failed"), resource, id, current));
+    }
+}
@@ -1,5 +1,8 @@
 package code.with.vanilson.libraryapplication.common.utils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * StringUtils
  *
@@ -194,6 +197,49 @@ public class StringUtils {
         return str.contains(sequence);
     }
 
+    // Splits one CSV line into fields; double quotes enclose separators and "" is an escaped quote
+    public static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Quotes a CSV field when it holds a separator, a quote or a line break; the reverse of splitCsvLine
+    public static String toCsvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
     private StringUtils() {
         throw new AssertionError("No instances allowed");
     }
@@ -0,0 +1,38 @@
+package code.with.vanilson.libraryapplication.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TransactionUtils
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class TransactionUtils {
+
+    private TransactionUtils() {
+        // utility class
+    }
+
+    /**
+     * Runs the action once the current transaction has committed, or immediately when no transaction is active.
+     * Used to keep in-memory structures in line with what is actually stored, so a rolled back write
+     * never leaks into them.
+     *
+     * @param action The action to run.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
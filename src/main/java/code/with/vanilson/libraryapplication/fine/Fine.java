@@ -1,6 +1,8 @@
 package code.with.vanilson.libraryapplication.fine;
 
 import code.with.vanilson.libraryapplication.admin.Admin;
+import code.with.vanilson.libraryapplication.common.money.Money;
+import code.with.vanilson.libraryapplication.common.money.MoneyConverter;
 import code.with.vanilson.libraryapplication.librarian.Librarian;
 import code.with.vanilson.libraryapplication.member.Member;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -35,8 +37,9 @@ public class Fine {
     @Column(name = "fine_id", nullable = false, unique = true)
     private Long id;
 
-    @Column(nullable = false)
-    private double amount;
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 10, scale = 2)
+    private Money amount;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate issueDate;
@@ -47,6 +50,19 @@ public class Fine {
     @Column(name = "is_paid")
     private Boolean isPaid;
 
+    // The loan the fine was accrued for by FineAccrualService; null for fines applied by hand
+    @Column(name = "loan_id", unique = true)
+    private Long loanId;
+
+    // Last day FineAccrualService charged the fine
+    @Column(name = "accrued_on")
+    private LocalDate accruedOn;
+
+    // Bumped by every update; also the ETag of the fine
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -59,7 +75,7 @@ public class Fine {
     @JoinColumn(name = "admin_id", nullable = false)
     private Admin admin;
 
-    public Fine(double amount, LocalDate issueDate, LocalDate dueDate, Boolean isPaid, Member member,
+    public Fine(Money amount, LocalDate issueDate, LocalDate dueDate, Boolean isPaid, Member member,
                 Librarian librarian,
                 Admin admin) {
         this.amount = amount;
@@ -0,0 +1,160 @@
+package code.with.vanilson.libraryapplication.fine;
+
+import code.with.vanilson.libraryapplication.common.money.Money;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FineAccrualRepository - set-based statements for the nightly accrual of overdue fines.
+ * <p>
+ * Fines use IDENTITY keys, which keep Hibernate from batching inserts, so accruals are written with JDBC batches.
+ * Both statements are conditional on the accrual day, so replaying a chunk changes nothing.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class FineAccrualRepository {
+
+    private static final String UPDATE_ACCRUAL = "UPDATE fines SET "
+            + "amount = :amount, "
+            + "accrued_on = :day, "
+            + "version = version + 1 "
+            + "WHERE loan_id = :loanId AND accrued_on < :day AND is_paid = FALSE";
+
+    private static final String INSERT_ACCRUAL = "INSERT INTO fines "
+            + "(amount, issue_date, due_date, is_paid, member_id, librarian_id, admin_id, loan_id, accrued_on, version) "
+            + "SELECT :amount, CAST(l.checked_out_at AS DATE), l.due_date, FALSE, l.member_id, l.librarian_id, "
+            + "lib.admin_id, l.loan_id, :day, 0 "
+            + "FROM loans l LEFT JOIN librarians lib ON lib.person_id = l.librarian_id "
+            + "WHERE l.loan_id = :loanId "
+            + "AND NOT EXISTS (SELECT 1 FROM fines WHERE loan_id = :loanId)";
+
+    private static final String START_RUN = "INSERT INTO fine_accrual_runs "
+            + "(run_date, last_due_date, last_loan_id, accrued, started_at) "
+            + "SELECT :day, :epoch, 0, 0, :now "
+            + "WHERE NOT EXISTS (SELECT 1 FROM fine_accrual_runs WHERE run_date = :day)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public FineAccrualRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * The amount in cents a loan owes on the accrual day.
+     */
+    public record FineAccrual(long loanId, long amountCents) {
+    }
+
+    /**
+     * The unpaid fine of a loan, in cents, before the accrual of the day raises it.
+     */
+    public record AccruingFine(long loanId, Long memberId, long amountCents) {
+    }
+
+    /**
+     * Where the run of a day stands.
+     *
+     * @param lastDueDate Due date of the last loan of the last committed wave.
+     * @param lastLoanId  ID of the last loan of the last committed wave; {@code 0} before the first.
+     * @param accrued     Fines created or raised so far.
+     * @param finished    Whether the run went through every overdue loan.
+     */
+    public record Checkpoint(LocalDate lastDueDate, long lastLoanId, long accrued, boolean finished) {
+    }
+
+    /**
+     * Creates the checkpoint of the day unless a previous run already did, then reads it.
+     */
+    public Checkpoint startRun(LocalDate day, LocalDateTime now) {
+        var parameters = new MapSqlParameterSource("day", day)
+                .addValue("epoch", LocalDate.EPOCH)
+                .addValue("now", now);
+        jdbcTemplate.update(START_RUN, parameters);
+        return jdbcTemplate.queryForObject("SELECT last_due_date, last_loan_id, accrued, finished_at "
+                        + "FROM fine_accrual_runs WHERE run_date = :day", parameters,
+                (resultSet, row) -> new Checkpoint(resultSet.getObject("last_due_date", LocalDate.class),
+                        resultSet.getLong("last_loan_id"),
+                        resultSet.getLong("accrued"),
+                        resultSet.getObject("finished_at") != null));
+    }
+
+    public void saveCheckpoint(LocalDate day, LocalDate lastDueDate, long lastLoanId, long accrued) {
+        jdbcTemplate.update("UPDATE fine_accrual_runs SET "
+                        + "last_due_date = :lastDueDate, last_loan_id = :lastLoanId, accrued = :accrued "
+                        + "WHERE run_date = :day",
+                new MapSqlParameterSource("day", day)
+                        .addValue("lastDueDate", lastDueDate)
+                        .addValue("lastLoanId", lastLoanId)
+                        .addValue("accrued", accrued));
+    }
+
+    public void finishRun(LocalDate day, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE fine_accrual_runs SET finished_at = :now WHERE run_date = :day",
+                new MapSqlParameterSource("day", day).addValue("now", now));
+    }
+
+    /**
+     * Locks the fines {@link #updateAccruals} is about to raise and reads their amounts, so the balance of their
+     * members can be moved by the exact difference.
+     *
+     * @return the fines by loan ID; loans without an unpaid fine not yet charged on this day are absent
+     */
+    public Map<Long, AccruingFine> lockAccruingFines(Collection<Long> loanIds, LocalDate day) {
+        Map<Long, AccruingFine> fines = new HashMap<>();
+        if (loanIds.isEmpty()) {
+            return fines;
+        }
+        jdbcTemplate.query("SELECT loan_id, member_id, amount FROM fines "
+                        + "WHERE loan_id IN (:loanIds) AND accrued_on < :day AND is_paid = FALSE FOR UPDATE",
+                new MapSqlParameterSource("loanIds", loanIds).addValue("day", day),
+                resultSet -> {
+                    long loanId = resultSet.getLong("loan_id");
+                    fines.put(loanId, new AccruingFine(loanId, resultSet.getObject("member_id", Long.class),
+                            Money.toCents(resultSet.getBigDecimal("amount"))));
+                });
+        return fines;
+    }
+
+    /**
+     * Raises the unpaid fine of each loan to its amount of the day.
+     *
+     * @return per loan, {@code 1} if its fine was raised, {@code 0} if it has none, is paid or was already charged
+     * on this day
+     */
+    public int[] updateAccruals(List<FineAccrual> accruals, LocalDate day) {
+        return batch(UPDATE_ACCRUAL, accruals, day);
+    }
+
+    /**
+     * Issues the first fine of each loan that has none yet.
+     *
+     * @return per loan, {@code 1} if a fine was issued, {@code 0} if the loan already had one
+     */
+    public int[] insertAccruals(List<FineAccrual> accruals, LocalDate day) {
+        return batch(INSERT_ACCRUAL, accruals, day);
+    }
+
+    private int[] batch(String sql, List<FineAccrual> accruals, LocalDate day) {
+        if (accruals.isEmpty()) {
+            return new int[0];
+        }
+        SqlParameterSource[] parameters = accruals.stream()
+                .map(accrual -> new MapSqlParameterSource("loanId", accrual.loanId())
+                        .addValue("amount", Money.toDecimal(accrual.amountCents()))
+                        .addValue("day", day))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(sql, parameters);
+    }
+}
@@ -0,0 +1,208 @@
+package code.with.vanilson.libraryapplication.fine;
+
+import code.with.vanilson.libraryapplication.book.Loan;
+import code.with.vanilson.libraryapplication.book.LoanRepository;
+import code.with.vanilson.libraryapplication.member.MemberBalanceService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FineAccrualService - charges the overdue fines of open loans once a day.
+ * <p>
+ * Overdue open loans are read in keyset chunks on {@code idx_loans_open_due}. A wave of up to
+ * {@code library.fines.accrual-workers} chunks is priced with the rules of {@link FineService} and written by a
+ * bounded pool, each chunk in its own transaction with two JDBC batches. Once the whole wave has committed, the
+ * keyset position of its last loan is saved as the checkpoint of the day; a run that crashed resumes from there.
+ * <p>
+ * Every write is conditional on the accrual day, so a chunk replayed after a crash, or by a second instance, changes
+ * nothing: each loan is charged at most once per day.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class FineAccrualService {
+
+    private final LoanRepository loanRepository;
+    private final FineAccrualRepository fineAccrualRepository;
+    private final MemberBalanceService memberBalanceService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int workers;
+    private final ExecutorService pool;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public FineAccrualService(LoanRepository loanRepository, FineAccrualRepository fineAccrualRepository,
+                              MemberBalanceService memberBalanceService, TransactionTemplate transactionTemplate,
+                              @Value("${library.fines.accrual-chunk-size:1000}") int chunkSize,
+                              @Value("${library.fines.accrual-workers:4}") int workers) {
+        this.loanRepository = loanRepository;
+        this.fineAccrualRepository = fineAccrualRepository;
+        this.memberBalanceService = memberBalanceService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+        AtomicInteger threads = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "fine-accrual-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(cron = "${library.fines.accrual-cron:0 30 1 * * *}")
+    public void accrueOverdueFines() {
+        accrue(LocalDate.now());
+    }
+
+    /**
+     * Charges every loan that is overdue past the grace period on the given day.
+     *
+     * @param day The accrual day.
+     * @return The number of fines issued or raised by this call; {@code 0} if the day was already done or a run is
+     * in progress.
+     */
+    public long accrue(LocalDate day) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Fine accrual for {} skipped, a run is in progress", day);
+            return 0;
+        }
+        try {
+            return run(day);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    // Helper Methods
+
+    private long run(LocalDate day) {
+        var checkpoint = transactionTemplate.execute(status -> fineAccrualRepository.startRun(day, LocalDateTime.now()));
+        if (checkpoint.finished()) {
+            log.info("Fine accrual for {} already finished with {} fines", day, checkpoint.accrued());
+            return 0;
+        }
+        // Chargeable days are the days past the grace period
+        LocalDate dueBefore = day.minusDays(FineService.GRACE_PERIOD_DAYS);
+        LocalDate afterDue = checkpoint.lastDueDate();
+        long afterId = checkpoint.lastLoanId();
+        long accrued = checkpoint.accrued();
+        long accruedNow = 0;
+        log.info("Fine accrual for {} starting after loan ID {} due {}", day, afterId, afterDue);
+
+        while (true) {
+            List<List<Loan>> wave = new ArrayList<>(workers);
+            while (wave.size() < workers) {
+                List<Loan> chunk = loanRepository.findOpenLoansDueBefore(dueBefore, afterDue, afterId,
+                        PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                wave.add(chunk);
+                Loan last = chunk.get(chunk.size() - 1);
+                afterDue = last.getDueDate();
+                afterId = last.getLoanId();
+            }
+            if (wave.isEmpty()) {
+                break;
+            }
+            long waveAccrued = accrueWave(wave, day);
+            accrued += waveAccrued;
+            accruedNow += waveAccrued;
+            LocalDate lastDue = afterDue;
+            long lastId = afterId;
+            long total = accrued;
+            transactionTemplate.executeWithoutResult(status ->
+                    fineAccrualRepository.saveCheckpoint(day, lastDue, lastId, total));
+        }
+        transactionTemplate.executeWithoutResult(status -> fineAccrualRepository.finishRun(day, LocalDateTime.now()));
+        log.info("Fine accrual for {} finished: {} fines issued or raised", day, accrued);
+        return accruedNow;
+    }
+
+    /**
+     * Writes the chunks of a wave in parallel and waits for all of them. A failed chunk fails the run before the
+     * checkpoint moves, so the next run retries the whole wave.
+     */
+    private long accrueWave(List<List<Loan>> wave, LocalDate day) {
+        List<Future<Integer>> results = wave.stream()
+                .map(chunk -> pool.submit(() -> transactionTemplate.execute(status -> accrueChunk(chunk, day))))
+                .toList();
+        long accrued = 0;
+        try {
+            for (Future<Integer> result : results) {
+                accrued += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fine accrual for " + day + " interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fine accrual for " + day + " failed", e.getCause());
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+        return accrued;
+    }
+
+    /**
+     * Raises the fines the loans already have, then issues the missing ones, and moves the balance of each member
+     * by what their fines went up.
+     *
+     * @return The number of fines issued or raised.
+     */
+    private int accrueChunk(List<Loan> chunk, LocalDate day) {
+        List<FineAccrualRepository.FineAccrual> accruals = chunk.stream()
+                .map(loan -> new FineAccrualRepository.FineAccrual(loan.getLoanId(),
+                        FineService.overdueCents(loan.getDueDate(), day)))
+                .toList();
+        var previous = fineAccrualRepository.lockAccruingFines(
+                chunk.stream().map(Loan::getLoanId).toList(), day);
+        int[] updated = fineAccrualRepository.updateAccruals(accruals, day);
+        List<FineAccrualRepository.FineAccrual> missing = new ArrayList<>();
+        List<Long> missingMemberIds = new ArrayList<>();
+        Map<Long, Long> deltas = new HashMap<>();
+        int accrued = 0;
+        for (int i = 0; i < accruals.size(); i++) {
+            var accrual = accruals.get(i);
+            if (updated[i] == 0) {
+                missing.add(accrual);
+                missingMemberIds.add(chunk.get(i).getMemberId());
+            } else {
+                var fine = previous.get(accrual.loanId());
+                deltas.merge(fine.memberId(), accrual.amountCents() - fine.amountCents(), Long::sum);
+                accrued++;
+            }
+        }
+        int[] inserted = fineAccrualRepository.insertAccruals(missing, day);
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] > 0) {
+                deltas.merge(missingMemberIds.get(i), missing.get(i).amountCents(), Long::sum);
+                accrued++;
+            }
+        }
+        memberBalanceService.adjust(deltas);
+        return accrued;
+    }
+}
@@ -1,17 +1,23 @@
 package code.with.vanilson.libraryapplication.fine;
 
+import code.with.vanilson.libraryapplication.common.hateoas.LinkTemplate;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.time.LocalDate;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * FineController
  *
@@ -25,6 +31,10 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 public class FineController {
 
     public static final String FINES = "fines";
+    private static final LinkRelation FINES_REL = LinkRelation.of(FINES);
+    private static final LinkTemplate FINE_LINK =
+            LinkTemplate.of(FineController.class, "getFineById", Long.class, WebRequest.class);
+    private static final LinkTemplate FINES_LINK = LinkTemplate.of(FineController.class, "getAllFines");
     private final FineService fineService;
 
     public FineController(FineService fineService) {
@@ -36,27 +46,90 @@ public class FineController {
     public ResponseEntity<List<FineResponse>> getAllFines() {
         log.info("Fetching all fines");
         List<FineResponse> fines = fineService.getAllFines();
-        // Add HATEOAS links to each member response
-        fines.forEach(fine -> {
-            fine.add(linkTo(methodOn(FineController.class).getFineById(fine.getId())).withSelfRel());
-            fine.add(linkTo(methodOn(FineController.class).getAllFines()).withRel(FINES));
-        });
+        // Add HATEOAS links to each fine response
+        addLinks(fines);
         return ResponseEntity.ok(fines);
     }
 
-    // Retrieve fine by ID
+    /**
+     * Retrieves one keyset page of the fines matching the filters, ordered by ID.
+     *
+     * @param cursor      The ID of the last fine of the previous page; omit it for the first page.
+     * @param size        The page size, capped by the service.
+     * @param memberId    Optional member filter.
+     * @param librarianId Optional librarian filter.
+     * @param paid        Optional status filter.
+     * @param dueFrom     Optional first due date, inclusive.
+     * @param dueTo       Optional last due date, inclusive.
+     * @return A ResponseEntity containing the page, with {@code self} and {@code next} links.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<FinePageResponse> getFinesPage(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "memberId", required = false) Long memberId,
+            @RequestParam(name = "librarianId", required = false) Long librarianId,
+            @RequestParam(name = "paid", required = false) Boolean paid,
+            @RequestParam(name = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate dueFrom,
+            @RequestParam(name = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate dueTo) {
+        log.info("Fetching fines page after cursor {}", cursor);
+        var page = fineService.getFinesPage(cursor, size, new FineFilter(memberId, librarianId, paid, dueFrom, dueTo));
+
+        addLinks(page.getContent());
+        // The filters of the request carry over to the next page, only the cursor moves
+        var self = ServletUriComponentsBuilder.fromCurrentRequest();
+        page.add(Link.of(self.toUriString(), IanaLinkRelations.SELF));
+        if (page.isHasNext()) {
+            page.add(Link.of(self.replaceQueryParam("cursor", page.getNextCursor()).toUriString(),
+                    IanaLinkRelations.NEXT));
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Counts and sums the fines matching the filters, paid and unpaid apart, without reading them.
+     *
+     * @param memberId    Optional member filter.
+     * @param librarianId Optional librarian filter.
+     * @param paid        Optional status filter.
+     * @param dueFrom     Optional first due date, inclusive.
+     * @param dueTo       Optional last due date, inclusive.
+     * @return A ResponseEntity containing the totals.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<FineSummaryResponse> getFineSummary(
+            @RequestParam(name = "memberId", required = false) Long memberId,
+            @RequestParam(name = "librarianId", required = false) Long librarianId,
+            @RequestParam(name = "paid", required = false) Boolean paid,
+            @RequestParam(name = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate dueFrom,
+            @RequestParam(name = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate dueTo) {
+        log.info("Summarizing fines");
+        return ResponseEntity.ok(fineService.getFineSummary(
+                new FineFilter(memberId, librarianId, paid, dueFrom, dueTo)));
+    }
+
+    // Retrieve fine by ID; 304 Not Modified from one version lookup while If-None-Match holds the current ETag
     @GetMapping("/{id}")
-    public ResponseEntity<FineResponse> getFineById(@PathVariable Long id) {
+    public ResponseEntity<FineResponse> getFineById(@PathVariable Long id, WebRequest request) {
         log.info("Fetching fine with ID: {}", id);
+        String eTag = ETagUtils.toETag(fineService.getFineVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
         // Fetch the fine from the service
         FineResponse fineResponse = fineService.getFineById(id);
 
         // Add HATEOAS links to the FineResponse
-        fineResponse.add(linkTo(methodOn(FineController.class).getFineById(id)).withSelfRel());
-        fineResponse.add(linkTo(methodOn(FineController.class).getAllFines()).withRel(FINES));
+        addLinks(fineResponse);
 
-        return ResponseEntity.ok(fineResponse);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(fineResponse.getVersion()))
+                .body(fineResponse);
     }
 
     // Apply a fine
@@ -66,25 +139,28 @@ public class FineController {
         FineResponse fineResponse = fineService.applyFine(fineRequest);
 
         // Add HATEOAS links
-        fineResponse.add(linkTo(methodOn(FineController.class).getFineById(fineResponse.getId())).withSelfRel());
-        fineResponse.add(linkTo(methodOn(FineController.class).getAllFines()).withRel(FINES));
+        addLinks(fineResponse);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(fineResponse);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETagUtils.toETag(fineResponse.getVersion()))
+                .body(fineResponse);
     }
 
-    // Update an existing fine
+    // Update an existing fine; an If-Match that no longer holds fails with 412 Precondition Failed
     @PutMapping("/update-fine/{id}")
     public ResponseEntity<FineResponse> updateFine(
             @PathVariable Long id,
-            @Valid @RequestBody FineRequest fineRequest) {
+            @Valid @RequestBody FineRequest fineRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating fine with ID: {}", id);
-        FineResponse updatedFine = fineService.updateFine(id, fineRequest);
+        FineResponse updatedFine = fineService.updateFine(id, fineRequest, ifMatch);
 
         // Add HATEOAS links
-        updatedFine.add(linkTo(methodOn(FineController.class).getFineById(id)).withSelfRel());
-        updatedFine.add(linkTo(methodOn(FineController.class).getAllFines()).withRel(FINES));
+        addLinks(updatedFine);
 
-        return ResponseEntity.ok(updatedFine);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(updatedFine.getVersion()))
+                .body(updatedFine);
     }
 
     // Delete fine by ID
@@ -94,9 +170,25 @@ public class FineController {
         fineService.deleteFine(id);
         // Add HATEOAS link to the list of all fines
         // Create a base URL for listing fines
-        String allFinesUrl = linkTo(methodOn(FineController.class).getAllFines()).toUri().toString();
+        String allFinesUrl = FINES_LINK.expand(LinkTemplate.currentBaseUri());
         // You can include a location header or return the link in the response body if necessary
         return ResponseEntity.noContent().header(HttpHeaders.LINK, allFinesUrl).build();
     }
 
+    // Adds the self and fines links to a fine
+    private static void addLinks(FineResponse fine) {
+        String baseUri = LinkTemplate.currentBaseUri();
+        fine.add(FINE_LINK.toLink(baseUri, IanaLinkRelations.SELF, fine.getId()));
+        fine.add(FINES_LINK.toLink(baseUri, FINES_REL));
+    }
+
+    // Adds the links to every fine of a listing, resolving the base URI once and sharing the fines link
+    private static void addLinks(List<FineResponse> fines) {
+        String baseUri = LinkTemplate.currentBaseUri();
+        Link finesLink = FINES_LINK.toLink(baseUri, FINES_REL);
+        fines.forEach(fine -> {
+            fine.add(FINE_LINK.toLink(baseUri, IanaLinkRelations.SELF, fine.getId()));
+            fine.add(finesLink);
+        });
+    }
 }
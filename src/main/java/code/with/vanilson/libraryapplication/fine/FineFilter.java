@@ -0,0 +1,18 @@
+package code.with.vanilson.libraryapplication.fine;
+
+import java.time.LocalDate;
+
+/**
+ * FineFilter - the optional filters of a fines query; a {@code null} filter matches every fine.
+ *
+ * @param memberId    Only the fines of this member.
+ * @param librarianId Only the fines issued by this librarian.
+ * @param paid        Only paid ({@code true}) or unpaid ({@code false}) fines.
+ * @param dueFrom     Only fines due on or after this day.
+ * @param dueTo       Only fines due on or before this day.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record FineFilter(Long memberId, Long librarianId, Boolean paid, LocalDate dueFrom, LocalDate dueTo) {
+}
@@ -31,6 +31,7 @@ public class FineMapper {
                 .memberId(mapToMemberResponse(fine.getMember()))
                 .librarianId(mapToLibrarianResponse(fine.getLibrarian()))
                 .adminId(mapToAdminResponse(fine.getAdmin()))
+                .version(fine.getVersion())
                 .build();
     }
 
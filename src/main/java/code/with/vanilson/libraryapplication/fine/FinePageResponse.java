@@ -0,0 +1,24 @@
+package code.with.vanilson.libraryapplication.fine;
+
+import lombok.*;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * FinePageResponse - one keyset page of a fines query
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@Getter
+@Setter
+public class FinePageResponse extends RepresentationModel<FinePageResponse> {
+    private List<FineResponse> content;
+    private int size;
+    private Long nextCursor; // null when this is the last page
+    private boolean hasNext;
+}
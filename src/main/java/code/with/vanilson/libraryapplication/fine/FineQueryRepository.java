@@ -0,0 +1,103 @@
+package code.with.vanilson.libraryapplication.fine;
+
+import code.with.vanilson.libraryapplication.common.money.Money;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * FineQueryRepository - filtered keyset pages and totals of the fines, for the finance dashboards.
+ * <p>
+ * Only the filters that are set end up in the {@code WHERE} clause, so each combination gets a plan that uses the
+ * indexes of {@code V11__CREATE_FINES_QUERY_INDEXES} instead of one catch-all {@code :x IS NULL OR ...} plan. The
+ * totals are summed by the database, grouped by status, and never leave it as rows.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class FineQueryRepository {
+
+    private static final String SELECT_FINES = "SELECT fine_id, amount, issue_date, due_date, is_paid, version, "
+            + "member_id, librarian_id, admin_id FROM fines WHERE fine_id > :cursor";
+
+    private static final String SELECT_TOTALS = "SELECT is_paid, COUNT(*) AS fines, COALESCE(SUM(amount), 0) AS total "
+            + "FROM fines WHERE 1 = 1";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public FineQueryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Keyset page of the fines matching the filter, in ID order.
+     *
+     * @param cursor the last fine ID seen by the client ({@code 0} for the first page)
+     * @param limit  the maximum number of fines
+     */
+    public List<FineView> findPage(FineFilter filter, long cursor, int limit) {
+        var parameters = new MapSqlParameterSource("cursor", cursor).addValue("limit", limit);
+        String sql = SELECT_FINES + where(filter, parameters) + " ORDER BY fine_id LIMIT :limit";
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNum) -> new FineView(
+                resultSet.getLong("fine_id"),
+                Money.of(resultSet.getBigDecimal("amount")),
+                resultSet.getObject("issue_date", LocalDate.class),
+                resultSet.getObject("due_date", LocalDate.class),
+                resultSet.getObject("is_paid", Boolean.class),
+                resultSet.getObject("version", Long.class),
+                resultSet.getObject("member_id", Long.class),
+                resultSet.getObject("librarian_id", Long.class),
+                resultSet.getObject("admin_id", Long.class)));
+    }
+
+    /**
+     * Counts and sums the fines matching the filter; one aggregate query.
+     */
+    public FineSummaryResponse summarize(FineFilter filter) {
+        var parameters = new MapSqlParameterSource();
+        String sql = SELECT_TOTALS + where(filter, parameters) + " GROUP BY is_paid";
+        long[] counts = new long[3];
+        long[] cents = new long[3];
+        jdbcTemplate.query(sql, parameters, resultSet -> {
+            Boolean paid = resultSet.getObject("is_paid", Boolean.class);
+            // Fines without a status only count towards the overall totals
+            int status = paid == null ? 2 : paid ? 0 : 1;
+            counts[status] += resultSet.getLong("fines");
+            cents[status] = Math.addExact(cents[status], Money.toCents(resultSet.getBigDecimal("total")));
+        });
+        return new FineSummaryResponse(counts[0] + counts[1] + counts[2],
+                Money.ofCents(cents[0] + cents[1] + cents[2]),
+                counts[0], Money.ofCents(cents[0]),
+                counts[1], Money.ofCents(cents[1]));
+    }
+
+    private static String where(FineFilter filter, MapSqlParameterSource parameters) {
+        StringBuilder where = new StringBuilder();
+        if (filter.memberId() != null) {
+            where.append(" AND member_id = :memberId");
+            parameters.addValue("memberId", filter.memberId());
+        }
+        if (filter.librarianId() != null) {
+            where.append(" AND librarian_id = :librarianId");
+            parameters.addValue("librarianId", filter.librarianId());
+        }
+        if (filter.paid() != null) {
+            where.append(" AND is_paid = :paid");
+            parameters.addValue("paid", filter.paid());
+        }
+        if (filter.dueFrom() != null) {
+            where.append(" AND due_date >= :dueFrom");
+            parameters.addValue("dueFrom", filter.dueFrom());
+        }
+        if (filter.dueTo() != null) {
+            where.append(" AND due_date <= :dueTo");
+            parameters.addValue("dueTo", filter.dueTo());
+        }
+        return where.toString();
+    }
+}
@@ -2,8 +2,13 @@ package code.with.vanilson.libraryapplication.fine;
 
 import code.with.vanilson.libraryapplication.book.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * BookRepository
  *
@@ -13,4 +18,18 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface FineRepository extends JpaRepository<Fine, Long> {
+    /**
+     * The version alone, so a conditional GET can be answered without loading the fine.
+     */
+    @Query("SELECT f.version FROM Fine f WHERE f.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads every fine as a read-only projection, outside the persistence context; the member, librarian and
+     * admin are left as IDs.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.fine.FineView("
+            + "f.id, f.amount, f.issueDate, f.dueDate, f.isPaid, f.version, m.id, l.id, a.id) "
+            + "FROM Fine f LEFT JOIN f.member m LEFT JOIN f.librarian l LEFT JOIN f.admin a ORDER BY f.id")
+    List<FineView> findAllViews();
 }
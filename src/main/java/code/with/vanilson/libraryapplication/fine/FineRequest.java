@@ -1,9 +1,11 @@
 package code.with.vanilson.libraryapplication.fine;
 
+import code.with.vanilson.libraryapplication.common.money.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
-import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,8 +26,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class FineRequest {
     @NotNull(message = "Amount must not be null")
-    @Positive(message = "Amount must be positive")
-    private double amount;
+    private Money amount;
 
     @Past(message = "Issue date must be in the past")
     private LocalDate issueDate;
@@ -45,4 +46,11 @@ public class FineRequest {
 
     @NotNull(message = "Admin must not be null")
     private Long adminId;
+
+    // @Positive does not apply to Money; a missing amount is reported by @NotNull
+    @JsonIgnore
+    @AssertTrue(message = "Amount must be positive")
+    public boolean isAmountPositive() {
+        return amount == null || amount.isPositive();
+    }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package code.with.vanilson.libraryapplication.fine;
 
 import code.with.vanilson.libraryapplication.admin.AdminResponse;
+import code.with.vanilson.libraryapplication.common.money.Money;
 import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
 import code.with.vanilson.libraryapplication.member.MemberResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -24,11 +26,13 @@ import java.time.LocalDate;
 @Setter
 public class FineResponse extends RepresentationModel<FineResponse> {
     private Long id;
-    private double amount;
+    private Money amount;
     private LocalDate issueDate;
     private LocalDate dueDate;
     private Boolean isPaid;
     private MemberResponse memberId;
     private LibrarianResponse librarianId;
     private AdminResponse adminId;
-}
\ No newline at end of file
+    @JsonIgnore // sent as the ETag header
+    private Long version;
+}
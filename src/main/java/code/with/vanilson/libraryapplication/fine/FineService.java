@@ -2,11 +2,19 @@ package code.with.vanilson.libraryapplication.fine;
 
 import code.with.vanilson.libraryapplication.admin.Admin;
 import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourcePreconditionFailedException;
+import code.with.vanilson.libraryapplication.common.money.Money;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import code.with.vanilson.libraryapplication.librarian.Librarian;
 import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.librarian.StaffDirectory;
 import code.with.vanilson.libraryapplication.member.Member;
+import code.with.vanilson.libraryapplication.member.MemberBalanceService;
 import code.with.vanilson.libraryapplication.member.MemberRepository;
+import code.with.vanilson.libraryapplication.member.MemberResponse;
+import code.with.vanilson.libraryapplication.member.MemberView;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,7 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static code.with.vanilson.libraryapplication.common.utils.MessageProvider.getMessage;
 
@@ -30,6 +42,8 @@ import static code.with.vanilson.libraryapplication.common.utils.MessageProvider
 public class FineService {
 
     public static final String LIBRARY_FINE_NOT_FOUND = "library.fine.not_found";
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
 
     private final FineRepository fineRepository;
 
@@ -39,25 +53,98 @@ public class FineService {
 
     private final AdminRepository adminService;
 
-    private static final long GRACE_PERIOD_DAYS = 3;
-    private static final double FINE_RATE_PER_DAY = 1.0;
-    private static final double MAX_FINE = 50.0;
+    private final StaffDirectory staffDirectory;
+
+    private final MemberBalanceService memberBalanceService;
+
+    private final FineQueryRepository fineQueryRepository;
+
+    static final long GRACE_PERIOD_DAYS = 3;
+    static final long FINE_RATE_PER_DAY_CENTS = 100;
+    static final long MAX_FINE_CENTS = 5_000;
 
     public FineService(FineRepository fineRepository, MemberRepository memberService,
                        LibrarianRepository librarianService,
-                       AdminRepository adminService) {
+                       AdminRepository adminService, StaffDirectory staffDirectory,
+                       MemberBalanceService memberBalanceService, FineQueryRepository fineQueryRepository) {
         this.fineRepository = fineRepository;
         this.memberService = memberService;
         this.librarianService = librarianService;
         this.adminService = adminService;
+        this.staffDirectory = staffDirectory;
+        this.memberBalanceService = memberBalanceService;
+        this.fineQueryRepository = fineQueryRepository;
     }
 
+    /**
+     * Retrieves every fine ever issued; listings and dashboards should use
+     * {@link #getFinesPage(Long, Integer, FineFilter)} and {@link #getFineSummary(FineFilter)}.
+     */
     @Transactional(readOnly = true)
     public List<FineResponse> getAllFines() {
         log.info("Retrieving all fines");
-        return fineRepository.findAll()
-                .stream()
-                .map(FineMapper::toResponse)
+        return toResponses(fineRepository.findAllViews());
+    }
+
+    /**
+     * Retrieves one keyset page of the fines matching a filter.
+     * One extra row is fetched to find out whether a next page exists without a count query.
+     *
+     * @param cursor ID of the last fine of the previous page, {@code null} for the first page.
+     * @param size   requested page size; defaults to {@value #DEFAULT_PAGE_SIZE}, capped at {@value #MAX_PAGE_SIZE}.
+     * @param filter the filters, each optional.
+     * @return FinePageResponse with the fines of the page and the next cursor.
+     * @throws ResourceBadRequestException if the cursor is negative or the due date range is empty.
+     */
+    @Transactional(readOnly = true)
+    public FinePageResponse getFinesPage(Long cursor, Integer size, FineFilter filter) {
+        long after = cursor == null ? 0L : cursor;
+        if (after < 0) {
+            throw resourceBadRequestException("library.fine.invalid_cursor", cursor);
+        }
+        validateFilter(filter);
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        log.info("Retrieving fines after cursor {} (size {}, filter {})", after, pageSize, filter);
+
+        var fines = fineQueryRepository.findPage(filter, after, pageSize + 1);
+        boolean hasNext = fines.size() > pageSize;
+        var pageFines = hasNext ? fines.subList(0, pageSize) : fines;
+        var content = toResponses(pageFines);
+
+        return FinePageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? pageFines.get(pageFines.size() - 1).id() : null)
+                .build();
+    }
+
+    /**
+     * Counts and sums the fines matching a filter, paid and unpaid apart, in one aggregate query.
+     *
+     * @param filter the filters, each optional.
+     * @return The totals.
+     * @throws ResourceBadRequestException if the due date range is empty.
+     */
+    @Transactional(readOnly = true)
+    public FineSummaryResponse getFineSummary(FineFilter filter) {
+        validateFilter(filter);
+        log.info("Summarizing fines (filter {})", filter);
+        return fineQueryRepository.summarize(filter);
+    }
+
+    // Projections: nothing enters the persistence context, each member, librarian and admin is read once
+    private List<FineResponse> toResponses(List<FineView> fines) {
+        var memberIds = StaffDirectory.idsOf(fines, FineView::memberId);
+        Map<Long, MemberResponse> members = memberIds.isEmpty()
+                ? Collections.emptyMap()
+                : memberService.findViewsByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(MemberView::id, member -> member.toResponse(null, null)));
+        var staff = staffDirectory.resolve(StaffDirectory.idsOf(fines, FineView::librarianId),
+                StaffDirectory.idsOf(fines, FineView::adminId));
+        return fines.stream()
+                .map(fine -> fine.toResponse(fine.memberId() == null ? null : members.get(fine.memberId()),
+                        staff.librarian(fine.librarianId()), staff.admin(fine.adminId())))
                 .toList();
     }
 
@@ -72,6 +159,18 @@ public class FineService {
                 });
     }
 
+    /**
+     * @param id The ID of the fine.
+     * @return The current version of the fine, which is the ETag of its representation.
+     * @throws ResourceNotFoundException If a fine with the given ID is not found.
+     */
+    @Transactional(readOnly = true)
+    public long getFineVersion(Long id) {
+        return fineRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        MessageFormat.format(getMessage(LIBRARY_FINE_NOT_FOUND), id)));
+    }
+
     /**
      * Applies a fine to a member for returning a book overdue.
      *
@@ -112,6 +211,7 @@ public class FineService {
 
         // Save fine using repository
         fine = fineRepository.save(fine);
+        memberBalanceService.adjust(member.getId(), owed(fine));
         log.info("Saved Fine entity: {}", fine);
 
         return FineMapper.toResponse(fine);
@@ -125,9 +225,22 @@ public class FineService {
      * @return A FineResponse object representing the updated fine.
      * @throws ResourceNotFoundException If a fine with the given ID is not found.
      */
+    public FineResponse updateFine(Long id, FineRequest request) {
+        return updateFine(id, request, null);
+    }
 
+    /**
+     * Updates an existing fine record if it is still at the version the client read.
+     *
+     * @param id      The unique identifier of the fine to be updated.
+     * @param request The request object containing the updated details for the fine.
+     * @param ifMatch The If-Match header of the request; {@code null} skips the check.
+     * @return A FineResponse object representing the updated fine.
+     * @throws ResourceNotFoundException           If a fine with the given ID is not found.
+     * @throws ResourcePreconditionFailedException If the fine changed since the client read it.
+     */
     @Transactional
-    public FineResponse updateFine(Long id, FineRequest request) {
+    public FineResponse updateFine(Long id, FineRequest request, String ifMatch) {
         log.info("Attempting to update fine with id: {}", id);
 
         // Retrieve entities through repositories to ensure they are managed
@@ -156,6 +269,9 @@ public class FineService {
                     log.error("Fine with id {} not found", id);
                     return new ResourceNotFoundException(LIBRARY_FINE_NOT_FOUND);
                 });
+        ETagUtils.requireMatch(ifMatch, fine.getVersion(), "fine", id);
+        Long previousMemberId = memberIdOf(fine);
+        long previouslyOwed = owed(fine);
 
         // Update fine details
         fine.setAmount(request.getAmount());
@@ -168,6 +284,15 @@ public class FineService {
 
         // Save updated fine
         fine = fineRepository.save(fine);
+        // Flushed so the response carries the bumped version
+        fineRepository.flush();
+        // Covers payment, a new amount and a move to another member alike
+        Map<Long, Long> deltas = new HashMap<>();
+        if (previousMemberId != null) {
+            deltas.merge(previousMemberId, -previouslyOwed, Long::sum);
+        }
+        deltas.merge(member.getId(), owed(fine), Long::sum);
+        memberBalanceService.adjust(deltas);
         log.info("Fine with id {} has been updated successfully", id);
 
         return FineMapper.toResponse(fine);
@@ -185,6 +310,7 @@ public class FineService {
                 });
 
         fineRepository.delete(fine);
+        memberBalanceService.adjust(memberIdOf(fine), -owed(fine));
         log.info("Fine with id {} has been successfully deleted", id);
     }
 
@@ -199,7 +325,7 @@ public class FineService {
      * @return A Fine entity representing the calculated fine.
      */
     // Inside calculateFine() method
-    private Fine calculateFine(LocalDate issueDate, LocalDate dueDate, double amount, Member member,
+    private Fine calculateFine(LocalDate issueDate, LocalDate dueDate, Money amount, Member member,
                                Librarian librarian,
                                Admin admin, Boolean isPaid) {
         Fine fine = new Fine();
@@ -211,10 +337,7 @@ public class FineService {
         fine.setIsPaid(isPaid);
 
         if (LocalDate.now().isAfter(dueDate)) {
-            long daysOverdue = calculateDaysOverdue(dueDate);
-            long chargeableDays = Math.max(0, daysOverdue - GRACE_PERIOD_DAYS);
-            double fineAmount = Math.min(chargeableDays * FINE_RATE_PER_DAY, MAX_FINE);
-            fine.setAmount(fineAmount);
+            fine.setAmount(Money.ofCents(overdueCents(dueDate, LocalDate.now())));
         } else {
             fine.setAmount(amount); // Use the amount from the FineRequest if not overdue
         }
@@ -222,14 +345,52 @@ public class FineService {
         return fine;
     }
 
+    /**
+     * Calculates the fine owed on a day for a book due on another: the per-day rate for every day past the grace
+     * period, capped. Also used by {@link FineAccrualService} for open loans.
+     *
+     * @param dueDate The due date for returning the book.
+     * @param day     The day the fine is calculated for.
+     * @return The amount of the fine in cents; {@code 0} within the grace period.
+     */
+    static long overdueCents(LocalDate dueDate, LocalDate day) {
+        long chargeableDays = Math.max(0, calculateDaysOverdue(dueDate, day) - GRACE_PERIOD_DAYS);
+        // Capped in days first, so the product cannot overflow
+        return Math.min(chargeableDays, MAX_FINE_CENTS / FINE_RATE_PER_DAY_CENTS) * FINE_RATE_PER_DAY_CENTS;
+    }
+
     /**
      * Calculates the number of days overdue for a book based on the due date.
      *
      * @param dueDate The due date for returning the book.
+     * @param day     The day the book is overdue on.
      * @return The number of days overdue. If the due date is in the future, returns 0.
      */
-    private long calculateDaysOverdue(LocalDate dueDate) {
-        return Math.max(0, ChronoUnit.DAYS.between(dueDate, LocalDate.now()));
+    private static long calculateDaysOverdue(LocalDate dueDate, LocalDate day) {
+        return Math.max(0, ChronoUnit.DAYS.between(dueDate, day));
+    }
+
+    /**
+     * @return What the fine adds to the balance of its member, in cents: its amount until it is paid.
+     */
+    private static long owed(Fine fine) {
+        return Boolean.TRUE.equals(fine.getIsPaid()) || fine.getAmount() == null ? 0 : fine.getAmount().cents();
+    }
+
+    private static Long memberIdOf(Fine fine) {
+        return fine.getMember() == null ? null : fine.getMember().getId();
+    }
+
+    private static void validateFilter(FineFilter filter) {
+        if (filter.dueFrom() != null && filter.dueTo() != null && filter.dueFrom().isAfter(filter.dueTo())) {
+            throw resourceBadRequestException("library.fine.invalid_due_range", filter.dueFrom(), filter.dueTo());
+        }
+    }
+
+    private static ResourceBadRequestException resourceBadRequestException(String messageKey, Object... args) {
+        String message = MessageFormat.format(getMessage(messageKey), args);
+        log.error(message);
+        return new ResourceBadRequestException(message);
     }
 
     private static void loggerInfo(Long id) {
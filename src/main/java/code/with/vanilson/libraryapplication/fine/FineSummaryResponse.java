@@ -0,0 +1,20 @@
+package code.with.vanilson.libraryapplication.fine;
+
+import code.with.vanilson.libraryapplication.common.money.Money;
+
+/**
+ * FineSummaryResponse - how many fines a query matches and what they add up to, by status
+ *
+ * @param count       The number of fines.
+ * @param total       The sum of their amounts.
+ * @param paidCount   The number of paid fines.
+ * @param paidTotal   The sum of the paid fines.
+ * @param unpaidCount The number of unpaid fines.
+ * @param unpaidTotal The sum of the unpaid fines.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record FineSummaryResponse(long count, Money total, long paidCount, Money paidTotal, long unpaidCount,
+                                  Money unpaidTotal) {
+}
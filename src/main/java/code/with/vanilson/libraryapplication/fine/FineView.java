@@ -0,0 +1,48 @@
+package code.with.vanilson.libraryapplication.fine;
+
+import code.with.vanilson.libraryapplication.admin.AdminResponse;
+import code.with.vanilson.libraryapplication.common.money.Money;
+import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
+import code.with.vanilson.libraryapplication.member.MemberResponse;
+
+import java.time.LocalDate;
+
+/**
+ * FineView - the columns of a fine that listings show, read without loading the entity
+ *
+ * @param id          The ID of the fine.
+ * @param amount      The amount.
+ * @param issueDate   The day the fine was issued.
+ * @param dueDate     The day the fine is due.
+ * @param isPaid      Whether the fine is paid.
+ * @param version     The version, the ETag of the fine.
+ * @param memberId    The ID of the fined member, resolved separately.
+ * @param librarianId The ID of the librarian who issued the fine, resolved separately.
+ * @param adminId     The ID of the admin of the fine, resolved separately.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record FineView(Long id, Money amount, LocalDate issueDate, LocalDate dueDate, Boolean isPaid, Long version,
+                       Long memberId, Long librarianId, Long adminId) {
+
+    /**
+     * @param member    The fined member.
+     * @param librarian The librarian who issued the fine.
+     * @param admin     The admin of the fine.
+     * @return The same response {@link FineMapper#toResponse(Fine)} builds from the entity.
+     */
+    public FineResponse toResponse(MemberResponse member, LibrarianResponse librarian, AdminResponse admin) {
+        return FineResponse.builder()
+                .id(id)
+                .amount(amount)
+                .issueDate(issueDate)
+                .dueDate(dueDate)
+                .isPaid(isPaid)
+                .memberId(member)
+                .librarianId(librarian)
+                .adminId(admin)
+                .version(version)
+                .build();
+    }
+}
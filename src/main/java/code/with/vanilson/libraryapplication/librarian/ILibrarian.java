@@ -27,6 +27,14 @@ public interface ILibrarian {
      */
     LibrarianResponse getLibrarianById(Long id);
 
+    /**
+     * Get the version of a Librarian, which is the ETag of its representation
+     *
+     * @param id ID of the Librarian
+     * @return the current version
+     */
+    long getLibrarianVersion(Long id);
+
     /**
      * Find a Librarian by email
      *
@@ -52,10 +60,25 @@ public interface ILibrarian {
      *                         updated
      */
 
-    LibrarianResponse updateLibrarian(LibrarianRequest librarianRequest, Long librarianId);
+    default LibrarianResponse updateLibrarian(LibrarianRequest librarianRequest, Long librarianId) {
+        return updateLibrarian(librarianRequest, librarianId, null);
+    }
+
+    /**
+     * Update an existing Librarian if it is still at the version the client read
+     *
+     * @param librarianRequest Librarian object to be updated with new information about the Librarian being updated
+     * @param librarianId      ID of the Librarian to be updated
+     * @param ifMatch          If-Match header of the request; {@code null} skips the check
+     */
+    LibrarianResponse updateLibrarian(LibrarianRequest librarianRequest, Long librarianId, String ifMatch);
     // Patch method to support partial updates of a librarian object.
 
-    LibrarianResponse patchLibrarian(Long librarianId, Map<String, Object> updates);
+    default LibrarianResponse patchLibrarian(Long librarianId, Map<String, Object> updates) {
+        return patchLibrarian(librarianId, updates, null);
+    }
+
+    LibrarianResponse patchLibrarian(Long librarianId, Map<String, Object> updates, String ifMatch);
 
     /**
      * Delete a Librarian
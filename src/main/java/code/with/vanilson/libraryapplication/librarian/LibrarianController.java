@@ -1,14 +1,17 @@
 package code.with.vanilson.libraryapplication.librarian;
 
 import code.with.vanilson.libraryapplication.common.https.HeaderConstants;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.text.MessageFormat;
@@ -60,22 +63,27 @@ public class LibrarianController {
      * This method responds with the details of a specific librarian based on the provided ID.
      *
      * @param id      The unique identifier of the librarian to be retrieved.
-     * @param headers Optional HTTP headers that can be included in the request (not used in this method).
+     * @param request The request, checked for If-None-Match.
      * @return {@link ResponseEntity} containing the {@link LibrarianResponse} with the librarian details and an HTTP status of 200 (OK).
      *
      * <p>
      * This method logs the retrieval request and returns the librarian details wrapped in a {@code ResponseEntity} with an HTTP status of 200.
+     * A request whose If-None-Match still holds the current ETag gets 304 Not Modified from one version lookup,
+     * without the librarian being loaded or mapped.
      * If the specified librarian ID does not exist, an exception should be handled by the global exception handler.
      * </p>
      */
 
     @GetMapping(value = "/{id}")
-    public ResponseEntity<LibrarianResponse> getLibrarianById(@PathVariable Long id,
-                                                              @RequestHeader HttpHeaders headers) {
-        LibrarianResponse librarianResponse = librarianService.getLibrarianById(id); // assuming this service call
+    public ResponseEntity<LibrarianResponse> getLibrarianById(@PathVariable Long id, WebRequest request) {
+        var eTag = ETagUtils.toETag(librarianService.getLibrarianVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        LibrarianResponse librarianResponse = librarianService.getLibrarianById(id);
         log.info("retrieve librarian by id {}", id);
         return ResponseEntity.ok()
-                .headers(headers) // Use headers if necessary
+                .eTag(eTag)
                 .body(librarianResponse);
     }
 
@@ -111,7 +119,6 @@ public class LibrarianController {
         // Return the response entity with the LibrarianResponse object and headers
         return ResponseEntity
                 .created(URI.create("/api/v1/librarians/" + librarianResponse.getId()))
-                .eTag(librarianResponse.getEmployeeCode())
                 .headers(headers)
                 .body(librarianResponse);
     }
@@ -122,18 +129,22 @@ public class LibrarianController {
      *
      * @param librarianId      The ID of the librarian to be updated.
      * @param librarianRequest The full request containing updated librarian details.
+     * @param ifMatch          Optional ETag the librarian must still have; 412 Precondition Failed otherwise.
      * @return LibrarianResponse containing the updated librarian data.
      */
     @PutMapping("/{librarianId}")
     public ResponseEntity<LibrarianResponse> updateLibrarian(
             @PathVariable Long librarianId,
-            @Valid @RequestBody LibrarianRequest librarianRequest) {
+            @Valid @RequestBody LibrarianRequest librarianRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         // Call the service method to update the librarian
-        LibrarianResponse updatedLibrarian = librarianService.updateLibrarian(librarianRequest, librarianId);
+        LibrarianResponse updatedLibrarian = librarianService.updateLibrarian(librarianRequest, librarianId, ifMatch);
 
-        // Return the response with the updated librarian data
-        return ResponseEntity.ok(updatedLibrarian);
+        // Return the response with the updated librarian data and its new ETag
+        return ResponseEntity.ok()
+                .headers(getHttpHeaders(updatedLibrarian))
+                .body(updatedLibrarian);
     }
 
     /**
@@ -141,12 +152,14 @@ public class LibrarianController {
      * Only the provided fields will be updated.
      *
      * @param librarianId The ID of the librarian to be updated.
+     * @param ifMatch     Optional ETag the librarian must still have; 412 Precondition Failed otherwise.
      * @return LibrarianResponse containing the updated librarian data.
      */
     @PatchMapping("/{librarianId}")
     public ResponseEntity<LibrarianResponse> patchLibrarian(
             @PathVariable Long librarianId,
-            @RequestBody Map<String, Object> updates) {
+            @RequestBody Map<String, Object> updates,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Patching librarian with ID {}", librarianId);
 
@@ -154,10 +167,12 @@ public class LibrarianController {
         LibrarianService.validateLibrarianIdIsPositive(librarianId);
 
         // Perform partial update using the provided map of updates
-        LibrarianResponse updatedLibrarian = librarianService.patchLibrarian(librarianId, updates);
+        LibrarianResponse updatedLibrarian = librarianService.patchLibrarian(librarianId, updates, ifMatch);
 
-        // Return the updated librarian response
-        return ResponseEntity.ok(updatedLibrarian);
+        // Return the updated librarian response and its new ETag
+        return ResponseEntity.ok()
+                .headers(getHttpHeaders(updatedLibrarian))
+                .body(updatedLibrarian);
     }
 
     /**
@@ -242,6 +257,9 @@ public class LibrarianController {
             headers.set(HeaderConstants.X_ADMIN_NAME, response.getName());
             headers.set(HeaderConstants.X_ADMIN_EMAIL, response.getEmail());
             headers.set(HeaderConstants.X_ADMIN_CODE, response.getEmployeeCode());
+            if (response.getVersion() != null) {
+                headers.setETag(ETagUtils.toETag(response.getVersion()));
+            }
         }
         return headers;
     }
@@ -49,6 +49,7 @@ public class LibrarianMapper {
                 .contact(librarian.getContact())
                 .employeeCode(librarian.getEmployeeCode())
                 .admin(mapToAdminResponse(librarian.getAdmin())) // Ensure admin is never null
+                .version(librarian.getVersion())
                 .build();
     }
 
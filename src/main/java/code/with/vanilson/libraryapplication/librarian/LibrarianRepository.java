@@ -1,8 +1,12 @@
 package code.with.vanilson.libraryapplication.librarian;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,4 +26,26 @@ public interface LibrarianRepository extends JpaRepository<Librarian, Long> {
     boolean existsLibrarianByContactAndIdNot(String contact, Long librarianId);
 
     boolean existsLibrarianByEmployeeCodeAndIdNot(String employeeCode, Long librarianId);
+
+    /**
+     * The version alone, so a conditional GET can be answered without loading the librarian.
+     */
+    @Query("SELECT l.version FROM Librarian l WHERE l.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads every librarian as a read-only projection, outside the persistence context; the admin is left as an ID.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.librarian.LibrarianView("
+            + "l.id, l.name, l.email, l.address, l.contact, l.employeeCode, l.version, a.id) "
+            + "FROM Librarian l LEFT JOIN l.admin a ORDER BY l.id")
+    List<LibrarianView> findAllViews();
+
+    /**
+     * Reads the librarians embedded in listings as read-only projections; the admin is left as an ID.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.librarian.LibrarianView("
+            + "l.id, l.name, l.email, l.address, l.contact, l.employeeCode, l.version, a.id) "
+            + "FROM Librarian l LEFT JOIN l.admin a WHERE l.id IN :ids")
+    List<LibrarianView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
 }
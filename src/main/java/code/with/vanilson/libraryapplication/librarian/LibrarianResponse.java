@@ -2,6 +2,7 @@ package code.with.vanilson.libraryapplication.librarian;
 
 import code.with.vanilson.libraryapplication.admin.AdminResponse;
 import code.with.vanilson.libraryapplication.person.AddressDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -34,4 +35,7 @@ public class LibrarianResponse extends RepresentationModel<LibrarianResponse> {
     private String employeeCode;
 
     private AdminResponse admin;
+
+    @JsonIgnore // sent as the ETag header
+    private Long version;
 }
@@ -3,9 +3,12 @@ package code.with.vanilson.libraryapplication.librarian;
 import code.with.vanilson.libraryapplication.admin.Admin;
 import code.with.vanilson.libraryapplication.admin.AdminMapper;
 import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.admin.AdminResponse;
+import code.with.vanilson.libraryapplication.admin.AdminView;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import code.with.vanilson.libraryapplication.person.AddressDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -13,8 +16,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static code.with.vanilson.libraryapplication.admin.AdminMapper.mapToAddress;
 import static code.with.vanilson.libraryapplication.common.utils.MessageProvider.getMessage;
@@ -32,6 +37,8 @@ import static code.with.vanilson.libraryapplication.librarian.LibrarianMapper.ma
 public class LibrarianService implements ILibrarian {
 
     public static final String ADMIN = "admin";
+    public static final String LIBRARIAN = "librarian";
+    private static final String LIBRARY_LIBRARIAN_NOT_FOUND = "library.librarian.not_found";
     private final LibrarianRepository librarianRepository;
     private final AdminRepository adminRepository;
 
@@ -44,10 +51,15 @@ public class LibrarianService implements ILibrarian {
     @Override
     public List<LibrarianResponse> getAllLibrarians() {
         log.info("Get all librarians");
-        return librarianRepository
-                .findAll()
-                .stream()
-                .map(LibrarianMapper::mapToLibrarianResponse)
+        // Projections: nothing enters the persistence context, each admin is read and mapped once
+        var librarians = librarianRepository.findAllViews();
+        var adminIds = StaffDirectory.idsOf(librarians, LibrarianView::adminId);
+        Map<Long, AdminResponse> admins = adminIds.isEmpty()
+                ? Collections.emptyMap()
+                : adminRepository.findViewsByIdIn(adminIds).stream()
+                .collect(Collectors.toMap(AdminView::id, AdminView::toResponse));
+        return librarians.stream()
+                .map(librarian -> librarian.toResponse(admins.get(librarian.adminId())))
                 .toList();
     }
 
@@ -58,6 +70,15 @@ public class LibrarianService implements ILibrarian {
         return fetchLibrarianDetailsById(librarianId);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public long getLibrarianVersion(Long librarianId) {
+        validateLibrarianIdIsPositive(librarianId);
+        return librarianRepository.findVersionById(librarianId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        MessageFormat.format(getMessage(LIBRARY_LIBRARIAN_NOT_FOUND), librarianId)));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public LibrarianResponse getLibrarianByEmail(String email) {
@@ -101,7 +122,8 @@ public class LibrarianService implements ILibrarian {
     }
 
     @Override
-    public LibrarianResponse updateLibrarian(LibrarianRequest librarianRequest, Long librarianId) {
+    @Transactional
+    public LibrarianResponse updateLibrarian(LibrarianRequest librarianRequest, Long librarianId, String ifMatch) {
         if (null == librarianRequest) {
             throw new ResourceBadRequestException("library.librarian.cannot_be_null");
         }
@@ -111,6 +133,7 @@ public class LibrarianService implements ILibrarian {
         // Fetch existing librarian details
         var existingLibrarian = librarianRepository.findById(librarianId)
                 .orElseThrow(() -> new ResourceNotFoundException("Librarian not found with ID: " + librarianId));
+        ETagUtils.requireMatch(ifMatch, existingLibrarian.getVersion(), LIBRARIAN, librarianId);
 
         // Check if the admin exists
         var admin = fetchAssociatedAdmin(librarianRequest);
@@ -128,6 +151,8 @@ public class LibrarianService implements ILibrarian {
 
         // Save updated entity
         var updatedLibrarian = librarianRepository.save(existingLibrarian);
+        // Flushed so the response carries the bumped version
+        librarianRepository.flush();
 
         return LibrarianMapper.mapToLibrarianResponse(updatedLibrarian);
     }
@@ -152,11 +177,12 @@ public class LibrarianService implements ILibrarian {
 
     @Transactional
     @Override
-    public LibrarianResponse patchLibrarian(Long librarianId, Map<String, Object> updates) {
+    public LibrarianResponse patchLibrarian(Long librarianId, Map<String, Object> updates, String ifMatch) {
 
         // Fetch existing librarian details
         var existingLibrarian = librarianRepository.findById(librarianId)
                 .orElseThrow(() -> new ResourceNotFoundException("Librarian not found with ID: " + librarianId));
+        ETagUtils.requireMatch(ifMatch, existingLibrarian.getVersion(), LIBRARIAN, librarianId);
 
         // Handle admin update if provided
         if (updates.containsKey(ADMIN)) {
@@ -173,6 +199,7 @@ public class LibrarianService implements ILibrarian {
 
         // Save updated librarian
         var updatedLibrarian = librarianRepository.save(existingLibrarian);
+        librarianRepository.flush();
 
         // Return the updated librarian response
         return LibrarianMapper.mapToLibrarianResponse(updatedLibrarian);
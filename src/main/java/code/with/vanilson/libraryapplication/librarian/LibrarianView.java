@@ -0,0 +1,41 @@
+package code.with.vanilson.libraryapplication.librarian;
+
+import code.with.vanilson.libraryapplication.admin.AdminMapper;
+import code.with.vanilson.libraryapplication.admin.AdminResponse;
+import code.with.vanilson.libraryapplication.person.Address;
+
+/**
+ * LibrarianView - the columns of a librarian that responses show, read without loading the entity
+ *
+ * @param id           The ID of the librarian.
+ * @param name         The name.
+ * @param email        The email address.
+ * @param address      The postal address.
+ * @param contact      The phone contact.
+ * @param employeeCode The employee code.
+ * @param version      The version, the ETag of the librarian.
+ * @param adminId      The ID of the admin of the librarian, resolved separately.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record LibrarianView(Long id, String name, String email, Address address, String contact,
+                            String employeeCode, Long version, Long adminId) {
+
+    /**
+     * @param admin The admin of the librarian.
+     * @return The same response {@link LibrarianMapper#mapToLibrarianResponse(Librarian)} builds from the entity.
+     */
+    public LibrarianResponse toResponse(AdminResponse admin) {
+        return LibrarianResponse.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .address(AdminMapper.mapToAddressDTO(address))
+                .contact(contact)
+                .employeeCode(employeeCode)
+                .admin(admin)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package code.with.vanilson.libraryapplication.librarian;
+
+import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.admin.AdminResponse;
+import code.with.vanilson.libraryapplication.admin.AdminView;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * StaffDirectory - resolves the librarian and admin summaries embedded in list responses.
+ * <p>
+ * Projected rows of a listing carry only the IDs of their librarian and admin. The distinct IDs of the whole
+ * listing are read here with one projection query per table, and rows pointing at the same person share its
+ * response, so a listing runs a fixed number of statements and nothing enters the persistence context.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class StaffDirectory {
+
+    private final LibrarianRepository librarianRepository;
+    private final AdminRepository adminRepository;
+
+    public StaffDirectory(LibrarianRepository librarianRepository, AdminRepository adminRepository) {
+        this.librarianRepository = librarianRepository;
+        this.adminRepository = adminRepository;
+    }
+
+    /**
+     * The librarians and admins of a listing, by ID.
+     */
+    public record Staff(Map<Long, LibrarianResponse> librarians, Map<Long, AdminResponse> admins) {
+
+        /**
+         * @return The librarian, or {@code null} for a {@code null} or unknown ID.
+         */
+        public LibrarianResponse librarian(Long id) {
+            return id == null ? null : librarians.get(id);
+        }
+
+        /**
+         * @return The admin, or {@code null} for a {@code null} or unknown ID.
+         */
+        public AdminResponse admin(Long id) {
+            return id == null ? null : admins.get(id);
+        }
+    }
+
+    /**
+     * Reads the given librarians, each with its admin, and the given admins.
+     *
+     * @param librarianIds The IDs of the librarians.
+     * @param adminIds     The IDs of the admins, besides those of the librarians.
+     * @return The responses by ID.
+     */
+    public Staff resolve(Collection<Long> librarianIds, Collection<Long> adminIds) {
+        List<LibrarianView> librarians = librarianIds.isEmpty()
+                ? List.of()
+                : librarianRepository.findViewsByIdIn(librarianIds);
+        Set<Long> allAdminIds = new HashSet<>(adminIds);
+        allAdminIds.addAll(idsOf(librarians, LibrarianView::adminId));
+        Map<Long, AdminResponse> admins = findAdmins(allAdminIds);
+
+        Map<Long, LibrarianResponse> librarianResponses = librarians.stream()
+                .collect(Collectors.toMap(LibrarianView::id,
+                        librarian -> librarian.toResponse(admins.get(librarian.adminId()))));
+        return new Staff(librarianResponses, admins);
+    }
+
+    private Map<Long, AdminResponse> findAdmins(Collection<Long> adminIds) {
+        if (adminIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return adminRepository.findViewsByIdIn(adminIds).stream()
+                .collect(Collectors.toMap(AdminView::id, AdminView::toResponse));
+    }
+
+    /**
+     * @param rows The rows of a listing.
+     * @param id   The ID column to collect.
+     * @return The distinct, non-null IDs.
+     */
+    public static <T> Set<Long> idsOf(Collection<T> rows, Function<T, Long> id) {
+        Set<Long> ids = new HashSet<>();
+        for (T row : rows) {
+            Long value = id.apply(row);
+            if (value != null) {
+                ids.add(value);
+            }
+        }
+        return ids;
+    }
+}
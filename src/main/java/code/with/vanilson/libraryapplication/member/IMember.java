@@ -24,6 +24,14 @@ public interface IMember {
      */
     MemberResponse getMemberById(Long id);
 
+    /**
+     * Get the version of a Member, which is the ETag of its representation
+     *
+     * @param id ID of the Member
+     * @return the current version
+     */
+    long getMemberVersion(Long id);
+
     /**
      * Find aMember by email
      *
@@ -49,7 +57,18 @@ public interface IMember {
      *                      updated
      */
 
-    MemberResponse updateMember(MemberRequest memberRequest, Long memberId);
+    default MemberResponse updateMember(MemberRequest memberRequest, Long memberId) {
+        return updateMember(memberRequest, memberId, null);
+    }
+
+    /**
+     * Update an existing Member if it is still at the version the client read
+     *
+     * @param memberRequest object to be updated with new information about the Member being updated
+     * @param memberId      ID of the Member to be updated
+     * @param ifMatch       If-Match header of the request; {@code null} skips the check
+     */
+    MemberResponse updateMember(MemberRequest memberRequest, Long memberId, String ifMatch);
     // Patch method to support partial updates of a member object.
 
     /**
@@ -0,0 +1,97 @@
+package code.with.vanilson.libraryapplication.member;
+
+import code.with.vanilson.libraryapplication.common.money.Money;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * MemberBalanceRepository - the outstanding amount of each member, kept in {@code member_balances}.
+ * <p>
+ * Balances are only ever moved by a delta in the transaction of the fine write that causes it, so concurrent
+ * writers add up instead of overwriting each other. A member without a row owes nothing.
+ * <p>
+ * The missing row is opened with the native upsert of the database, which writers racing for the same member wait on
+ * instead of failing on the primary key: {@code ON CONFLICT DO NOTHING} on PostgreSQL and {@code MERGE ... KEY} on
+ * H2, the databases the application runs and is tested on.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class MemberBalanceRepository {
+
+    private static final String OPEN_BALANCE_POSTGRESQL = "INSERT INTO member_balances (member_id, outstanding) "
+            + "VALUES (:memberId, 0) ON CONFLICT (member_id) DO NOTHING";
+
+    // Only member_id is listed, so an existing row keeps its outstanding amount and a new one gets the default 0
+    private static final String OPEN_BALANCE_H2 = "MERGE INTO member_balances (member_id) KEY (member_id) "
+            + "VALUES (:memberId)";
+
+    private static final String ADJUST_BALANCE = "UPDATE member_balances SET outstanding = outstanding + :delta "
+            + "WHERE member_id = :memberId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String openBalance;
+
+    public MemberBalanceRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.openBalance = openBalance(jdbcTemplate);
+    }
+
+    /**
+     * One primary key lookup.
+     *
+     * @return the outstanding amount, empty if the member has no balance row
+     */
+    public Optional<Money> findOutstanding(Long memberId) {
+        List<BigDecimal> outstanding = jdbcTemplate.queryForList(
+                "SELECT outstanding FROM member_balances WHERE member_id = :memberId",
+                new MapSqlParameterSource("memberId", memberId), BigDecimal.class);
+        return outstanding.stream().findFirst().map(Money::of);
+    }
+
+    /**
+     * Adds a delta in cents to the balance of each member, creating the missing rows first; two JDBC batches.
+     */
+    public void adjust(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // Rows are locked in member order, so two writers touching the same members cannot deadlock
+        SqlParameterSource[] parameters = new TreeMap<>(deltas).entrySet().stream()
+                .map(delta -> new MapSqlParameterSource("memberId", delta.getKey()).addValue("delta", Money.toDecimal(delta.getValue())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(openBalance, parameters);
+        jdbcTemplate.batchUpdate(ADJUST_BALANCE, parameters);
+    }
+
+    // Helper Methods
+
+    private static String openBalance(NamedParameterJdbcTemplate jdbcTemplate) {
+        String product;
+        try {
+            product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getJdbcTemplate().getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not read the database product name", e);
+        }
+        return switch (DatabaseDriver.fromProductName(product)) {
+            case POSTGRESQL -> OPEN_BALANCE_POSTGRESQL;
+            case H2 -> OPEN_BALANCE_H2;
+            default -> throw new IllegalStateException("No balance upsert for database " + product);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package code.with.vanilson.libraryapplication.member;
+
+import code.with.vanilson.libraryapplication.common.money.Money;
+
+/**
+ * MemberBalanceResponse - what a member owes and whether that stops them from borrowing
+ *
+ * @param memberId         The ID of the member.
+ * @param outstanding      The sum of the unpaid fines of the member.
+ * @param borrowLimit      The balance above which borrowing is refused.
+ * @param borrowingBlocked Whether the balance is above the limit.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record MemberBalanceResponse(Long memberId, Money outstanding, Money borrowLimit, boolean borrowingBlocked) {
+}
@@ -0,0 +1,99 @@
+package code.with.vanilson.libraryapplication.member;
+
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+import static code.with.vanilson.libraryapplication.common.utils.MessageProvider.getMessage;
+
+/**
+ * MemberBalanceService - the running total of what each member owes.
+ * <p>
+ * Every write that changes what a member owes - a fine applied, updated, paid or deleted, or accrued overnight -
+ * records the difference here in the same transaction, so reading a balance is one primary key lookup and never
+ * sums fines.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class MemberBalanceService {
+
+    private final MemberBalanceRepository memberBalanceRepository;
+    private final MemberRepository memberRepository;
+    private final Money borrowLimit;
+
+    public MemberBalanceService(MemberBalanceRepository memberBalanceRepository, MemberRepository memberRepository,
+                                @Value("${library.fines.borrow-limit:10.00}") BigDecimal borrowLimit) {
+        this.memberBalanceRepository = memberBalanceRepository;
+        this.memberRepository = memberRepository;
+        this.borrowLimit = Money.of(borrowLimit);
+    }
+
+    /**
+     * @param memberId The ID of the member.
+     * @return What the member owes.
+     * @throws ResourceNotFoundException if the member is not found.
+     */
+    @Transactional(readOnly = true)
+    public MemberBalanceResponse getBalance(Long memberId) {
+        Money outstanding = memberBalanceRepository.findOutstanding(memberId)
+                .orElseGet(() -> {
+                    if (memberId == null || !memberRepository.existsById(memberId)) {
+                        throw new ResourceNotFoundException(
+                                MessageFormat.format(getMessage("library.members.not_found"), memberId));
+                    }
+                    return Money.ZERO;
+                });
+        return new MemberBalanceResponse(memberId, outstanding, borrowLimit, outstanding.isGreaterThan(borrowLimit));
+    }
+
+    /**
+     * Refuses a loan to a member whose unpaid fines are above {@code library.fines.borrow-limit}.
+     *
+     * @param memberId The ID of the member.
+     * @throws ResourceBadRequestException if the member owes more than the limit.
+     */
+    public void requireBorrowingAllowed(Long memberId) {
+        Money outstanding = memberBalanceRepository.findOutstanding(memberId).orElse(Money.ZERO);
+        if (outstanding.isGreaterThan(borrowLimit)) {
+            var message = MessageFormat.format(getMessage("library.members.balance_too_high"),
+                    memberId, outstanding, borrowLimit);
+            log.error(message);
+            throw new ResourceBadRequestException(message);
+        }
+    }
+
+    /**
+     * Records a change in cents of what one member owes; nothing happens for a {@code null} member or a zero delta.
+     */
+    public void adjust(Long memberId, long delta) {
+        if (memberId != null && delta != 0) {
+            memberBalanceRepository.adjust(Map.of(memberId, delta));
+        }
+    }
+
+    /**
+     * Records the changes of a batch, one delta in cents per member.
+     */
+    public void adjust(Map<Long, Long> deltas) {
+        Map<Long, Long> nonZero = new HashMap<>();
+        deltas.forEach((memberId, delta) -> {
+            if (memberId != null && delta != 0) {
+                nonZero.put(memberId, delta);
+            }
+        });
+        memberBalanceRepository.adjust(nonZero);
+    }
+}
@@ -1,14 +1,17 @@
 package code.with.vanilson.libraryapplication.member;
 
 import code.with.vanilson.libraryapplication.common.https.HeaderConstants;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import code.with.vanilson.libraryapplication.common.utils.MessageProvider;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.text.MessageFormat;
@@ -36,9 +39,11 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberBalanceService memberBalanceService;
 
-    public MemberController(MemberService memberService) {
+    public MemberController(MemberService memberService, MemberBalanceService memberBalanceService) {
         this.memberService = memberService;
+        this.memberBalanceService = memberBalanceService;
     }
 
     @GetMapping
@@ -54,14 +59,37 @@ public class MemberController {
                 .body(responses);
     }
 
+    /**
+     * Retrieves a member. A request whose If-None-Match still holds the current ETag gets 304 Not Modified from
+     * one version lookup, without the member being loaded or mapped.
+     *
+     * @param id      The ID of the member.
+     * @param request The request, checked for If-None-Match.
+     * @return The member with its ETag, or 304 Not Modified.
+     */
     @GetMapping(value = "/{id}")
-    public ResponseEntity<MemberResponse> getMemberById(@PathVariable Long id,
-                                                        @RequestHeader HttpHeaders headers) {
-        MemberResponse librarianResponse = memberService.getMemberById(id); // assuming this service call
+    public ResponseEntity<MemberResponse> getMemberById(@PathVariable Long id, WebRequest request) {
+        var eTag = ETagUtils.toETag(memberService.getMemberVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        MemberResponse memberResponse = memberService.getMemberById(id);
         log.info("retrieve member by id {}", id);
         return ResponseEntity.ok()
-                .headers(headers) // Use headers if necessary
-                .body(librarianResponse);
+                .eTag(eTag)
+                .body(memberResponse);
+    }
+
+    /**
+     * Retrieves what a member owes, from the running balance kept by every fine write.
+     *
+     * @param id The ID of the member.
+     * @return The outstanding amount and whether it blocks borrowing.
+     */
+    @GetMapping(value = "/{id}/balance")
+    public ResponseEntity<MemberBalanceResponse> getMemberBalance(@PathVariable Long id) {
+        log.info("retrieve balance of member {}", id);
+        return ResponseEntity.ok(memberBalanceService.getBalance(id));
     }
 
     @PostMapping(value = "/create-member")
@@ -77,7 +105,6 @@ public class MemberController {
         // Return the response entity with the MemberResponse object and headers
         return ResponseEntity
                 .created(URI.create("/api/v1/members/" + memberResponse.getId()))
-                .eTag(String.valueOf(memberResponse.getId()))
                 .headers(headers)
                 .body(memberResponse);
     }
@@ -88,18 +115,22 @@ public class MemberController {
      *
      * @param memberId      The ID of the member to be updated.
      * @param memberRequest The full request containing updated member details.
+     * @param ifMatch       Optional ETag the member must still have; 412 Precondition Failed otherwise.
      * @return LibrarianResponse containing the updated member data.
      */
     @PutMapping("/{memberId}")
     public ResponseEntity<MemberResponse> updateMember(
             @PathVariable Long memberId,
-            @Valid @RequestBody MemberRequest memberRequest) {
+            @Valid @RequestBody MemberRequest memberRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         // Call the service method to update the member
-        MemberResponse updatedMember = memberService.updateMember(memberRequest, memberId);
+        MemberResponse updatedMember = memberService.updateMember(memberRequest, memberId, ifMatch);
 
-        // Return the response with the updated member data
-        return ResponseEntity.ok(updatedMember);
+        // Return the response with the updated member data and its new ETag
+        return ResponseEntity.ok()
+                .headers(prepareResponseHeaders(updatedMember, false))
+                .body(updatedMember);
     }
 
     /**
@@ -167,6 +198,9 @@ public class MemberController {
             headers.set(HeaderConstants.X_ADMIN_NAME, response.getName());
             headers.set(HeaderConstants.X_ADMIN_EMAIL, response.getEmail());
             headers.set(HeaderConstants.X_ADMIN_CODE, response.getContact());
+            if (response.getVersion() != null) {
+                headers.setETag(ETagUtils.toETag(response.getVersion()));
+            }
         }
 
         // Optionally include Set-Cookie header based on context
@@ -52,6 +52,7 @@ public class MemberMapper {
                 .membershipStatus(member.getMembershipStatus())
                 .librarianResponse(mapToLibrarianResponse(member.getLibrarian()))
                 .adminResponse(mapToAdminResponse(member.getAdmin()))
+                .version(member.getVersion())
                 .build();
     }
 
@@ -1,7 +1,11 @@
 package code.with.vanilson.libraryapplication.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -22,4 +26,26 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsMemberByContactAndIdNot(String contact, Long memberId);
 
+    /**
+     * The version alone, so a conditional GET can be answered without loading the member.
+     */
+    @Query("SELECT m.version FROM Member m WHERE m.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads every member as a read-only projection, outside the persistence context; the librarian and admin are
+     * left as IDs.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.member.MemberView("
+            + "m.id, m.name, m.email, m.address, m.contact, m.membershipStatus, m.version, l.id, a.id) "
+            + "FROM Member m LEFT JOIN m.librarian l LEFT JOIN m.admin a ORDER BY m.id")
+    List<MemberView> findAllViews();
+
+    /**
+     * Reads the members embedded in listings as read-only projections; the librarian and admin are left as IDs.
+     */
+    @Query("SELECT new code.with.vanilson.libraryapplication.member.MemberView("
+            + "m.id, m.name, m.email, m.address, m.contact, m.membershipStatus, m.version, l.id, a.id) "
+            + "FROM Member m LEFT JOIN m.librarian l LEFT JOIN m.admin a WHERE m.id IN :ids")
+    List<MemberView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -4,6 +4,7 @@ import code.with.vanilson.libraryapplication.admin.AdminResponse;
 import code.with.vanilson.libraryapplication.book.BookResponse;
 import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
 import code.with.vanilson.libraryapplication.person.AddressDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -44,4 +45,7 @@ public class MemberResponse extends RepresentationModel<MemberResponse> {
     private LibrarianResponse librarianResponse;
 
     private AdminResponse adminResponse;
+
+    @JsonIgnore // sent as the ETag header
+    private Long version;
 }
@@ -2,11 +2,14 @@ package code.with.vanilson.libraryapplication.member;
 
 import code.with.vanilson.libraryapplication.admin.Admin;
 import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.book.LoanRepository;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.utils.ETagUtils;
 import code.with.vanilson.libraryapplication.librarian.Librarian;
 import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.librarian.StaffDirectory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -35,22 +38,29 @@ public class MemberService implements IMember {
     private final MemberRepository memberRepository;
     private final LibrarianRepository librarianRepository;
     private final AdminRepository adminRepository;
+    private final StaffDirectory staffDirectory;
+    private final LoanRepository loanRepository;
 
     public MemberService(MemberRepository memberRepository, LibrarianRepository librarianRepository,
-                         AdminRepository adminRepository) {
+                         AdminRepository adminRepository, StaffDirectory staffDirectory,
+                         LoanRepository loanRepository) {
         this.memberRepository = memberRepository;
         this.librarianRepository = librarianRepository;
         this.adminRepository = adminRepository;
+        this.staffDirectory = staffDirectory;
+        this.loanRepository = loanRepository;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MemberResponse> getAllMembers() {
         log.info("Get all member");
-        return memberRepository
-                .findAll()
-                .stream()
-                .map(MemberMapper::mapToMemberResponse)
+        // Projections: nothing enters the persistence context, the librarians and admins are read once each
+        var members = memberRepository.findAllViews();
+        var staff = staffDirectory.resolve(StaffDirectory.idsOf(members, MemberView::librarianId),
+                StaffDirectory.idsOf(members, MemberView::adminId));
+        return members.stream()
+                .map(member -> member.toResponse(staff.librarian(member.librarianId()), staff.admin(member.adminId())))
                 .toList();
     }
 
@@ -61,6 +71,18 @@ public class MemberService implements IMember {
         return fetchMemberDetailsById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getMemberVersion(Long id) {
+        validateLibrarianIdIsPositive(id);
+        return memberRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    loggerMessage(id);
+                    return new ResourceNotFoundException(
+                            MessageFormat.format(getMessage(LIBRARY_MEMBERS_NOT_FOUND), id));
+                });
+    }
+
     @Override
     public MemberResponse getMemberByEmail(String email) {
         // TODO: implement the logic here
@@ -95,7 +117,7 @@ public class MemberService implements IMember {
 
     @Override
     @Transactional
-    public MemberResponse updateMember(MemberRequest memberRequest, Long memberId) {
+    public MemberResponse updateMember(MemberRequest memberRequest, Long memberId, String ifMatch) {
         if (null == memberRequest) {
             throw new ResourceBadRequestException("library.member.cannot_be_null");
         }
@@ -104,6 +126,7 @@ public class MemberService implements IMember {
                 .findById(memberId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         MessageFormat.format(getMessage(LIBRARY_MEMBERS_NOT_FOUND), memberId)));
+        ETagUtils.requireMatch(ifMatch, existingMember.getVersion(), "member", memberId);
 
         var admin = fetchAssociatedAdmin(memberRequest);
         var librarian = fetchAssociatedLibrarian(memberRequest);
@@ -120,6 +143,8 @@ public class MemberService implements IMember {
 
         // Save updated entity
         var updatedMember = memberRepository.save(existingMember);
+        // Flushed so the response carries the bumped version
+        memberRepository.flush();
 
         return MemberMapper.mapToMemberResponse(updatedMember);
 
@@ -141,6 +166,13 @@ public class MemberService implements IMember {
             throw new ResourceNotFoundException(errorMessage);
         }
 
+        // loan history is never deleted, so neither is a member it refers to
+        if (loanRepository.existsByMemberId(memberId)) {
+            var errorMessage = MessageFormat.format(getMessage("library.member.has_loans"), memberId);
+            log.error("The member with ID {} has loan history", memberId);
+            throw new ResourceConflictException(errorMessage);
+        }
+
         // finally, delete the member
         memberRepository.deleteById(memberId);
         log.info("member deleted successfully with ID {}", memberId);
@@ -0,0 +1,45 @@
+package code.with.vanilson.libraryapplication.member;
+
+import code.with.vanilson.libraryapplication.admin.AdminMapper;
+import code.with.vanilson.libraryapplication.admin.AdminResponse;
+import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
+import code.with.vanilson.libraryapplication.person.Address;
+
+/**
+ * MemberView - the columns of a member that responses show, read without loading the entity
+ *
+ * @param id               The ID of the member.
+ * @param name             The name.
+ * @param email            The email address.
+ * @param address          The postal address.
+ * @param contact          The phone contact.
+ * @param membershipStatus The membership status.
+ * @param version          The version, the ETag of the member.
+ * @param librarianId      The ID of the librarian of the member, resolved separately.
+ * @param adminId          The ID of the admin of the member, resolved separately.
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record MemberView(Long id, String name, String email, Address address, String contact,
+                         MembershipStatus membershipStatus, Long version, Long librarianId, Long adminId) {
+
+    /**
+     * @param librarian The librarian of the member, or {@code null} to leave it out.
+     * @param admin     The admin of the member, or {@code null} to leave it out.
+     * @return The same response {@link MemberMapper#mapToMemberResponse(Member)} builds from the entity.
+     */
+    public MemberResponse toResponse(LibrarianResponse librarian, AdminResponse admin) {
+        return MemberResponse.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .address(AdminMapper.mapToAddressDTO(address))
+                .contact(contact)
+                .membershipStatus(membershipStatus)
+                .librarianResponse(librarian)
+                .adminResponse(admin)
+                .version(version)
+                .build();
+    }
+}
@@ -44,6 +44,16 @@ public abstract class Person implements Serializable {
     @Column(nullable = false, unique = true)
     private String contact;
 
+    // Bumped by every update; also the ETag of the entity endpoints
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    protected Person(Long id, String name, String email, Address address, String contact) {
+        this(name, email, address, contact);
+        this.id = id;
+    }
+
     // Constructor with fields
     protected Person(String name, String email, Address address, String contact) {
         this.name = name;
@@ -1,6 +1,6 @@
 package code.with.vanilson.libraryapplication.security;
 
-import code.with.vanilson.libraryapplication.user.UserRepository;
+import code.with.vanilson.libraryapplication.user.UserCache;
 import io.micrometer.common.lang.NonNull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,11 +27,14 @@ import static io.jsonwebtoken.lang.Strings.EMPTY;
 class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
-    private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserCache userCache;
 
-    public JwtAuthenticationFilter(JwtTokenService jwtTokenService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtTokenService jwtTokenService, TokenRevocationList tokenRevocationList,
+                                   UserCache userCache) {
         this.jwtTokenService = jwtTokenService;
-        this.userRepository = userRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.userCache = userCache;
     }
 
     @Override
@@ -71,25 +74,39 @@ class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Authenticates a user based on the provided JWT token.
      * <p>
-     * This method validates the given token using the JWT token service. If the token is valid,
-     * it retrieves the user details from the repository using the subject (user login) extracted
-     * from the token. Then, it creates an authentication token and sets it in the security context.
-     * If the token is invalid, a warning is logged.
+     * This method verifies the given token using the JWT token service. If the token is valid, the login and
+     * roles stated by its claims become the authentication set in the security context; the user is not loaded.
+     * Tokens issued before the roles claim existed carry no roles, and for those the user is read through the
+     * user cache instead. If the token is invalid or was revoked, a warning is logged. The revocation check is in
+     * memory, without a database round trip.
      *
      * @param token the JWT token to validate and authenticate the user
      */
 
     private void authenticateUser(String token) {
-        String subject = jwtTokenService.validateToken(token);
-        if (subject != null) {
-            var userDetail = userRepository.findUserByLogin(subject);
-            var authentication = new UsernamePasswordAuthenticationToken(userDetail, null,
-                    userDetail.getAuthorities());
-            log.info("User authenticated: {}", userDetail);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } else {
+        TokenPrincipal principal = jwtTokenService.verify(token);
+        if (principal == null) {
             log.warn("Token validation failed");
+            return;
+        }
+        if (principal.tokenId() != null && tokenRevocationList.isRevoked(principal.tokenId())) {
+            log.warn("Token {} of user {} was revoked", principal.tokenId(), principal.login());
+            return;
+        }
+        if (!principal.authorities().isEmpty()) {
+            var authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
+            log.info("User authenticated: {}", principal.login());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            return;
+        }
+        var userDetail = userCache.getByLogin(principal.login());
+        if (userDetail == null) {
+            log.warn("User of token not found: {}", principal.login());
+            return;
         }
+        var authentication = new UsernamePasswordAuthenticationToken(userDetail, null, userDetail.getAuthorities());
+        log.info("User authenticated: {}", userDetail.getUsername());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
 }
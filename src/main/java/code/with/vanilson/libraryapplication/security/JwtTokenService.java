@@ -2,84 +2,246 @@ package code.with.vanilson.libraryapplication.security;
 
 import code.with.vanilson.libraryapplication.user.User;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
-import static code.with.vanilson.libraryapplication.util.constant.SecurityConstants.EXPIRATION_TIME_IN_HOURS;
 import static code.with.vanilson.libraryapplication.util.constant.SecurityConstants.ISSUER;
+import static code.with.vanilson.libraryapplication.util.constant.SecurityConstants.ROLES_CLAIM;
 
+/**
+ * JwtTokenService - issues the bearer tokens and checks the ones presented with each request.
+ * <p>
+ * A token carries the roles of its user in the {@code roles} claim, so a request is authenticated from the token
+ * alone, without loading the user. A role change therefore applies to tokens issued after it. Tokens live for
+ * {@code library.auth.access-token-ttl} and carry a {@code jti}, by which they can be revoked; clients renew them
+ * with a refresh token instead of logging in again.
+ * <p>
+ * The signing algorithm and the verifier are built once. A token that passed verification is remembered, under
+ * the SHA-256 digest of the token, until its {@code exp}: presenting it again costs one digest and one lookup
+ * instead of decoding the JSON and checking the HMAC. The cache is bounded by
+ * {@code library.cache.tokens.maximum-size}, holds no token text, and never answers for an expired token. Hit and
+ * miss counts are exported to Micrometer as {@code cache.*{cache="jwt.tokens"}}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
 @Service
 @Slf4j
 public class JwtTokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    static final String TOKENS = "jwt.tokens";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    /**
+     * A signed access token and the claims the issuer needs to keep.
+     *
+     * @param token     the signed token
+     * @param tokenId   its {@code jti}
+     * @param expiresAt its {@code exp}
+     */
+    public record AccessToken(String token, String tokenId, Instant expiresAt) {
+    }
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Duration accessTokenTtl;
+    private final Cache<ByteBuffer, TokenPrincipal> verifiedTokens;
+
+    public JwtTokenService(@Value("${api.security.token.secret}") String secret,
+                           @Value("${library.auth.access-token-ttl:PT15M}") Duration accessTokenTtl,
+                           @Value("${library.cache.tokens.maximum-size:10000}") long maximumSize,
+                           MeterRegistry meterRegistry) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.accessTokenTtl = accessTokenTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, TokenPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, TokenPrincipal token, long currentTime) {
+                        return nanosUntil(token.expiresAt());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, TokenPrincipal token, long currentTime,
+                                                  long currentDuration) {
+                        return nanosUntil(token.expiresAt());
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, TokenPrincipal token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, TOKENS);
+    }
 
     /**
      * Generates a JWT token for the given user.
-     * <p>
-     * The token will include user login as the subject, and will be signed with the HMAC256 algorithm.
      *
      * @param user the user for whom the token is generated.
      * @return the generated JWT token.
      * @throws RuntimeException if there is an error while generating the token.
+     * @see #issueAccessToken(User)
      */
     public String generateToken(User user) {
+        return issueAccessToken(user).token();
+    }
+
+    /**
+     * Issues an access token for the given user.
+     * <p>
+     * The token will include user login as the subject, the user roles as the {@code roles} claim and a random
+     * {@code jti}, and will be signed with the HMAC256 algorithm.
+     *
+     * @param user the user for whom the token is issued.
+     * @return the signed token with its ID and expiration time.
+     * @throws RuntimeException if there is an error while generating the token.
+     */
+    public AccessToken issueAccessToken(User user) {
+        String tokenId = UUID.randomUUID().toString();
+        Instant expiresAt = getExpirationTime();
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);  // Signing algorithm using HMAC256
-            return JWT.create()
+            String token = JWT.create()
                     .withIssuer(ISSUER)  // Set issuer as "auth-api"
                     .withSubject(user.getLogin())  // Set user login as the subject
-                    .withExpiresAt(getExpirationTime())  // Set token expiration time
+                    .withClaim(ROLES_CLAIM, user.getAuthorities().stream()  // Set user roles as the roles claim
+                            .map(GrantedAuthority::getAuthority)
+                            .toList())
+                    .withJWTId(tokenId)  // Set a random token ID, by which the token can be revoked
+                    .withExpiresAt(expiresAt)  // Set token expiration time
                     .sign(algorithm);  // Sign the token with the algorithm
+            return new AccessToken(token, tokenId, expiresAt);
         } catch (JWTCreationException e) {
             log.error("Error while generating token: {}", e.getMessage());
             throw new RuntimeException("Error while generating token", e);
         }
     }
 
+    /**
+     * @return how long an access token lives.
+     */
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
     /**
      * Validates the given JWT token.
      * <p>
-     * This method checks the signature, expiration, and issuer of the token.
      * If the token is valid, it returns the user login (subject); otherwise, it returns null.
      *
      * @param token the JWT token to validate.
      * @return the user login (subject) if the token is valid, otherwise null.
+     * @see #verify(String)
      */
     public String validateToken(String token) {
+        TokenPrincipal principal = verify(token);
+        return principal == null ? null : principal.login();
+    }
+
+    /**
+     * Verifies the given JWT token and reads the caller from its claims.
+     * <p>
+     * This method checks the signature, expiration, and issuer of the token, unless the same token was verified
+     * before and has not expired since.
+     *
+     * @param token the JWT token to verify.
+     * @return the login and roles stated by the token if it is valid, otherwise null.
+     */
+    public TokenPrincipal verify(String token) {
+        ByteBuffer key = digest(token);
+        TokenPrincipal verified = verifiedTokens.getIfPresent(key);
+        // The cache may hold an entry for a moment past its expiry; it is never trusted past exp
+        if (verified != null && Instant.now().isBefore(verified.expiresAt())) {
+            return verified;
+        }
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);  // Signing algorithm for validation
-            return JWT.require(algorithm)  // Require algorithm for validation
-                    .withIssuer(ISSUER)  // Validate the issuer
-                    .build()  // Build verifier
-                    .verify(token)  // Verify the token signature and expiration
-                    .getSubject();  // Return the subject (user login)
+            DecodedJWT jwt = verifier.verify(token);  // Verify the token signature and expiration
+            TokenPrincipal principal = new TokenPrincipal(jwt.getSubject(), authorities(jwt), jwt.getId(),
+                    jwt.getExpiresAtAsInstant());
+            if (principal.expiresAt() == null) {
+                return principal;
+            }
+            // The verifier compares whole seconds, so it still accepts a token during the second after its exp
+            if (!Instant.now().isBefore(principal.expiresAt())) {
+                log.warn("Token validation failed: The Token has expired on {}.", principal.expiresAt());
+                return null;
+            }
+            verifiedTokens.put(key, principal);
+            return principal;
         } catch (JWTVerificationException e) {
             log.warn("Token validation failed: {}", e.getMessage());
             return null;  // Return null if token is invalid or expired
         }
     }
 
+    // Helper Methods
+
+    private static long nanosUntil(Instant expiresAt) {
+        // Saturates instead of overflowing for far-off expiries
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis()));
+    }
+
+    private static List<GrantedAuthority> authorities(DecodedJWT jwt) {
+        List<String> roles = jwt.getClaim(ROLES_CLAIM).asList(String.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
     /**
      * Calculates the expiration time for the JWT token.
      * <p
-     * The token will expire after 2 hours from the current time.
+     * The token will expire {@code library.auth.access-token-ttl} after the current time.
      *
      * @return the expiration time as an Instant.
      */
     private Instant getExpirationTime() {
-        return LocalDateTime.now()
-                .plusHours(EXPIRATION_TIME_IN_HOURS)  // Add 2 hours to current time
-                .toInstant(ZoneOffset.UTC);  // Convert to UTC Instant
+        // From the instant, not the local wall clock read as UTC, which is off by the zone offset
+        return Instant.now().plus(accessTokenTtl);
     }
 
 }
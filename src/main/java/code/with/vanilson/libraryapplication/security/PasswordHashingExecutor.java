@@ -0,0 +1,107 @@
+package code.with.vanilson.libraryapplication.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PasswordHashingExecutor - the only threads that run BCrypt: password checks of {@code /auth/login} and hashes of
+ * {@code /auth/register}.
+ * <p>
+ * BCrypt is deliberately slow, and run on the servlet threads a burst of logins occupies all of them and starves
+ * every other request. Here it runs on {@code library.auth.hashing.threads} threads behind a queue of
+ * {@code library.auth.hashing.queue-capacity} tasks, and the servlet thread is released while it waits. A task
+ * that finds the queue full is refused at once, so the caller can answer 503 instead of queueing without bound.
+ * <p>
+ * Exported to Micrometer: {@code auth.hashing.queue.wait} and {@code auth.hashing.duration} timers and an
+ * {@code auth.hashing.rejected} counter, each tagged by {@code operation}, and the {@code auth.hashing.queue.size}
+ * and {@code auth.hashing.active} gauges.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    static final String QUEUE_WAIT = "auth.hashing.queue.wait";
+    static final String DURATION = "auth.hashing.duration";
+    static final String REJECTED = "auth.hashing.rejected";
+    static final String OPERATION = "operation";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor pool;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${library.auth.hashing.threads:2}") int threads,
+                                   @Value("${library.auth.hashing.queue-capacity:32}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("auth.hashing.queue.size", pool, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", pool, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a task that hashes or checks a password on the hashing threads.
+     *
+     * @param operation The name of the task in the metrics, e.g. {@code login}.
+     * @param task      The task; its exceptions complete the future exceptionally.
+     * @return The result of the task, or empty if the queue is full and the task was refused.
+     */
+    public <T> Optional<CompletableFuture<T>> submit(String operation, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            pool.execute(() -> run(operation, task, queuedAt, result));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter(REJECTED, OPERATION, operation).increment();
+            log.warn("Password hashing queue is full, {} refused", operation);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    // Helper Methods
+
+    private <T> void run(String operation, Supplier<T> task, long queuedAt, CompletableFuture<T> result) {
+        long startedAt = System.nanoTime();
+        meterRegistry.timer(QUEUE_WAIT, OPERATION, operation).record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+        T value;
+        try {
+            value = task.get();
+        } catch (Throwable e) {
+            recordDuration(operation, startedAt);
+            result.completeExceptionally(e);
+            return;
+        }
+        // Recorded before completing, so the timer leaves out whatever the caller chains onto the result
+        recordDuration(operation, startedAt);
+        result.complete(value);
+    }
+
+    private void recordDuration(String operation, long startedAt) {
+        meterRegistry.timer(DURATION, OPERATION, operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,94 @@
+package code.with.vanilson.libraryapplication.security;
+
+import code.with.vanilson.libraryapplication.security.RateLimiter.Decision;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.common.lang.NonNull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static code.with.vanilson.libraryapplication.common.https.HeaderConstants.X_RATE_LIMIT_LIMIT;
+import static code.with.vanilson.libraryapplication.common.https.HeaderConstants.X_RATE_LIMIT_REMAINING;
+import static code.with.vanilson.libraryapplication.util.constant.MessageConstants.MESSAGE;
+import static code.with.vanilson.libraryapplication.util.constant.MessageConstants.TOO_MANY_REQUESTS;
+import static code.with.vanilson.libraryapplication.util.constant.SecurityConstants.AUTHORIZATION_HEADER;
+import static code.with.vanilson.libraryapplication.util.constant.SecurityConstants.BEARER_PREFIX;
+
+@Component
+@Slf4j
+@SuppressWarnings("all")
+/**
+ * RateLimitFilter - throttles each client per route class before any authentication work is done.
+ * <p>
+ * A request with a valid bearer token is counted against the subject of the token, any other request against
+ * the address it came from, so clients behind one address share a bucket until they log in. A request over the
+ * limit is answered 429 with {@code Retry-After}; every limited response carries {@code X-RateLimit-Limit} and
+ * {@code X-RateLimit-Remaining}. Routes outside {@code /auth} and {@code /api} are not limited.
+ */
+class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JwtTokenService jwtTokenService;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, JwtTokenService jwtTokenService, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.jwtTokenService = jwtTokenService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws IOException, ServletException {
+        RouteClass routeClass = RouteClass.of(request);
+        if (routeClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String client = client(request);
+        Decision decision = rateLimiter.tryAcquire(client, routeClass);
+        response.setHeader(X_RATE_LIMIT_LIMIT, Long.toString(decision.limit()));
+        response.setHeader(X_RATE_LIMIT_REMAINING, Long.toString(decision.remaining()));
+        if (!decision.allowed()) {
+            log.warn("Rate limit of {} exceeded by {}", routeClass.getTag(), client);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of(MESSAGE, TOO_MANY_REQUESTS));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Identifies the client of the request.
+     * <p>
+     * The token is verified rather than just decoded, so a forged subject cannot drain the bucket of another user;
+     * the verification is cached, and {@link JwtAuthenticationFilter} reuses it.
+     *
+     * @param request the HttpServletRequest
+     * @return the subject of a valid bearer token, otherwise the remote address
+     */
+    private String client(HttpServletRequest request) {
+        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            TokenPrincipal principal = jwtTokenService.verify(authHeader.substring(BEARER_PREFIX.length()));
+            if (principal != null) {
+                return "user:" + principal.login();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
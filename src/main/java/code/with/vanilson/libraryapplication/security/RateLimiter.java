@@ -0,0 +1,126 @@
+package code.with.vanilson.libraryapplication.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RateLimiter - one token bucket per client and route class, in process.
+ * <p>
+ * Each bucket holds up to {@code capacity} requests and refills at {@code refill-per-second}. A bucket is a single
+ * {@link AtomicLong}, the time at which it will be full again (the generic cell rate algorithm, which answers
+ * exactly like a token bucket), so taking a token is one compare-and-set and never blocks. Buckets are evicted
+ * once idle for {@code library.rate-limit.idle-eviction}, by which time they would have refilled anyway, and are
+ * bounded by {@code library.rate-limit.max-clients}. Rejections are counted in Micrometer as
+ * {@code rate.limit.rejected{route=auth|reads|writes}}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class RateLimiter {
+
+    static final String BUCKETS = "rate-limit.buckets";
+    static final String REJECTED = "rate.limit.rejected";
+
+    /**
+     * The answer for one request.
+     *
+     * @param allowed         whether the request may proceed
+     * @param limit           the capacity of the bucket
+     * @param remaining       the requests left in the bucket
+     * @param retryAfterNanos for a rejected request, how long until a token is available
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long retryAfterNanos) {
+
+        /**
+         * @return the wait in whole seconds, at least one, as sent in {@code Retry-After}
+         */
+        public long retryAfterSeconds() {
+            return Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    private record BucketKey(String client, RouteClass routeClass) {
+    }
+
+    private record Limit(long capacity, long intervalNanos) {
+    }
+
+    private final Map<RouteClass, Limit> limits = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> rejections = new EnumMap<>(RouteClass.class);
+    private final Cache<BucketKey, AtomicLong> buckets;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${library.rate-limit.auth.capacity:10}") long authCapacity,
+                       @Value("${library.rate-limit.auth.refill-per-second:0.2}") double authRefill,
+                       @Value("${library.rate-limit.reads.capacity:100}") long readsCapacity,
+                       @Value("${library.rate-limit.reads.refill-per-second:20}") double readsRefill,
+                       @Value("${library.rate-limit.writes.capacity:30}") long writesCapacity,
+                       @Value("${library.rate-limit.writes.refill-per-second:2}") double writesRefill,
+                       @Value("${library.rate-limit.max-clients:100000}") long maxClients,
+                       @Value("${library.rate-limit.idle-eviction:PT10M}") Duration idleEviction) {
+        limits.put(RouteClass.AUTH, limit(authCapacity, authRefill));
+        limits.put(RouteClass.READS, limit(readsCapacity, readsRefill));
+        limits.put(RouteClass.WRITES, limit(writesCapacity, writesRefill));
+        for (RouteClass routeClass : RouteClass.values()) {
+            rejections.put(routeClass, Counter.builder(REJECTED)
+                    .tag("route", routeClass.getTag())
+                    .register(meterRegistry));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(idleEviction)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, BUCKETS);
+    }
+
+    /**
+     * Takes a token from the bucket of the client for the route class, if there is one.
+     *
+     * @param client     the subject of a verified token, or the address of an anonymous client
+     * @param routeClass the class of the route requested
+     * @return whether the request may proceed, with the state of the bucket
+     */
+    public Decision tryAcquire(String client, RouteClass routeClass) {
+        Limit limit = limits.get(routeClass);
+        AtomicLong fullAt = buckets.get(new BucketKey(client, routeClass), key -> new AtomicLong(System.nanoTime()));
+        // A full bucket accepts a burst of capacity requests: up to capacity - 1 intervals of backlog
+        long tolerance = (limit.capacity() - 1) * limit.intervalNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long backlog = Math.max(0, current - now);
+            if (backlog > tolerance) {
+                rejections.get(routeClass).increment();
+                return new Decision(false, limit.capacity(), 0, backlog - tolerance);
+            }
+            long next = now + backlog + limit.intervalNanos();
+            if (fullAt.compareAndSet(current, next)) {
+                long used = (next - now + limit.intervalNanos() - 1) / limit.intervalNanos();
+                return new Decision(true, limit.capacity(), limit.capacity() - used, 0);
+            }
+        }
+    }
+
+    // Helper Methods
+
+    private static Limit limit(long capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limits need a capacity of at least 1 and a positive refill rate");
+        }
+        return new Limit(capacity, Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / refillPerSecond)));
+    }
+}
@@ -0,0 +1,61 @@
+package code.with.vanilson.libraryapplication.security;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * RevokedTokenRepository - the access tokens revoked before their {@code exp}, kept in {@code revoked_access_tokens}
+ * so the in-memory revocation list survives a restart. Only read at startup.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public class RevokedTokenRepository {
+
+    private static final String INSERT_REVOKED = "INSERT INTO revoked_access_tokens (token_id, expires_at) "
+            + "SELECT :tokenId, :expiresAt "
+            + "WHERE NOT EXISTS (SELECT 1 FROM revoked_access_tokens WHERE token_id = :tokenId)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RevokedTokenRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records the revocation; revoking a token twice keeps the first row.
+     */
+    public void insert(String tokenId, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_REVOKED, new MapSqlParameterSource("tokenId", tokenId)
+                .addValue("expiresAt", Timestamp.from(expiresAt)));
+    }
+
+    /**
+     * Streams the revoked tokens that have not expired yet to the consumer.
+     */
+    public void forEachUnexpired(Instant now, BiConsumer<String, Instant> consumer) {
+        jdbcTemplate.query("SELECT token_id, expires_at FROM revoked_access_tokens WHERE expires_at > :now",
+                Map.of("now", Timestamp.from(now)),
+                resultSet -> {
+                    consumer.accept(resultSet.getString("token_id"), resultSet.getTimestamp("expires_at").toInstant());
+                });
+    }
+
+    /**
+     * Drops the revocations of tokens that have expired since; an expired token is refused anyway.
+     *
+     * @return the number of rows deleted
+     */
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM revoked_access_tokens WHERE expires_at <= :now",
+                Map.of("now", Timestamp.from(now)));
+    }
+}
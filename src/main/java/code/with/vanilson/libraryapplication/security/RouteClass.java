@@ -0,0 +1,42 @@
+package code.with.vanilson.libraryapplication.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+/**
+ * RouteClass - the groups of routes that are rate limited separately, each with its own limits.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+public enum RouteClass {
+    AUTH("auth"),
+    READS("reads"),
+    WRITES("writes");
+
+    private final String tag;
+
+    RouteClass(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return the class of the request, or {@code null} for routes that are not rate limited
+     */
+    public static RouteClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/auth/")) {
+            return AUTH;
+        }
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)
+                ? READS
+                : WRITES;
+    }
+}
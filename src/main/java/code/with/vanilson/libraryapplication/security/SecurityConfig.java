@@ -22,11 +22,14 @@ public class SecurityConfig {
     public static final String API = "/api/**";
     public static final String ADMIN = "ADMIN";
 
+    private final RateLimitFilter rateLimitFilter;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomUserDetailsService customUserDetailsService;  // Inject your CustomUserDetailsService here
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+    public SecurityConfig(RateLimitFilter rateLimitFilter,
+                          JwtAuthenticationFilter jwtAuthenticationFilter,
                           CustomUserDetailsService customUserDetailsService) {
+        this.rateLimitFilter = rateLimitFilter;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.customUserDetailsService = customUserDetailsService;
     }
@@ -38,6 +41,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth ->
                         auth.requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/auth/register").permitAll()
+                                // Refresh and logout are authorized by the refresh token in the body
+                                .requestMatchers(HttpMethod.POST, "/auth/refresh", "/auth/logout").permitAll()
                                 // Now add permission logic for API routes
                                 .requestMatchers(HttpMethod.GET, API).hasAnyRole(ADMIN, "USER")
                                 // All GET requests under /api/** are allowed for authenticated users
@@ -51,6 +56,8 @@ public class SecurityConfig {
                                 .anyRequest()
                                 .authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Throttle before any authentication work, so rejected requests cost no BCrypt or user lookup
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         return http.build();
@@ -0,0 +1,33 @@
+package code.with.vanilson.libraryapplication.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * TokenPrincipal - the caller of a request as stated by its verified bearer token: the login and the roles it was
+ * issued with. Built from the token claims alone; load the {@code User} through {@code UserCache} where the full
+ * entity is needed.
+ *
+ * @param login       the subject of the token
+ * @param authorities the roles of the {@code roles} claim; empty for tokens issued before the claim existed
+ * @param tokenId     the {@code jti} of the token; {@code null} for tokens issued before the claim existed
+ * @param expiresAt   the {@code exp} of the token
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record TokenPrincipal(String login, List<GrantedAuthority> authorities, String tokenId, Instant expiresAt)
+        implements Principal {
+
+    public TokenPrincipal {
+        authorities = List.copyOf(authorities);
+    }
+
+    @Override
+    public String getName() {
+        return login;
+    }
+}
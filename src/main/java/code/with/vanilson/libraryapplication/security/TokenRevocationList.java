@@ -0,0 +1,102 @@
+package code.with.vanilson.libraryapplication.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TokenRevocationList - the access tokens revoked before their {@code exp}, checked with every authenticated
+ * request.
+ * <p>
+ * A check never touches the database: a Bloom filter answers for the tokens that were never revoked, which is
+ * nearly every request, and the exact set of revoked token IDs settles the few it reports as maybe revoked. Both
+ * are in memory; revocations are also written to {@code revoked_access_tokens} and loaded again at startup.
+ * Entries are purged once their token has expired, which rebuilds the filter from the remaining ones.
+ * <p>
+ * Each instance only knows the revocations made through it and loaded at its startup; short access tokens bound
+ * how long another instance keeps accepting a revoked token.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedSize;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${library.auth.revocation.expected-size:100000}") int expectedSize) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedSize = expectedSize;
+        this.filter = new BloomFilter(expectedSize, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Loads the revocations of the tokens that have not expired yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        revokedTokenRepository.forEachUnexpired(Instant.now(), (tokenId, expiresAt) -> {
+            revoked.put(tokenId, expiresAt);
+            filter.put(tokenId);
+        });
+        log.info("Token revocation list loaded with {} revoked tokens", revoked.size());
+    }
+
+    /**
+     * O(1) and lock-free.
+     *
+     * @param tokenId the {@code jti} of a verified access token
+     * @return {@code true} if the token was revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        return filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revokes an access token, in memory at once and in the database with the caller's transaction.
+     *
+     * @param tokenId   the {@code jti} of the token
+     * @param expiresAt the {@code exp} of the token, after which the revocation is dropped
+     */
+    public synchronized void revoke(String tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokenRepository.insert(tokenId, expiresAt);
+        revoked.put(tokenId, expiresAt);
+        filter.put(tokenId);
+    }
+
+    /**
+     * Drops the revocations of expired tokens and rebuilds the filter without them.
+     */
+    @Scheduled(fixedDelayString = "${library.auth.revocation.purge:PT10M}")
+    public synchronized void purgeExpired() {
+        Instant now = Instant.now();
+        if (revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+            // Built aside and swapped in whole, so a check never sees a filter missing a live revocation
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedSize, revoked.size()), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("Purged {} expired token revocations", deleted);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package code.with.vanilson.libraryapplication.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * UserCache - short-lived read-through cache of the users by login, for the few places that need the full user
+ * behind an authenticated request rather than the login and roles of its token.
+ * <p>
+ * Nothing in the application changes or deletes a user once registered, so there is nothing to evict; entries
+ * still expire soon after they are written, so a user changed directly in the database is seen again within
+ * {@code library.cache.users.expire-after-write}. Unknown logins are not cached, so a new registration is found at
+ * once. The password check of
+ * {@code /auth/login} does not go through this cache. Hit and miss counts are exported to Micrometer as
+ * {@code cache.*{cache="users.by-login"}}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class UserCache {
+
+    static final String BY_LOGIN = "users.by-login";
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserDetails> usersByLogin;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${library.cache.users.maximum-size:1000}") long maximumSize,
+                     @Value("${library.cache.users.expire-after-write:PT1M}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.usersByLogin = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByLogin, BY_LOGIN);
+    }
+
+    /**
+     * Returns the cached user or loads it.
+     *
+     * @param login The login of the user.
+     * @return The user, or {@code null} if there is no user with this login.
+     */
+    public UserDetails getByLogin(String login) {
+        return usersByLogin.get(login, userRepository::findUserByLogin);
+    }
+}
@@ -3,6 +3,10 @@ package code.with.vanilson.libraryapplication.util.constant;
 public class MessageConstants {
     public static final String USER_ALREADY_EXISTS = "User already exists";
     public static final String USER_CREATED_SUCCESSFULLY = "User created successfully";
+    public static final String INVALID_CREDENTIALS = "Invalid login or password";
+    public static final String AUTHENTICATION_BUSY = "Too many logins in progress, retry shortly";
+    public static final String TOO_MANY_REQUESTS = "Too many requests, retry later";
+    public static final String INVALID_REFRESH_TOKEN = "Refresh token is invalid, expired or already used";
     public static final String MESSAGE = "message";
 
     private MessageConstants() {
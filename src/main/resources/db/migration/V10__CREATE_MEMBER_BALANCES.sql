@@ -0,0 +1,14 @@
+-- Outstanding amount per member: the sum of their unpaid fines, adjusted by every fine write
+CREATE TABLE IF NOT EXISTS member_balances
+(
+    member_id   BIGINT PRIMARY KEY,
+    outstanding DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    FOREIGN KEY (member_id) REFERENCES members (person_id) ON DELETE CASCADE
+);
+
+INSERT INTO member_balances (member_id, outstanding)
+SELECT member_id, SUM(amount)
+FROM fines
+WHERE member_id IS NOT NULL
+  AND is_paid = FALSE
+GROUP BY member_id;
@@ -0,0 +1,5 @@
+-- Keyset listing and totals of the fines filtered by member, librarian, status or due date
+CREATE INDEX IF NOT EXISTS idx_fines_member_id ON fines (member_id, fine_id);
+CREATE INDEX IF NOT EXISTS idx_fines_librarian_id ON fines (librarian_id, fine_id);
+CREATE INDEX IF NOT EXISTS idx_fines_paid_id ON fines (is_paid, fine_id);
+CREATE INDEX IF NOT EXISTS idx_fines_due_id ON fines (due_date, fine_id);
@@ -0,0 +1,26 @@
+-- Refresh tokens, stored as the SHA-256 hex digest of the token only; every rotation adds a row to the family
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    refresh_token_id  BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    token_hash        CHAR(64)    NOT NULL UNIQUE,
+    family_id         VARCHAR(36) NOT NULL,
+    user_id           INTEGER     NOT NULL,
+    access_token_id   VARCHAR(36) NOT NULL,
+    access_expires_at TIMESTAMP   NOT NULL,
+    expires_at        TIMESTAMP   NOT NULL,
+    rotated_at        TIMESTAMP,
+    revoked_at        TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expiry ON refresh_tokens (expires_at);
+
+-- Access tokens revoked before their exp; loaded into memory at startup, purged once expired
+CREATE TABLE IF NOT EXISTS revoked_access_tokens
+(
+    token_id   VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_access_tokens_expiry ON revoked_access_tokens (expires_at);
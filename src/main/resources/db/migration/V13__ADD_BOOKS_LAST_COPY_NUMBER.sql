@@ -0,0 +1,4 @@
+-- Last number used in a generated copy barcode (<isbn>-NNN). It never decreases, so the barcode of a
+-- deleted copy is not handed out again; book_copies.barcode stays UNIQUE as the backstop
+ALTER TABLE books ADD COLUMN IF NOT EXISTS last_copy_number INT NOT NULL DEFAULT 0;
+UPDATE books SET last_copy_number = (SELECT COUNT(*) FROM book_copies c WHERE c.book_id = books.book_id);
@@ -0,0 +1,3 @@
+-- Keyset listing of the catalog filtered by status or genre
+CREATE INDEX IF NOT EXISTS idx_books_status_id ON books (book_status, book_id);
+CREATE INDEX IF NOT EXISTS idx_books_genre_id ON books (genre, book_id);
@@ -0,0 +1,22 @@
+-- Per-title stock counters
+ALTER TABLE books ADD COLUMN IF NOT EXISTS total_copies INT NOT NULL DEFAULT 1;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS available_copies INT NOT NULL DEFAULT 1;
+UPDATE books SET available_copies = 0 WHERE book_status <> 'AVAILABLE';
+
+-- Physical copies of a title
+CREATE TABLE IF NOT EXISTS book_copies
+(
+    copy_id     BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    book_id     BIGINT       NOT NULL,
+    barcode     VARCHAR(255) NOT NULL UNIQUE,
+    branch      VARCHAR(255),
+    copy_status VARCHAR(255) NOT NULL,
+    FOREIGN KEY (book_id) REFERENCES books (book_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_copies_book_id ON book_copies (book_id);
+
+-- One copy for every title that already exists
+INSERT INTO book_copies (book_id, barcode, copy_status)
+SELECT book_id, isbn || '-001', CASE WHEN book_status = 'LOST' THEN 'LOST' ELSE 'AVAILABLE' END
+FROM books;
@@ -0,0 +1,3 @@
+-- Lifetime checkouts per title, used to rank typeahead suggestions
+ALTER TABLE books ADD COLUMN IF NOT EXISTS borrow_count BIGINT NOT NULL DEFAULT 0;
+UPDATE books SET borrow_count = 1 WHERE book_status = 'BORROWED';
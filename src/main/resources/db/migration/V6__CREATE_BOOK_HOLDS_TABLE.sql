@@ -0,0 +1,18 @@
+-- Hold queue per title; hold_id order is the FIFO order
+CREATE TABLE IF NOT EXISTS book_holds
+(
+    hold_id     BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    book_id     BIGINT       NOT NULL,
+    member_id   BIGINT       NOT NULL,
+    hold_status VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP    NOT NULL,
+    ready_at    TIMESTAMP,
+    expires_at  TIMESTAMP,
+    FOREIGN KEY (book_id) REFERENCES books (book_id) ON DELETE CASCADE,
+    FOREIGN KEY (member_id) REFERENCES members (person_id) ON DELETE CASCADE
+);
+
+-- Head of a queue and queue position are range scans on this index
+CREATE INDEX IF NOT EXISTS idx_book_holds_queue ON book_holds (book_id, hold_status, hold_id);
+CREATE INDEX IF NOT EXISTS idx_book_holds_member ON book_holds (member_id, hold_status);
+CREATE INDEX IF NOT EXISTS idx_book_holds_expiry ON book_holds (hold_status, expires_at);
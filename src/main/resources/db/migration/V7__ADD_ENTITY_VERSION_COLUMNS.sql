@@ -0,0 +1,6 @@
+-- Optimistic lock counters; the version is also the ETag of the entity endpoints
+ALTER TABLE admins ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE librarians ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE members ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE fines ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,29 @@
+-- Circulation history: one row per checkout, closed on return and never deleted; loan_id order is checkout order
+CREATE TABLE IF NOT EXISTS loans
+(
+    loan_id             BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    book_id             BIGINT    NOT NULL,
+    member_id           BIGINT    NOT NULL,
+    librarian_id        BIGINT,
+    checked_out_at      TIMESTAMP NOT NULL,
+    due_date            DATE      NOT NULL,
+    returned_at         TIMESTAMP,
+    return_librarian_id BIGINT,
+    -- History outlives nothing it refers to: a book or member with loans cannot be deleted
+    CONSTRAINT fk_loans_book FOREIGN KEY (book_id) REFERENCES books (book_id) ON DELETE RESTRICT,
+    CONSTRAINT fk_loans_member FOREIGN KEY (member_id) REFERENCES members (person_id) ON DELETE RESTRICT,
+    FOREIGN KEY (librarian_id) REFERENCES librarians (person_id) ON DELETE SET NULL,
+    FOREIGN KEY (return_librarian_id) REFERENCES librarians (person_id) ON DELETE SET NULL
+);
+
+-- Open loans by due date: returned_at IS NULL is the leading equality, so overdue scans are range scans
+CREATE INDEX IF NOT EXISTS idx_loans_open_due ON loans (returned_at, due_date, loan_id);
+-- History of a member, newest first
+CREATE INDEX IF NOT EXISTS idx_loans_member ON loans (member_id, loan_id);
+-- The open loan closed by a return
+CREATE INDEX IF NOT EXISTS idx_loans_borrower ON loans (book_id, member_id, returned_at);
+
+-- Books on loan before this table existed get an open loan, due one default loan period from now
+INSERT INTO loans (book_id, member_id, checked_out_at, due_date)
+SELECT book_id, member_id, CURRENT_TIMESTAMP, CURRENT_DATE + INTERVAL '14' DAY
+FROM member_books;
@@ -0,0 +1,16 @@
+-- Fines accrued on an open loan; at most one per loan, a NULL loan_id is a fine applied by hand
+ALTER TABLE fines ADD COLUMN IF NOT EXISTS loan_id BIGINT REFERENCES loans (loan_id) ON DELETE SET NULL;
+-- Last day the accrual job charged the fine; a second run on the same day finds nothing to do
+ALTER TABLE fines ADD COLUMN IF NOT EXISTS accrued_on DATE;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_fines_loan ON fines (loan_id);
+
+-- One row per accrual day: the keyset position of the last committed wave, so a restarted run resumes there
+CREATE TABLE IF NOT EXISTS fine_accrual_runs
+(
+    run_date      DATE      PRIMARY KEY,
+    last_due_date DATE      NOT NULL,
+    last_loan_id  BIGINT    NOT NULL,
+    accrued       BIGINT    NOT NULL,
+    started_at    TIMESTAMP NOT NULL,
+    finished_at   TIMESTAMP
+);
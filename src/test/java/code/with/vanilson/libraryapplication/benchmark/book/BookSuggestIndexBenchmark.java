@@ -0,0 +1,109 @@
+package code.with.vanilson.libraryapplication.benchmark.book;
+
+import code.with.vanilson.libraryapplication.book.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * BookSuggestIndexBenchmark - lookup latency and heap footprint of {@link BookSuggestIndex} over 100k titles.
+ * <p>
+ * Sample-time mode reports the p99 of a single lookup; the retained heap per 100k titles is printed once the trie
+ * is built. Run with {@code mvn test-compile exec:exec
+ * -Dbenchmark=code.with.vanilson.libraryapplication.benchmark.book.BookSuggestIndexBenchmark}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class BookSuggestIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "of", "and", "history", "war", "peace", "clean", "code", "garden", "secret", "night", "river",
+            "house", "shadow", "empire", "island", "memory", "winter", "summer", "light", "dark", "stone", "fire",
+            "ocean", "city", "queen", "king", "journey", "letters", "silence", "storm", "mountain", "glass", "book",
+            "theory", "practice", "modern", "ancient", "lost", "last", "first", "little", "great", "wild", "blue"};
+    private static final String[] NAMES = {
+            "Ana", "Bruno", "Carla", "David", "Elena", "Filipe", "Grace", "Hugo", "Ines", "Joao", "Karin", "Luis",
+            "Marta", "Nuno", "Olga", "Pedro", "Rita", "Sofia", "Tiago", "Vera"};
+
+    @Param({"100000"})
+    private int titles;
+
+    private BookSuggestIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        long heapBefore = usedHeap();
+        index = new BookSuggestIndex(mock(BookRepository.class));
+        for (long id = 1; id <= titles; id++) {
+            index.index(Book.builder()
+                    .bookId(id)
+                    .title(title(random))
+                    .author(NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)] + "son")
+                    .borrowCount((long) (Math.pow(random.nextDouble(), 4) * 1_000))
+                    .build());
+        }
+        long retained = usedHeap() - heapBefore;
+        System.out.printf("%nBookSuggestIndex retains %.1f MB for %d titles (%.1f MB per 100k)%n",
+                retained / 1_048_576.0, titles, retained / 1_048_576.0 * 100_000 / titles);
+
+        // One to four typed characters, the range where keystroke lookups hit the widest subtrees
+        prefixes = new String[4_096];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = random.nextBoolean()
+                    ? WORDS[random.nextInt(WORDS.length)]
+                    : NAMES[random.nextInt(NAMES.length)].toLowerCase();
+            prefixes[i] = word.substring(0, Math.min(word.length(), 1 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public List<BookSuggestion> suggest() {
+        String prefix = prefixes[next++ & (prefixes.length - 1)];
+        return index.suggest(prefix, 5);
+    }
+
+    private static String title(Random random) {
+        int length = 2 + random.nextInt(4);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            String word = WORDS[random.nextInt(WORDS.length)];
+            title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        return title.append(' ').append(random.nextInt(10_000)).toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookSuggestIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package code.with.vanilson.libraryapplication.benchmark.common;
+
+import code.with.vanilson.libraryapplication.book.BookController;
+import code.with.vanilson.libraryapplication.common.hateoas.LinkTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * LinkTemplateBenchmark - the links of one listing page, built with {@code linkTo(methodOn(...))} per row as the
+ * controllers used to, and with {@link LinkTemplate} as they do now.
+ * <p>
+ * Both variants produce the same hrefs. Add {@code -prof gc} to the runner options to compare the allocation rate
+ * per page as well. Run with {@code mvn test-compile exec:exec
+ * -Dbenchmark=code.with.vanilson.libraryapplication.benchmark.common.LinkTemplateBenchmark}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkTemplateBenchmark {
+
+    private static final LinkRelation BOOKS_REL = LinkRelation.of(BookController.BOOKS);
+    private static final LinkTemplate BOOK_LINK =
+            LinkTemplate.of(BookController.class, "getBookById", long.class, WebRequest.class);
+    private static final LinkTemplate BOOKS_LINK = LinkTemplate.of(BookController.class, "getAllBooks");
+
+    @Param({"20", "100"})
+    private int rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Thread scoped, so the request is bound on the thread that runs the benchmark
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<Link> linkToMethodOn() {
+        List<Link> links = new ArrayList<>(rows * 2);
+        for (long bookId = 1; bookId <= rows; bookId++) {
+            links.add(linkTo(methodOn(BookController.class).getBookById(bookId, null)).withSelfRel());
+            links.add(linkTo(methodOn(BookController.class).getAllBooks()).withRel(BookController.BOOKS));
+        }
+        return links;
+    }
+
+    @Benchmark
+    public List<Link> linkTemplate() {
+        List<Link> links = new ArrayList<>(rows * 2);
+        String baseUri = LinkTemplate.currentBaseUri();
+        Link booksLink = BOOKS_LINK.toLink(baseUri, BOOKS_REL);
+        for (long bookId = 1; bookId <= rows; bookId++) {
+            links.add(BOOK_LINK.toLink(baseUri, IanaLinkRelations.SELF, bookId));
+            links.add(booksLink);
+        }
+        return links;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LinkTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package code.with.vanilson.libraryapplication.benchmark.security;
+
+import code.with.vanilson.libraryapplication.security.JwtTokenService;
+import code.with.vanilson.libraryapplication.user.Role;
+import code.with.vanilson.libraryapplication.user.User;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenServiceBenchmark - the cost of checking the bearer token of one request when the token was seen before:
+ * with a new algorithm and verifier per call as {@code validateToken} used to, with one shared verifier, and
+ * through the verified-token cache of {@link JwtTokenService} as it does now.
+ * <p>
+ * Add {@code -prof gc} to the runner options to compare the allocation rate per request as well. Run with
+ * {@code mvn test-compile exec:exec
+ * -Dbenchmark=code.with.vanilson.libraryapplication.benchmark.security.JwtTokenServiceBenchmark}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+    private static final String ISSUER = "auth-api";
+
+    private JwtTokenService jwtTokenService;
+    private JWTVerifier verifier;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenService = new JwtTokenService(SECRET, Duration.ofMinutes(15), 10_000, new SimpleMeterRegistry());
+        verifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build();
+        token = jwtTokenService.generateToken(new User("reader", "secret", Role.USER));
+    }
+
+    @Benchmark
+    public String newVerifierPerRequest() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        return JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String sharedVerifier() {
+        return verifier.verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String cachedValidation() {
+        return jwtTokenService.validateToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
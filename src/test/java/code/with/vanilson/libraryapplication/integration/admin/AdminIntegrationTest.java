@@ -232,7 +232,6 @@ class AdminIntegrationTest {
 
     private Admin createSampleAdmin() {
         Admin admin1 = new Admin();
-        admin1.setId(1L);
         admin1.setName("John Doe");
         admin1.setEmail("john.doe@example.com");
         admin1.setContact("+123 456-789-123");
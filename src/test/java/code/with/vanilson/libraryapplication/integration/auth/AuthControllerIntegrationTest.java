@@ -0,0 +1,106 @@
+package code.with.vanilson.libraryapplication.integration.auth;
+
+import code.with.vanilson.libraryapplication.auth.AuthResponseDTO;
+import code.with.vanilson.libraryapplication.auth.AuthenticationDTO;
+import code.with.vanilson.libraryapplication.auth.RegistrationRequestDTO;
+import code.with.vanilson.libraryapplication.user.Role;
+import code.with.vanilson.libraryapplication.user.User;
+import code.with.vanilson.libraryapplication.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static code.with.vanilson.libraryapplication.util.constant.MessageConstants.INVALID_CREDENTIALS;
+import static code.with.vanilson.libraryapplication.util.constant.MessageConstants.MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuthControllerIntegrationTest - logs in and registers over HTTP, through the password hashing threads and the
+ * asynchronous completion of the response.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AuthControllerIntegrationTest {
+
+    private static final String LOGIN = "auth.reader";
+    private static final String REGISTERED = "auth.newcomer";
+    private static final String PASSWORD = "secret";
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT =
+            new ParameterizedTypeReference<>() {
+            };
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // HttpURLConnection cannot read a 401 answer to a streamed POST
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+        user = userRepository.save(new User(LOGIN, passwordEncoder.encode(PASSWORD), Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id IN (SELECT id FROM users WHERE login IN (?, ?))",
+                LOGIN, REGISTERED);
+        jdbcTemplate.update("DELETE FROM users WHERE login IN (?, ?)", LOGIN, REGISTERED);
+    }
+
+    @Test
+    void login_IssuesTheTokenPair() {
+        ResponseEntity<AuthResponseDTO> response = restTemplate.postForEntity("/auth/login",
+                new AuthenticationDTO(LOGIN, PASSWORD), AuthResponseDTO.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().token()).isNotBlank();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?",
+                Long.class, user.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void login_Answers401_WhenThePasswordIsWrong() {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange("/auth/login", HttpMethod.POST,
+                new HttpEntity<>(new AuthenticationDTO(LOGIN, "wrong")), JSON_OBJECT);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getBody()).containsEntry(MESSAGE, INVALID_CREDENTIALS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?",
+                Long.class, user.getId())).isZero();
+    }
+
+    @Test
+    void register_SavesTheHashedPassword() {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange("/auth/register", HttpMethod.POST,
+                new HttpEntity<>(new RegistrationRequestDTO(REGISTERED, PASSWORD, Role.USER)), JSON_OBJECT);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(passwordEncoder.matches(PASSWORD,
+                userRepository.findUserByLogin(REGISTERED).getPassword())).isTrue();
+    }
+}
@@ -0,0 +1,105 @@
+package code.with.vanilson.libraryapplication.integration.auth;
+
+import code.with.vanilson.libraryapplication.auth.AuthResponseDTO;
+import code.with.vanilson.libraryapplication.auth.RefreshTokenService;
+import code.with.vanilson.libraryapplication.security.JwtTokenService;
+import code.with.vanilson.libraryapplication.security.TokenRevocationList;
+import code.with.vanilson.libraryapplication.user.Role;
+import code.with.vanilson.libraryapplication.user.User;
+import code.with.vanilson.libraryapplication.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshTokenIntegrationTest - rotates, replays and revokes refresh tokens against the schema built by the
+ * migrations.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@SuppressWarnings("all")
+class RefreshTokenIntegrationTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private JwtTokenService jwtTokenService;
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("refresh.reader", "secret", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM revoked_access_tokens");
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void refresh_RotatesThePair() {
+        AuthResponseDTO login = refreshTokenService.issue(user);
+
+        AuthResponseDTO renewed = refreshTokenService.refresh(login.refreshToken()).orElseThrow();
+
+        assertThat(renewed.refreshToken()).isNotEqualTo(login.refreshToken());
+        assertThat(jwtTokenService.verify(renewed.token()).login()).isEqualTo("refresh.reader");
+        assertThat(isRevoked(login.token())).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?",
+                Long.class, user.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_RevokesTheFamily_WhenATokenIsReplayed() {
+        AuthResponseDTO login = refreshTokenService.issue(user);
+        AuthResponseDTO renewed = refreshTokenService.refresh(login.refreshToken()).orElseThrow();
+
+        assertThat(refreshTokenService.refresh(login.refreshToken())).isEmpty();
+
+        // The legitimate holder is logged out too: both its refresh token and its access tokens stop working
+        assertThat(refreshTokenService.refresh(renewed.refreshToken())).isEmpty();
+        assertThat(isRevoked(login.token())).isTrue();
+        assertThat(isRevoked(renewed.token())).isTrue();
+    }
+
+    @Test
+    void revoke_LogsOutTheFamily() {
+        AuthResponseDTO login = refreshTokenService.issue(user);
+        AuthResponseDTO other = refreshTokenService.issue(user);
+
+        refreshTokenService.revoke(login.refreshToken());
+
+        assertThat(refreshTokenService.refresh(login.refreshToken())).isEmpty();
+        assertThat(isRevoked(login.token())).isTrue();
+        assertThat(isRevoked(other.token())).isFalse();
+        assertThat(refreshTokenService.refresh(other.refreshToken())).isPresent();
+    }
+
+    @Test
+    void refresh_RejectsUnknownTokens() {
+        assertThat(refreshTokenService.refresh("not-a-refresh-token")).isEmpty();
+    }
+
+    private boolean isRevoked(String accessToken) {
+        return tokenRevocationList.isRevoked(jwtTokenService.verify(accessToken).tokenId());
+    }
+}
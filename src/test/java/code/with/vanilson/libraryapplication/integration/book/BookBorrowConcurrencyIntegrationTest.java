@@ -0,0 +1,107 @@
+package code.with.vanilson.libraryapplication.integration.book;
+
+import code.with.vanilson.libraryapplication.book.BookRepository;
+import code.with.vanilson.libraryapplication.book.BookService;
+import code.with.vanilson.libraryapplication.book.BookStatus;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookBorrowConcurrencyIntegrationTest - hammers borrowBook from many threads and checks that every
+ * book ends up borrowed exactly once. Runs on a database of its own, so the people it creates never take the IDs
+ * other integration tests expect.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(BookFixture.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:book_borrow_concurrency;DB_CLOSE_DELAY=-1")
+@SuppressWarnings("all")
+class BookBorrowConcurrencyIntegrationTest {
+
+    private static final int BOOKS = 10;
+    private static final int MEMBERS = 8;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS = 2_000;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BookFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture.create("Concurrency", MEMBERS, BOOKS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.deleteAll();
+    }
+
+    @Test
+    void concurrentBorrowRequests_NeverBorrowTheSameBookTwice() throws Exception {
+        List<Long> bookIds = fixture.getBookIds();
+        List<Long> memberIds = fixture.getMemberIds();
+        Long librarianId = fixture.getLibrarianId();
+        var successes = new AtomicInteger();
+        var rejections = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            Long bookId = bookIds.get(i % BOOKS);
+            Long memberId = memberIds.get(ThreadLocalRandom.current().nextInt(MEMBERS));
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookService.borrowBook(bookId, memberId, librarianId);
+                    successes.incrementAndGet();
+                } catch (ResourceBadRequestException e) {
+                    rejections.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(successes.get()).isEqualTo(BOOKS);
+        assertThat(rejections.get()).isEqualTo(ATTEMPTS - BOOKS);
+        for (Long bookId : bookIds) {
+            assertThat(bookRepository.findById(bookId).orElseThrow().getStatus()).isEqualTo(BookStatus.BORROWED);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_books WHERE book_id = ?",
+                    Integer.class, bookId)).isEqualTo(1);
+            // Rejected attempts roll back, so exactly the winning borrow left a loan behind
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM loans WHERE book_id = ? AND returned_at IS NULL",
+                    Integer.class, bookId)).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package code.with.vanilson.libraryapplication.integration.book;
+
+import code.with.vanilson.libraryapplication.book.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookCatalogQueryCountIntegrationTest - checks that catalog reads run a constant number of statements
+ * regardless of how many books, borrowers, librarians and admins are involved, and load no entity. The listings
+ * count every book in the catalog, so it runs on a database of its own holding only the books of its fixture.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(BookFixture.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:book_catalog_query_count;DB_CLOSE_DELAY=-1")
+@SuppressWarnings("all")
+class BookCatalogQueryCountIntegrationTest {
+
+    private static final int BOOKS = 12;
+    private static final int MEMBERS = 4;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private BookFixture fixture;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        fixture.create("Query", MEMBERS, BOOKS);
+        List<Long> bookIds = fixture.getBookIds();
+        List<Long> memberIds = fixture.getMemberIds();
+        for (int i = 0; i < BOOKS; i++) {
+            fixture.addBorrower(bookIds.get(i), memberIds.get(i % MEMBERS));
+            fixture.addBorrower(bookIds.get(i), memberIds.get((i + 1) % MEMBERS));
+        }
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.deleteAll();
+    }
+
+    @Test
+    void getAllBooks_RunsFourStatements_AndLoadsNoEntity() {
+        var books = bookService.getAllBooks();
+
+        // Books, borrowers, librarians and admins, each read once as projections
+        assertThat(books).hasSize(BOOKS);
+        assertThat(books).allSatisfy(book -> assertThat(book.getMembers()).hasSize(2));
+        assertThat(books).allSatisfy(book -> assertThat(book.getLibrarian().getAdmin()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getBooksPage_RunsFourStatementsPerPage_AndLoadsNoEntity() {
+        var page = bookService.getBooksPage(null, 5, null, null);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allSatisfy(book -> assertThat(book.getMembers()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,149 @@
+package code.with.vanilson.libraryapplication.integration.book;
+
+import code.with.vanilson.libraryapplication.admin.Admin;
+import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.admin.Role;
+import code.with.vanilson.libraryapplication.book.Book;
+import code.with.vanilson.libraryapplication.book.BookRepository;
+import code.with.vanilson.libraryapplication.book.BookStatus;
+import code.with.vanilson.libraryapplication.librarian.Librarian;
+import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.member.Member;
+import code.with.vanilson.libraryapplication.member.MemberRepository;
+import code.with.vanilson.libraryapplication.member.MembershipStatus;
+import code.with.vanilson.libraryapplication.person.Address;
+import lombok.Getter;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Scope;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BookFixture - the admin, librarian, members and books the book integration tests run against.
+ * <p>
+ * Members are managed by the librarian and its admin, as a borrow maps both for every borrower. Emails, contacts,
+ * codes and ISBNs are numbered so fixtures never collide; {@link #deleteAll()} removes everything created, with the
+ * loans and borrower rows left by the test. One fixture per test instance.
+ * <p>
+ * The admins, librarians and members it saves consume person IDs, so a test using it runs on a database of its own
+ * ({@code spring.datasource.url} in {@code @TestPropertySource}) rather than the one shared by the other tests.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@TestComponent
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+class BookFixture {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+    private final LibrarianRepository librarianRepository;
+    private final AdminRepository adminRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Long adminId;
+    @Getter
+    private Long librarianId;
+    @Getter
+    private final List<Long> memberIds = new ArrayList<>();
+    @Getter
+    private final List<Long> bookIds = new ArrayList<>();
+
+    BookFixture(BookRepository bookRepository, MemberRepository memberRepository,
+                LibrarianRepository librarianRepository, AdminRepository adminRepository,
+                TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate) {
+        this.bookRepository = bookRepository;
+        this.memberRepository = memberRepository;
+        this.librarianRepository = librarianRepository;
+        this.adminRepository = adminRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Saves an admin, a librarian, the members and one available copy of each book, in one transaction.
+     *
+     * @param name    prefix of every name and title
+     * @param members the number of members
+     * @param books   the number of books
+     */
+    void create(String name, int members, int books) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Admin admin = adminRepository.save(new Admin(name + " Admin", email(name), createSampleAddress(),
+                    contact(), code(), Role.SYSTEM_ADMIN));
+            adminId = admin.getId();
+            Librarian librarian = librarianRepository.save(new Librarian(name + " Librarian", email(name),
+                    createSampleAddress(), contact(), code(), admin));
+            librarianId = librarian.getId();
+
+            for (int i = 0; i < members; i++) {
+                Member member = memberRepository.save(new Member(name + " Member " + i, email(name),
+                        createSampleAddress(), contact(), MembershipStatus.ACTIVE, librarian, admin));
+                memberIds.add(member.getId());
+            }
+            for (int i = 0; i < books; i++) {
+                Book book = Book.builder()
+                        .title(name + " Book " + i)
+                        .author("Author")
+                        .isbn("978%010d".formatted(SEQUENCE.incrementAndGet()))
+                        .genre("Fiction")
+                        .status(BookStatus.AVAILABLE)
+                        .librarian(librarian)
+                        .build();
+                bookIds.add(bookRepository.save(book).getBookId());
+            }
+        });
+    }
+
+    /**
+     * Records the member as a borrower of the book, without touching the stock counters.
+     */
+    void addBorrower(Long bookId, Long memberId) {
+        jdbcTemplate.update("INSERT INTO member_books (member_id, book_id) VALUES (?, ?)", memberId, bookId);
+    }
+
+    /**
+     * Deletes everything {@link #create} saved, after the loans and borrower rows that reference it.
+     */
+    void deleteAll() {
+        bookIds.forEach(id -> jdbcTemplate.update("DELETE FROM loans WHERE book_id = ?", id));
+        bookIds.forEach(id -> jdbcTemplate.update("DELETE FROM member_books WHERE book_id = ?", id));
+        bookIds.forEach(id -> jdbcTemplate.update("DELETE FROM books WHERE book_id = ?", id));
+        memberIds.forEach(id -> jdbcTemplate.update("DELETE FROM members WHERE person_id = ?", id));
+        jdbcTemplate.update("DELETE FROM librarians WHERE person_id = ?", librarianId);
+        jdbcTemplate.update("DELETE FROM admins WHERE person_id = ?", adminId);
+    }
+
+    // Helper Methods
+
+    private static String email(String name) {
+        return "%s.%d@example.com".formatted(name.toLowerCase().replace(' ', '.'), SEQUENCE.incrementAndGet());
+    }
+
+    private static String contact() {
+        return "+351 9%08d".formatted(SEQUENCE.incrementAndGet());
+    }
+
+    private static String code() {
+        return "FIX-%d".formatted(SEQUENCE.incrementAndGet());
+    }
+
+    private static Address createSampleAddress() {
+        Address address = new Address();
+        address.setStreet("123 Main St");
+        address.setState("NY");
+        address.setCity("Anytown");
+        address.setCountry("USA");
+        address.setPostalCode("12345");
+        return address;
+    }
+}
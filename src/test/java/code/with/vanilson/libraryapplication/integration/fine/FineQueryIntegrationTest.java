@@ -0,0 +1,161 @@
+package code.with.vanilson.libraryapplication.integration.fine;
+
+import code.with.vanilson.libraryapplication.admin.Admin;
+import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.admin.Role;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.money.Money;
+import code.with.vanilson.libraryapplication.fine.*;
+import code.with.vanilson.libraryapplication.librarian.Librarian;
+import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.member.Member;
+import code.with.vanilson.libraryapplication.member.MemberRepository;
+import code.with.vanilson.libraryapplication.member.MembershipStatus;
+import code.with.vanilson.libraryapplication.person.Address;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FineQueryIntegrationTest - runs the filtered keyset pages and the SQL totals of the fines against the schema
+ * built by the migrations. Runs on a database of its own, so the people it creates never take the IDs other
+ * integration tests expect.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:fine_query;DB_CLOSE_DELAY=-1")
+@SuppressWarnings("all")
+class FineQueryIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+
+    @Autowired
+    private FineService fineService;
+    @Autowired
+    private FineRepository fineRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private LibrarianRepository librarianRepository;
+    @Autowired
+    private AdminRepository adminRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long adminId;
+    private Long librarianId;
+    private Long memberId;
+    private Long otherMemberId;
+    private final List<Long> fineIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Admin admin = adminRepository.save(new Admin("Fines Admin", "fines.admin@example.com",
+                    createSampleAddress(), "+351 921-000-000", "FIN-ADM", Role.SYSTEM_ADMIN));
+            adminId = admin.getId();
+            Librarian librarian = librarianRepository.save(new Librarian("Fines Librarian",
+                    "fines.librarian@example.com", createSampleAddress(), "+351 921-000-001", "FIN-LIB", admin));
+            librarianId = librarian.getId();
+            Member member = memberRepository.save(new Member("Fines Member", "fines.member@example.com",
+                    createSampleAddress(), "+351 931-000-001", MembershipStatus.ACTIVE, librarian, admin));
+            memberId = member.getId();
+            Member other = memberRepository.save(new Member("Other Fines Member", "fines.other@example.com",
+                    createSampleAddress(), "+351 931-000-002", MembershipStatus.ACTIVE, librarian, admin));
+            otherMemberId = other.getId();
+
+            // Five fines of the member, due one day apart, the last two paid; one fine of the other member
+            for (int i = 0; i < 5; i++) {
+                fineIds.add(fineRepository.save(new Fine(Money.ofCents(110 + i), DAY.minusDays(30),
+                        DAY.minusDays(10 - i), i >= 3, member, librarian, admin)).getId());
+            }
+            fineIds.add(fineRepository.save(new Fine(Money.ofCents(5_000), DAY.minusDays(30), DAY.minusDays(8),
+                    false, other, librarian, admin)).getId());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        fineIds.forEach(id -> jdbcTemplate.update("DELETE FROM fines WHERE fine_id = ?", id));
+        jdbcTemplate.update("DELETE FROM members WHERE person_id IN (?, ?)", memberId, otherMemberId);
+        jdbcTemplate.update("DELETE FROM librarians WHERE person_id = ?", librarianId);
+        jdbcTemplate.update("DELETE FROM admins WHERE person_id = ?", adminId);
+    }
+
+    @Test
+    void getFinesPage_WalksFilteredFines_PageByPage() {
+        var filter = new FineFilter(memberId, null, null, null, null);
+
+        var first = fineService.getFinesPage(null, 2, filter);
+        var second = fineService.getFinesPage(first.getNextCursor(), 2, filter);
+        var last = fineService.getFinesPage(second.getNextCursor(), 2, filter);
+
+        assertThat(first.getContent()).extracting(FineResponse::getId).containsExactlyElementsOf(fineIds.subList(0, 2));
+        assertThat(second.getContent()).extracting(FineResponse::getId)
+                .containsExactlyElementsOf(fineIds.subList(2, 4));
+        assertThat(last.getContent()).extracting(FineResponse::getId).containsExactly(fineIds.get(4));
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(first.getContent().get(0).getAmount()).isEqualTo(Money.ofCents(110));
+        assertThat(first.getContent().get(0).getMemberId().getId()).isEqualTo(memberId);
+    }
+
+    @Test
+    void getFinesPage_CombinesStatusAndDueDateFilters() {
+        var page = fineService.getFinesPage(null, 10,
+                new FineFilter(null, librarianId, false, DAY.minusDays(9), DAY.minusDays(7)));
+
+        // Due 9 and 8 days ago and unpaid; the one due 7 days ago is paid
+        assertThat(page.getContent()).extracting(FineResponse::getId)
+                .containsExactly(fineIds.get(1), fineIds.get(2), fineIds.get(5));
+    }
+
+    @Test
+    void getFineSummary_SumsAndCountsByStatus() {
+        var summary = fineService.getFineSummary(new FineFilter(memberId, null, null, null, null));
+
+        assertThat(summary.count()).isEqualTo(5);
+        assertThat(summary.total()).isEqualTo(Money.ofCents(110 + 111 + 112 + 113 + 114));
+        assertThat(summary.paidCount()).isEqualTo(2);
+        assertThat(summary.paidTotal()).isEqualTo(Money.ofCents(113 + 114));
+        assertThat(summary.unpaidCount()).isEqualTo(3);
+        assertThat(summary.unpaidTotal()).isEqualTo(Money.ofCents(110 + 111 + 112));
+    }
+
+    @Test
+    void getFinesPage_RejectsEmptyDueDateRange() {
+        assertThatThrownBy(() -> fineService.getFineSummary(new FineFilter(null, null, null, DAY, DAY.minusDays(1))))
+                .isInstanceOf(ResourceBadRequestException.class);
+        assertThatThrownBy(() -> fineService.getFinesPage(-1L, 10, new FineFilter(null, null, null, null, null)))
+                .isInstanceOf(ResourceBadRequestException.class);
+    }
+
+    private Address createSampleAddress() {
+        Address address = new Address();
+        address.setStreet("123 Main St");
+        address.setState("NY");
+        address.setCity("Anytown");
+        address.setCountry("USA");
+        address.setPostalCode("12345");
+        return address;
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 
 import java.time.Instant;
 import java.util.List;
@@ -30,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.*;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @ActiveProfiles("test")
+// Expects the admin and librarian it creates to get ID 1, so no other test may have saved people before it
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:librarian_controller;DB_CLOSE_DELAY=-1")
 @SuppressWarnings("unused")
 class LibrarianControllerIntegrationTest {
 
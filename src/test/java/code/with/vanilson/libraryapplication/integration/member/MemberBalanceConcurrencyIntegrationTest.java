@@ -0,0 +1,139 @@
+package code.with.vanilson.libraryapplication.integration.member;
+
+import code.with.vanilson.libraryapplication.admin.Admin;
+import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.admin.Role;
+import code.with.vanilson.libraryapplication.common.money.Money;
+import code.with.vanilson.libraryapplication.librarian.Librarian;
+import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.member.Member;
+import code.with.vanilson.libraryapplication.member.MemberBalanceRepository;
+import code.with.vanilson.libraryapplication.member.MemberBalanceService;
+import code.with.vanilson.libraryapplication.member.MemberRepository;
+import code.with.vanilson.libraryapplication.member.MembershipStatus;
+import code.with.vanilson.libraryapplication.person.Address;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MemberBalanceConcurrencyIntegrationTest - many transactions open the balance row of the same member at once,
+ * as parallel accrual waves or concurrent fines do, and none of them may fail or lose its delta. Runs on a database
+ * of its own, so the people it creates never take the IDs other integration tests expect.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:member_balance_concurrency;DB_CLOSE_DELAY=-1")
+@SuppressWarnings("all")
+class MemberBalanceConcurrencyIntegrationTest {
+
+    private static final int MEMBERS = 20;
+    private static final int THREADS = 16;
+    private static final long DELTA = 125;
+
+    @Autowired
+    private MemberBalanceService memberBalanceService;
+    @Autowired
+    private MemberBalanceRepository memberBalanceRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private LibrarianRepository librarianRepository;
+    @Autowired
+    private AdminRepository adminRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long adminId;
+    private Long librarianId;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Admin admin = adminRepository.save(new Admin("Balance Admin", "balance.admin@example.com",
+                    createSampleAddress(), "+351 922-000-000", "BAL-ADM", Role.SYSTEM_ADMIN));
+            adminId = admin.getId();
+            Librarian librarian = librarianRepository.save(new Librarian("Balance Librarian",
+                    "balance.librarian@example.com", createSampleAddress(), "+351 922-000-001", "BAL-LIB", admin));
+            librarianId = librarian.getId();
+            for (int i = 0; i < MEMBERS; i++) {
+                Member member = memberRepository.save(new Member("Balance Member " + i,
+                        "balance.member." + i + "@example.com", createSampleAddress(),
+                        "+351 932-000-%03d".formatted(i), MembershipStatus.ACTIVE, librarian, admin));
+                memberIds.add(member.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberIds.forEach(id -> jdbcTemplate.update("DELETE FROM member_balances WHERE member_id = ?", id));
+        memberIds.forEach(id -> jdbcTemplate.update("DELETE FROM members WHERE person_id = ?", id));
+        jdbcTemplate.update("DELETE FROM librarians WHERE person_id = ?", librarianId);
+        jdbcTemplate.update("DELETE FROM admins WHERE person_id = ?", adminId);
+    }
+
+    @Test
+    void concurrentFirstFines_OpenOneBalanceRowAndKeepEveryDelta() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            // One round per member: every thread races to open the same missing row
+            for (Long memberId : memberIds) {
+                var start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        transactionTemplate.executeWithoutResult(
+                                status -> memberBalanceService.adjust(memberId, DELTA));
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Long memberId : memberIds) {
+            assertThat(memberBalanceRepository.findOutstanding(memberId))
+                    .contains(Money.ofCents(THREADS * DELTA));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_balances WHERE member_id = ?",
+                    Integer.class, memberId)).isEqualTo(1);
+        }
+    }
+
+    // Helper Methods
+
+    private static Address createSampleAddress() {
+        Address address = new Address();
+        address.setStreet("123 Main St");
+        address.setState("NY");
+        address.setCity("Anytown");
+        address.setCountry("USA");
+        address.setPostalCode("12345");
+        return address;
+    }
+}
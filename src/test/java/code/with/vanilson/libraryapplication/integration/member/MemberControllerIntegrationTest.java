@@ -248,7 +248,6 @@ class MemberControllerIntegrationTest {
 
     private Admin createSampleAdmin() {
         Admin admin1 = new Admin();
-        admin1.setId(1L);
         admin1.setName("John Doe");
         admin1.setEmail("john.doe@example.com");
         admin1.setContact("+123 456-789-123");
@@ -260,7 +259,6 @@ class MemberControllerIntegrationTest {
 
     private Librarian createSampleLibrarian(Admin admin) {
         Librarian librarian1 = new Librarian();
-        librarian1.setId(1L);
         librarian1.setName("John Doe");
         librarian1.setEmail("john.doe@example.com");
         librarian1.setContact("+123 456-789-123");
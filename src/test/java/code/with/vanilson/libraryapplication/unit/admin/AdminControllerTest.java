@@ -453,7 +453,7 @@ class AdminControllerTest {
     @Test
     void updateAdmin_ShouldReturnOkStatusAndUpdatedAdmin() throws Exception {
         // Arrange
-        when(adminService.updateAdmin(any(AdminRequest.class), eq(adminResponse.getId())))
+        when(adminService.updateAdmin(any(AdminRequest.class), eq(adminResponse.getId()), isNull()))
                 .thenReturn(adminResponse);
 
         // Act & Assert
@@ -474,7 +474,7 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$.adminCode").value(adminResponse.getAdminCode()))
                 .andExpect(jsonPath("$.role").value(adminResponse.getRole().toString()));
 
-        verify(adminService, times(1)).updateAdmin(any(AdminRequest.class), eq(adminResponse.getId()));
+        verify(adminService, times(1)).updateAdmin(any(AdminRequest.class), eq(adminResponse.getId()), isNull());
     }
 
     /**
@@ -490,7 +490,7 @@ class AdminControllerTest {
         // Arrange
         Long nonExistentAdminId = 999L;
         var expectedMessage = formatMessage("library.admin.not_found", nonExistentAdminId);
-        when(adminService.updateAdmin(any(AdminRequest.class), eq(nonExistentAdminId)))
+        when(adminService.updateAdmin(any(AdminRequest.class), eq(nonExistentAdminId), isNull()))
                 .thenThrow(new ResourceNotFoundException(expectedMessage));
 
         // Act & Assert
@@ -501,7 +501,7 @@ class AdminControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.message").value(expectedMessage));
 
-        verify(adminService, times(1)).updateAdmin(any(AdminRequest.class), eq(nonExistentAdminId));
+        verify(adminService, times(1)).updateAdmin(any(AdminRequest.class), eq(nonExistentAdminId), isNull());
     }
 
     /**
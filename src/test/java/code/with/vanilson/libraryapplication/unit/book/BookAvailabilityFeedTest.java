@@ -0,0 +1,171 @@
+package code.with.vanilson.libraryapplication.unit.book;
+
+import code.with.vanilson.libraryapplication.book.BookAvailability;
+import code.with.vanilson.libraryapplication.book.BookAvailabilityFeed;
+import code.with.vanilson.libraryapplication.book.BookRepository;
+import code.with.vanilson.libraryapplication.book.BookStatus;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Book Availability Feed Test")
+class BookAvailabilityFeedTest {
+
+    private BookRepository bookRepository;
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private BookAvailabilityFeed feed;
+
+    /**
+     * Keeps what would be written to the client.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Set<DataWithMediaType>> events = new LinkedBlockingQueue<>();
+        private volatile boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder.build());
+        }
+
+        private String next() throws InterruptedException {
+            Set<DataWithMediaType> event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("event").isNotNull();
+            return event.stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .reduce("", String::concat);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        when(bookRepository.findAvailability(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .map(bookId -> new BookAvailability(bookId, BookStatus.AVAILABLE, 1, 2))
+                        .toList());
+        feed = new BookAvailabilityFeed(bookRepository, 2, Duration.ofMinutes(30)) {
+            @Override
+            protected SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.close();
+    }
+
+    @Test
+    @DisplayName("Should send the current state on subscribe, then each change to its watchers only")
+    void shouldPushChanges_ToWatchersOnly() throws Exception {
+        feed.subscribe(List.of(1L, 2L));
+        feed.subscribe(List.of(3L));
+        RecordingEmitter watcher = emitters.get(0);
+        RecordingEmitter other = emitters.get(1);
+        assertThat(watcher.next()).contains("event:availability").contains("bookId=1");
+        assertThat(watcher.next()).contains("bookId=2");
+        assertThat(other.next()).contains("bookId=3");
+
+        feed.publish(2L);
+
+        assertThat(watcher.next()).contains("bookId=2");
+        assertThat(other.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should never send the snapshot after a change committed while it was being read")
+    void shouldSendSnapshotBeforeLaterChanges() throws Exception {
+        AtomicReference<BookStatus> status = new AtomicReference<>(BookStatus.AVAILABLE);
+        CountDownLatch snapshotRead = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookRepository.findAvailability(anyCollection())).thenAnswer(invocation -> {
+            var availability = List.of(new BookAvailability(1L, status.get(), 0, 1));
+            // The first read is the snapshot: hold it until the change below has been published
+            if (snapshotRead.getCount() > 0) {
+                snapshotRead.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return availability;
+        });
+        ExecutorService client = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> subscription = client.submit(() -> feed.subscribe(List.of(1L)));
+            assertThat(snapshotRead.await(5, TimeUnit.SECONDS)).isTrue();
+            status.set(BookStatus.BORROWED);
+            feed.publish(1L);
+            // Give the change every chance to overtake the snapshot before it is let through
+            RecordingEmitter watcher = emitters.get(0);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (watcher.events.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            subscription.get(5, TimeUnit.SECONDS);
+        } finally {
+            client.shutdownNow();
+        }
+
+        RecordingEmitter watcher = emitters.get(0);
+        assertThat(watcher.next()).contains("status=AVAILABLE");
+        assertThat(watcher.next()).contains("status=BORROWED");
+    }
+
+    @Test
+    @DisplayName("Should not read anything for books nobody watches")
+    void shouldIgnoreUnwatchedBooks() {
+        feed.publish(42L);
+
+        verify(bookRepository, never()).findAvailability(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose connection is gone and refuse subscribers past the limit")
+    void shouldDropBrokenSubscribers_AndEnforceLimit() throws Exception {
+        feed.subscribe(List.of(1L));
+        feed.subscribe(List.of(1L));
+        assertThat(feed.subscribe(List.of(1L))).isEmpty();
+
+        emitters.get(0).broken = true;
+        feed.publish(1L);
+        emitters.get(1).next();
+        assertThat(emitters.get(1).next()).contains("bookId=1");
+
+        // The broken subscriber may be visited after the healthy one
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (feed.size() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(feed.size()).isEqualTo(1);
+        assertThat(feed.subscribe(List.of(1L))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should reject subscriptions without books or with too many")
+    void shouldRejectInvalidSubscriptions() {
+        assertThatThrownBy(() -> feed.subscribe(List.of()))
+                .isInstanceOf(ResourceBadRequestException.class);
+        assertThatThrownBy(() -> feed.subscribe(LongStream.rangeClosed(1, 101).boxed().toList()))
+                .isInstanceOf(ResourceBadRequestException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package code.with.vanilson.libraryapplication.unit.book;
+
+import code.with.vanilson.libraryapplication.book.BookCache;
+import code.with.vanilson.libraryapplication.book.BookResponse;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Book Cache Test")
+class BookCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookCache bookCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookCache = new BookCache(meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should load a cold key once under concurrent lookups")
+    void shouldLoadOnce_WhenKeyIsRequestedConcurrently() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BookResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookCache.getById(1L, id -> {
+                        loads.incrementAndGet();
+                        sleep();
+                        return book(id);
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<BookResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should hand out copies so links added by callers stay out of the cache")
+    void shouldReturnCopies() {
+        BookResponse first = bookCache.getById(1L, this::book);
+        first.add(Link.of("/api/books/1"));
+
+        BookResponse second = bookCache.getById(1L, id -> {
+            throw new IllegalStateException("should be cached");
+        });
+
+        assertThat(second.getLinks()).isEmpty();
+        assertThat(second.getTitle()).isEqualTo("Clean Code");
+    }
+
+    @Test
+    @DisplayName("Should not cache failed loads")
+    void shouldNotCacheFailures() {
+        assertThatThrownBy(() -> bookCache.getById(1L, id -> {
+            throw new ResourceNotFoundException("missing");
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(bookCache.getById(1L, this::book).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should drop the book and its ISBNs on eviction")
+    void shouldEvictBookAndIsbn() {
+        AtomicInteger loads = new AtomicInteger();
+        bookCache.getById(1L, this::book);
+        bookCache.getIdByIsbn("9780132350884", isbn -> 1L);
+
+        bookCache.evict(1L, "9780132350884", null);
+
+        bookCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return book(id);
+        });
+        bookCache.getIdByIsbn("9780132350884", isbn -> {
+            loads.incrementAndGet();
+            return 1L;
+        });
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should export hit and miss counts to Micrometer")
+    void shouldExportStats() {
+        bookCache.getById(1L, this::book);
+        bookCache.getById(1L, this::book);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "books.by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "books.by-id").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private BookResponse book(Long id) {
+        return BookResponse.builder()
+                .id(id)
+                .title("Clean Code")
+                .isbn("9780132350884")
+                .build();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package code.with.vanilson.libraryapplication.unit.book;
+
+import code.with.vanilson.libraryapplication.book.BookExportRepository;
+import code.with.vanilson.libraryapplication.book.BookExportRow;
+import code.with.vanilson.libraryapplication.book.BookExportService;
+import code.with.vanilson.libraryapplication.book.BookFeedFormat;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.utils.StringUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Book Export Service Test")
+class BookExportServiceTest {
+
+    private BookExportRepository bookExportRepository;
+    private PlatformTransactionManager transactionManager;
+    private BookExportService bookExportService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        bookExportRepository = mock(BookExportRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        bookExportService = new BookExportService(bookExportRepository, transactionManager, objectMapper, 2);
+    }
+
+    @Test
+    @DisplayName("Should write a CSV export the import can read back")
+    void shouldExportCsv() {
+        streamRows(row(1L, "Refactoring, 2nd Edition", null), row(2L, "The \"Pragmatic\" Programmer", 1999));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        bookExportService.exportBooks(BookFeedFormat.CSV, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(StringUtils.splitCsvLine(lines.get(0))).contains("title", "isbn", "publisherYear");
+        assertThat(StringUtils.splitCsvLine(lines.get(1)))
+                .containsExactly("1", "Refactoring, 2nd Edition", "Martin Fowler", "9780134757599", "", "", "",
+                        "AVAILABLE", "2", "1", "7");
+        assertThat(StringUtils.splitCsvLine(lines.get(2)).get(1)).isEqualTo("The \"Pragmatic\" Programmer");
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line and flush the first row at once")
+    void shouldExportNdjson() throws IOException {
+        streamRows(row(1L, "Dune", 1965), row(2L, "Emma", null), row(3L, "Ulysses", 1922));
+        ByteArrayOutputStream output = spy(new ByteArrayOutputStream());
+
+        bookExportService.exportBooks(BookFeedFormat.NDJSON, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("title").asText()).isEqualTo("Dune");
+        assertThat(first.get("publisherYear").asInt()).isEqualTo(1965);
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
+        // After rows 1 and 2 (the flush interval), then once at the end
+        verify(output, times(3)).flush();
+    }
+
+    @Test
+    @DisplayName("Should stop reading the cursor when the client goes away")
+    void shouldAbort_WhenClientDisconnects() {
+        streamRows(row(1L, "Dune", 1965), row(2L, "Emma", null));
+        OutputStream output = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> bookExportService.exportBooks(BookFeedFormat.NDJSON, output))
+                .isInstanceOf(UncheckedIOException.class);
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown export format")
+    void shouldThrowException_WhenFormatIsUnknown() {
+        assertThat(BookFeedFormat.fromName("CSV")).isEqualTo(BookFeedFormat.CSV);
+        assertThatThrownBy(() -> BookFeedFormat.fromName("xml"))
+                .isInstanceOf(ResourceBadRequestException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRows(BookExportRow... rows) {
+        doAnswer(invocation -> {
+            Consumer<BookExportRow> consumer = invocation.getArgument(0, Consumer.class);
+            for (BookExportRow row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(bookExportRepository).streamBooks(any());
+    }
+
+    private static BookExportRow row(Long id, String title, Integer year) {
+        return new BookExportRow(id, title, "Martin Fowler", "9780134757599", null, null, year, "AVAILABLE",
+                2, 1, 7);
+    }
+}
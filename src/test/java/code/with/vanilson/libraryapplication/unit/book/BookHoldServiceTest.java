@@ -0,0 +1,191 @@
+package code.with.vanilson.libraryapplication.unit.book;
+
+import code.with.vanilson.libraryapplication.book.*;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
+import code.with.vanilson.libraryapplication.member.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Book Hold Service Test")
+class BookHoldServiceTest {
+    private static final long BOOK_ID = 1L;
+    private static final long MEMBER_ID = 7L;
+
+    private BookHoldRepository bookHoldRepository;
+    private BookRepository bookRepository;
+    private MemberRepository memberRepository;
+    private BookCirculationRepository bookCirculationRepository;
+    private BookHoldService bookHoldService;
+
+    @BeforeEach
+    void setUp() {
+        bookHoldRepository = mock(BookHoldRepository.class);
+        bookRepository = mock(BookRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        bookCirculationRepository = mock(BookCirculationRepository.class);
+        bookHoldService = new BookHoldService(bookHoldRepository, bookRepository, memberRepository,
+                bookCirculationRepository, new BookCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)),
+                mock(BookAvailabilityFeed.class), Duration.ofDays(3));
+    }
+
+    @Test
+    @DisplayName("Should queue a member behind the holds already waiting")
+    void shouldPlaceHold_AtEndOfQueue() {
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(bookRepository.findLockedByBookId(BOOK_ID)).thenReturn(Optional.of(book(0)));
+        when(bookCirculationRepository.findBorrowedBookIds(MEMBER_ID, List.of(BOOK_ID))).thenReturn(Set.of());
+        when(bookHoldRepository.save(any(BookHold.class))).thenAnswer(invocation -> {
+            BookHold hold = invocation.getArgument(0);
+            hold.setHoldId(12L);
+            return hold;
+        });
+        when(bookHoldRepository.countWaitingBefore(BOOK_ID, 12L)).thenReturn(2L);
+
+        BookHoldResponse response = bookHoldService.placeHold(BOOK_ID, MEMBER_ID);
+
+        assertThat(response.holdId()).isEqualTo(12L);
+        assertThat(response.status()).isEqualTo(HoldStatus.WAITING);
+        assertThat(response.position()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should refuse a hold while a copy is on the shelf or the member already queues")
+    void shouldRejectHold_WhenCopyAvailableOrAlreadyQueued() {
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(bookRepository.findLockedByBookId(BOOK_ID)).thenReturn(Optional.of(book(1)))
+                .thenReturn(Optional.of(book(0)));
+        when(bookHoldRepository.existsByBookIdAndMemberIdAndStatusIn(BOOK_ID, MEMBER_ID, HoldStatus.ACTIVE))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> bookHoldService.placeHold(BOOK_ID, MEMBER_ID))
+                .isInstanceOf(ResourceBadRequestException.class);
+        assertThatThrownBy(() -> bookHoldService.placeHold(BOOK_ID, MEMBER_ID))
+                .isInstanceOf(ResourceConflictException.class);
+        verify(bookHoldRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should skip a head cancelled concurrently and promote the next hold")
+    void shouldPromoteNextHold_WhenHeadWasMovedConcurrently() {
+        when(bookHoldRepository.findFirstByBookIdAndStatusOrderByHoldIdAsc(BOOK_ID, HoldStatus.WAITING))
+                .thenReturn(Optional.of(hold(1L)))
+                .thenReturn(Optional.of(hold(2L)));
+        when(bookHoldRepository.markReady(eq(1L), any(), any())).thenReturn(0);
+        when(bookHoldRepository.markReady(eq(2L), any(), any())).thenReturn(1);
+
+        assertThat(bookHoldService.promoteNextHold(BOOK_ID)).isTrue();
+
+        verify(bookRepository, times(1)).reserveCopy(BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("Should leave a returned copy on the shelf when nobody waits")
+    void shouldNotPromote_WhenQueueIsEmpty() {
+        when(bookHoldRepository.findFirstByBookIdAndStatusOrderByHoldIdAsc(BOOK_ID, HoldStatus.WAITING))
+                .thenReturn(Optional.empty());
+
+        assertThat(bookHoldService.promoteNextHold(BOOK_ID)).isFalse();
+
+        verify(bookRepository, never()).reserveCopy(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should put the copy of a cancelled ready hold back on the shelf when nobody waits")
+    void shouldReleaseCopy_WhenReadyHoldIsCancelled() {
+        BookHold ready = hold(5L);
+        ready.setStatus(HoldStatus.READY);
+        when(bookHoldRepository.findById(5L)).thenReturn(Optional.of(ready));
+        when(bookHoldRepository.transition(5L, HoldStatus.READY, HoldStatus.CANCELLED)).thenReturn(1);
+        when(bookHoldRepository.findFirstByBookIdAndStatusOrderByHoldIdAsc(BOOK_ID, HoldStatus.WAITING))
+                .thenReturn(Optional.empty());
+
+        bookHoldService.cancelHold(5L, MEMBER_ID);
+
+        verify(bookRepository, times(1)).releaseReservedCopy(BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("Should pass the copy of an expired hold to the next member in the queue")
+    void shouldPassCopyOn_WhenReadyHoldExpires() {
+        when(bookHoldRepository.findExpiredReadyHolds(any(LocalDateTime.class))).thenReturn(List.of(hold(5L)));
+        when(bookHoldRepository.transition(5L, HoldStatus.READY, HoldStatus.EXPIRED)).thenReturn(1);
+        when(bookHoldRepository.findFirstByBookIdAndStatusOrderByHoldIdAsc(BOOK_ID, HoldStatus.WAITING))
+                .thenReturn(Optional.of(hold(6L)));
+        when(bookHoldRepository.markReady(eq(6L), any(), any())).thenReturn(1);
+
+        bookHoldService.expireReadyHolds();
+
+        // The copy stays set aside, it just changes hands
+        verify(bookRepository, never()).releaseReservedCopy(anyLong());
+        verify(bookRepository, never()).reserveCopy(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should hand every returned copy to a different hold under simultaneous returns")
+    void shouldPromoteEachHoldOnce_UnderConcurrentReturns() throws Exception {
+        // Waiting holds 1..8, moved with compare-and-set like the conditional update
+        ConcurrentSkipListSet<Long> waiting = new ConcurrentSkipListSet<>();
+        for (long holdId = 1; holdId <= 8; holdId++) {
+            waiting.add(holdId);
+        }
+        when(bookHoldRepository.findFirstByBookIdAndStatusOrderByHoldIdAsc(BOOK_ID, HoldStatus.WAITING))
+                .thenAnswer(invocation -> Optional.ofNullable(waiting.ceiling(0L)).map(BookHoldServiceTest::hold));
+        when(bookHoldRepository.markReady(anyLong(), any(), any()))
+                .thenAnswer(invocation -> waiting.remove(invocation.<Long>getArgument(0)) ? 1 : 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookHoldService.promoteNextHold(BOOK_ID);
+                }));
+            }
+            start.countDown();
+            int promoted = 0;
+            for (Future<Boolean> result : results) {
+                promoted += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertThat(promoted).isEqualTo(8);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(waiting).isEmpty();
+        verify(bookRepository, times(8)).reserveCopy(BOOK_ID);
+    }
+
+    private static Book book(int availableCopies) {
+        return Book.builder()
+                .bookId(BOOK_ID)
+                .title("Clean Code")
+                .status(availableCopies > 0 ? BookStatus.AVAILABLE : BookStatus.BORROWED)
+                .availableCopies(availableCopies)
+                .build();
+    }
+
+    private static BookHold hold(Long holdId) {
+        return BookHold.builder()
+                .holdId(holdId)
+                .bookId(BOOK_ID)
+                .memberId(MEMBER_ID)
+                .status(HoldStatus.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
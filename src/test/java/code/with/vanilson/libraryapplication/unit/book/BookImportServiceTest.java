@@ -0,0 +1,138 @@
+package code.with.vanilson.libraryapplication.unit.book;
+
+import code.with.vanilson.libraryapplication.book.*;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Book Import Service Test")
+class BookImportServiceTest {
+
+    private BookImportRepository bookImportRepository;
+    private BookSearchIndex bookSearchIndex;
+    private BookImportService bookImportService;
+    private final Set<String> catalog = new HashSet<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        bookImportRepository = mock(BookImportRepository.class);
+        LibrarianRepository librarianRepository = mock(LibrarianRepository.class);
+        bookSearchIndex = mock(BookSearchIndex.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        when(librarianRepository.existsById(1L)).thenReturn(true);
+
+        // The catalog grows with every insert, like the database would
+        when(bookImportRepository.findExistingIsbns(anyCollection())).thenAnswer(invocation -> {
+            Set<String> existing = new HashSet<>(invocation.<Collection<String>>getArgument(0));
+            existing.retainAll(catalog);
+            return existing;
+        });
+        doAnswer(invocation -> {
+            invocation.<List<BookImportRecord>>getArgument(0).forEach(record -> catalog.add(record.getIsbn()));
+            return null;
+        }).when(bookImportRepository).insertBooks(anyList(), any());
+        when(bookImportRepository.findBookIdsByIsbn(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Long> ids = new HashMap<>();
+            invocation.<Collection<String>>getArgument(0).forEach(isbn -> ids.put(isbn, (long) isbn.hashCode()));
+            return ids;
+        });
+
+        bookImportService = new BookImportService(bookImportRepository, librarianRepository, bookSearchIndex,
+                mock(BookSuggestIndex.class), transactionTemplate, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 2);
+    }
+
+    @Test
+    @DisplayName("Should import a CSV feed in chunks and skip duplicate ISBNs")
+    void shouldImportCsv_InChunks() {
+        catalog.add("9780000000004");
+        String csv = """
+                Title,Author,ISBN,publisher_name,copies
+                Clean Code,Robert Martin,9780132350884,Prentice Hall,2
+                "Refactoring, 2nd Edition",Martin Fowler,9780134757599,Addison-Wesley,
+                Already There,Someone,9780000000004,,
+                Clean Code again,Robert Martin,9780132350884,,
+                """;
+
+        BookImportResponse response = bookImportService.importBooks(body(csv), BookFeedFormat.CSV, 1L, null);
+
+        assertThat(response.processed()).isEqualTo(4);
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.duplicates()).isEqualTo(2);
+        assertThat(response.rejected()).isZero();
+        assertThat(response.chunks()).isEqualTo(2);
+        verify(bookImportRepository, times(1)).insertBooks(argThat(records -> records.size() == 2), eq(1L));
+        verify(bookImportRepository, times(1)).insertCopies(argThat(barcodes -> barcodes.values().stream()
+                .anyMatch(list -> list.equals(List.of("9780132350884-001", "9780132350884-002")))));
+        verify(bookSearchIndex, times(2)).index(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON and report invalid lines without failing the import")
+    void shouldImportNdjson_AndReportRejects() {
+        String ndjson = """
+                {"title":"Dune","author":"Frank Herbert","isbn":"9780441013593","pages":412}
+                {"title":"","author":"Nobody","isbn":"123"}
+                not json
+
+                {"title":"Emma","author":"Jane Austen","isbn":"9780141439587","copies":3}
+                """;
+
+        BookImportResponse response = bookImportService.importBooks(body(ndjson), BookFeedFormat.NDJSON, null, 10);
+
+        assertThat(response.processed()).isEqualTo(4);
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(2);
+        assertThat(response.rejects()).extracting(BookImportResponse.Reject::line).containsExactly(2L, 3L);
+        assertThat(response.rejects().get(0).reason()).contains("ISBN").contains("title");
+    }
+
+    @Test
+    @DisplayName("Should retry a chunk once when a concurrent insert takes one of its ISBNs")
+    void shouldRetryChunk_WhenIsbnCollides() {
+        doThrow(new DuplicateKeyException("isbn"))
+                .doAnswer(invocation -> null)
+                .when(bookImportRepository).insertBooks(anyList(), any());
+        when(bookImportRepository.findExistingIsbns(anyCollection()))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("9780441013593"));
+
+        BookImportResponse response = bookImportService.importBooks(
+                body("{\"title\":\"Dune\",\"author\":\"Frank Herbert\",\"isbn\":\"9780441013593\"}\n"),
+                BookFeedFormat.NDJSON, null, null);
+
+        assertThat(response.imported()).isZero();
+        assertThat(response.duplicates()).isEqualTo(1);
+        verify(bookImportRepository, times(1)).insertBooks(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV feed without a header")
+    void shouldThrowException_WhenCsvHeaderIsMissing() {
+        assertThatThrownBy(() -> bookImportService.importBooks(body(""), BookFeedFormat.CSV, null, null))
+                .isInstanceOf(ResourceBadRequestException.class);
+    }
+
+    private static ByteArrayInputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package code.with.vanilson.libraryapplication.unit.book;
+
+import code.with.vanilson.libraryapplication.book.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Book Search Index Test")
+class BookSearchIndexTest {
+
+    private BookRepository bookRepository;
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        bookSearchIndex = new BookSearchIndex(bookRepository);
+        bookSearchIndex.index(book(1L, "Clean Code", "Robert Martin", "Software", "Prentice Hall"));
+        bookSearchIndex.index(book(2L, "The Clean Coder", "Robert Martin", "Software", "Prentice Hall"));
+        bookSearchIndex.index(book(3L, "Cien Años de Soledad", "Gabriel García Márquez", "Fiction", "Sudamericana"));
+    }
+
+    @Test
+    @DisplayName("Should match every query word and the last word as a prefix")
+    void shouldMatchAllTokens_WithPrefixOnLastToken() {
+        List<BookSearchResult> results = bookSearchIndex.search("clean code", null);
+
+        assertThat(results).extracting(BookSearchResult::id).containsExactly(1L, 2L);
+        assertThat(results.get(0).score()).isGreaterThan(results.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void shouldIgnoreCaseAndAccents() {
+        assertThat(bookSearchIndex.search("GARCIA marq", null))
+                .extracting(BookSearchResult::id)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above publisher matches")
+    void shouldRankTitleAbovePublisher() {
+        bookSearchIndex.index(book(4L, "Hall of Mirrors", "Someone", "Fiction", "Penguin"));
+
+        assertThat(bookSearchIndex.search("hall", null))
+                .extracting(BookSearchResult::id)
+                .startsWith(4L);
+    }
+
+    @Test
+    @DisplayName("Should replace and remove documents")
+    void shouldReplaceAndRemoveDocuments() {
+        bookSearchIndex.index(book(1L, "Refactoring", "Martin Fowler", "Software", "Addison-Wesley"));
+        bookSearchIndex.remove(2L);
+
+        assertThat(bookSearchIndex.search("clean", null)).isEmpty();
+        assertThat(bookSearchIndex.search("fowler", null)).extracting(BookSearchResult::id).containsExactly(1L);
+        assertThat(bookSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should cap the number of hits")
+    void shouldCapResults() {
+        assertThat(bookSearchIndex.search("robert", 1)).hasSize(1);
+        assertThat(bookSearchIndex.search("   ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the catalog page by page")
+    void shouldRebuildFromRepository() {
+        when(bookRepository.findBooksAfter(eq(0L), isNull(), isNull(), any()))
+                .thenReturn(List.of(book(10L, "Dune", "Frank Herbert", "Science Fiction", "Chilton")));
+
+        bookSearchIndex.rebuild();
+
+        assertThat(bookSearchIndex.size()).isEqualTo(1);
+        assertThat(bookSearchIndex.search("dun", null)).extracting(BookSearchResult::id).containsExactly(10L);
+    }
+
+    private Book book(Long id, String title, String author, String genre, String publisher) {
+        return Book.builder()
+                .bookId(id)
+                .title(title)
+                .author(author)
+                .isbn("978000000000" + id)
+                .genre(genre)
+                .publisherName(publisher)
+                .status(BookStatus.AVAILABLE)
+                .build();
+    }
+}
@@ -1,13 +1,18 @@
 package code.with.vanilson.libraryapplication.unit.book;
 
 import code.with.vanilson.libraryapplication.TestDataHelper;
+import code.with.vanilson.libraryapplication.admin.AdminRepository;
 import code.with.vanilson.libraryapplication.book.*;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
 import code.with.vanilson.libraryapplication.librarian.Librarian;
 import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.librarian.StaffDirectory;
 import code.with.vanilson.libraryapplication.member.Member;
+import code.with.vanilson.libraryapplication.member.MemberBalanceService;
 import code.with.vanilson.libraryapplication.member.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +20,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Duration;
+import java.time.Period;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +40,14 @@ class BookServiceTest {
     private BookRepository bookRepository;
     private MemberRepository memberRepository;
     private LibrarianRepository librarianRepository;
+    private BookCopyRepository bookCopyRepository;
+    private BookSearchIndex bookSearchIndex;
+    private BookSuggestIndex bookSuggestIndex;
+    private BookCache bookCache;
+    private BookCirculationRepository bookCirculationRepository;
+    private BookHoldService bookHoldService;
+    private LoanRepository loanRepository;
+    private MemberBalanceService memberBalanceService;
     private BookService bookService;
     private TestDataHelper testDataHelper;
     private Book book;
@@ -45,7 +61,18 @@ class BookServiceTest {
         bookRepository = mock(BookRepository.class);
         memberRepository = mock(MemberRepository.class);
         librarianRepository = mock(LibrarianRepository.class);
-        bookService = new BookService(bookRepository, memberRepository, librarianRepository);
+        bookCopyRepository = mock(BookCopyRepository.class);
+        bookSearchIndex = mock(BookSearchIndex.class);
+        bookSuggestIndex = mock(BookSuggestIndex.class);
+        bookCache = new BookCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        bookCirculationRepository = mock(BookCirculationRepository.class);
+        bookHoldService = mock(BookHoldService.class);
+        loanRepository = mock(LoanRepository.class);
+        memberBalanceService = mock(MemberBalanceService.class);
+        bookService = new BookService(bookRepository, memberRepository, librarianRepository, bookCopyRepository,
+                bookSearchIndex, bookSuggestIndex, bookCache, bookCirculationRepository, bookHoldService,
+                mock(BookAvailabilityFeed.class), new StaffDirectory(librarianRepository, mock(AdminRepository.class)),
+                loanRepository, memberBalanceService, Period.ofDays(14));
         testDataHelper = new TestDataHelper();
 
         // Create test data
@@ -103,29 +130,30 @@ class BookServiceTest {
     @DisplayName("Should return all books successfully")
     void shouldReturnAllBooks_WhenRepositoryFindsAll() {
         // Given
-        when(bookRepository.findAll()).thenReturn(List.of(book));
+        when(bookRepository.findAllViews()).thenReturn(List.of(view(BOOK_ID)));
+        when(bookRepository.findAllBorrowerViews()).thenReturn(List.of(
+                new BookBorrowerView(BOOK_ID, MEMBER_ID, "Test Member", null, testDataHelper.createAddress(), null,
+                        null, null, null)));
 
-        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
-            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
-
-            // When
-            List<BookResponse> result = bookService.getAllBooks();
+        // When
+        List<BookResponse> result = bookService.getAllBooks();
 
-            // Then
-            assertNotNull(result);
-            assertEquals(1, result.size());
-            assertEquals(BOOK_ID, result.get(0).getId());
-            assertEquals("Test Book", result.get(0).getTitle());
-            verify(bookRepository, times(1)).findAll();
-            mockedBookMapper.verify(() -> BookMapper.mapToBookResponse(any(Book.class)), times(1));
-        }
+        // Then
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals(BOOK_ID, result.get(0).getId());
+        assertEquals("Test Book", result.get(0).getTitle());
+        assertEquals(1, result.get(0).getMembers().size());
+        verify(bookRepository, times(1)).findAllViews();
+        verify(bookRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Should return empty list when no books exist")
     void shouldReturnEmptyList_WhenNoBookExists() {
         // Given
-        when(bookRepository.findAll()).thenReturn(Collections.emptyList());
+        when(bookRepository.findAllViews()).thenReturn(Collections.emptyList());
+        when(bookRepository.findAllBorrowerViews()).thenReturn(Collections.emptyList());
 
         // When
         List<BookResponse> result = bookService.getAllBooks();
@@ -133,14 +161,58 @@ class BookServiceTest {
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(bookRepository, times(1)).findAll();
+        verify(bookRepository, times(1)).findAllViews();
+        verify(librarianRepository, never()).findViewsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should return a keyset page with next cursor when more books exist")
+    void shouldReturnPageWithNextCursor_WhenMoreBooksExist() {
+        // Given
+        when(bookRepository.findBookViewsAfter(eq(0L), isNull(), isNull(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(view(BOOK_ID), view(2L)));
+        when(bookRepository.findBorrowerViews(List.of(BOOK_ID))).thenReturn(Collections.emptyList());
+
+        // When
+        BookPageResponse result = bookService.getBooksPage(null, 1, null, null);
+
+        // Then
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(BOOK_ID, result.getNextCursor());
+        assertTrue(result.getContent().get(0).getMembers().isEmpty());
+        verify(bookRepository, times(1)).findBorrowerViews(List.of(BOOK_ID));
+    }
+
+    @Test
+    @DisplayName("Should cap the page size and return no cursor on the last page")
+    void shouldCapPageSize_WhenRequestedSizeIsTooLarge() {
+        // Given
+        when(bookRepository.findBookViewsAfter(anyLong(), any(), any(), any())).thenReturn(Collections.emptyList());
+
+        // When
+        BookPageResponse result = bookService.getBooksPage(5L, 10_000, BookStatus.AVAILABLE, "Test Genre");
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        verify(bookRepository).findBookViewsAfter(5L, BookStatus.AVAILABLE, "Test Genre", PageRequest.of(0, 101));
+        verify(bookRepository, never()).findBorrowerViews(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when page cursor is negative")
+    void shouldThrowException_WhenPageCursorIsNegative() {
+        assertThrows(ResourceBadRequestException.class, () -> bookService.getBooksPage(-1L, 10, null, null));
+        verify(bookRepository, never()).findBookViewsAfter(anyLong(), any(), any(), any());
     }
 
     @Test
     @DisplayName("Should return book by ID successfully")
     void shouldReturnBookById_WhenIdIsValid() {
         // Given
-        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookRepository.findWithAssociationsByBookId(BOOK_ID)).thenReturn(Optional.of(book));
 
         try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
             mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
@@ -152,28 +224,75 @@ class BookServiceTest {
             assertNotNull(result);
             assertEquals(BOOK_ID, result.getId());
             assertEquals("Test Book", result.getTitle());
-            verify(bookRepository, times(1)).findById(BOOK_ID);
+            verify(bookRepository, times(1)).findWithAssociationsByBookId(BOOK_ID);
             mockedBookMapper.verify(() -> BookMapper.mapToBookResponse(any(Book.class)), times(1));
         }
     }
 
+    @Test
+    @DisplayName("Should serve repeated lookups by ID and ISBN from the cache")
+    void shouldServeBookFromCache_WhenLookedUpAgain() {
+        // Given
+        when(bookRepository.findWithAssociationsByBookId(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookRepository.findBookIdByIsbn("1234567890")).thenReturn(Optional.of(BOOK_ID));
+
+        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
+            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
+
+            // When
+            BookResponse first = bookService.getBookById(BOOK_ID);
+            BookResponse second = bookService.getBookByIsbn("1234567890");
+            bookService.getBookByIsbn("1234567890");
+
+            // Then
+            assertEquals(first, second);
+            assertNotSame(first, second);
+            verify(bookRepository, times(1)).findWithAssociationsByBookId(BOOK_ID);
+            verify(bookRepository, times(1)).findBookIdByIsbn("1234567890");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reload a book after it is borrowed")
+    void shouldEvictCachedBook_WhenBookIsBorrowed() {
+        // Given
+        when(bookRepository.findWithAssociationsByBookId(BOOK_ID)).thenReturn(Optional.of(book));
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookRepository.checkoutCopy(BOOK_ID, librarian)).thenReturn(1);
+        when(bookRepository.addBorrower(BOOK_ID, MEMBER_ID)).thenReturn(1);
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+
+        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
+            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
+
+            // When
+            bookService.getBookById(BOOK_ID);
+            bookService.borrowBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID);
+            bookService.getBookById(BOOK_ID);
+
+            // Then
+            verify(bookRepository, times(2)).findWithAssociationsByBookId(BOOK_ID);
+        }
+    }
+
     @Test
     @DisplayName("Should throw exception when book ID is invalid")
     void shouldThrowException_WhenBookIdIsInvalid() {
         // When & Then
         assertThrows(ResourceBadRequestException.class, () -> bookService.getBookById(INVALID_ID));
-        verify(bookRepository, never()).findById(INVALID_ID);
+        verify(bookRepository, never()).findWithAssociationsByBookId(INVALID_ID);
     }
 
     @Test
     @DisplayName("Should throw exception when book is not found")
     void shouldThrowException_WhenBookIsNotFound() {
         // Given
-        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.empty());
+        when(bookRepository.findWithAssociationsByBookId(BOOK_ID)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> bookService.getBookById(BOOK_ID));
-        verify(bookRepository, times(1)).findById(BOOK_ID);
+        verify(bookRepository, times(1)).findWithAssociationsByBookId(BOOK_ID);
     }
 
     @Test
@@ -242,57 +361,295 @@ class BookServiceTest {
         // Then
         verify(bookRepository, times(1)).findById(BOOK_ID);
         verify(bookRepository, times(1)).delete(book);
+        verify(bookSearchIndex, times(1)).remove(BOOK_ID);
+        verify(bookSuggestIndex, times(1)).remove(BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete a book with loan history")
+    void shouldNotDeleteBook_WhenItHasLoans() {
+        // Given
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(loanRepository.existsByBookId(BOOK_ID)).thenReturn(true);
+
+        // When / Then
+        assertThrows(ResourceConflictException.class, () -> bookService.deleteBook(BOOK_ID));
+        verify(bookRepository, never()).delete(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("Should delegate search to the in-memory index")
+    void shouldSearchBooks_WhenQueryIsPresent() {
+        // Given
+        var hit = new BookSearchResult(BOOK_ID, "Clean Code", "Robert Martin", "9780132350884", "Software",
+                "Prentice Hall", 6);
+        when(bookSearchIndex.search("clean co", 5)).thenReturn(List.of(hit));
+
+        // When
+        List<BookSearchResult> results = bookService.searchBooks("clean co", 5);
+
+        // Then
+        assertEquals(List.of(hit), results);
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank search query")
+    void shouldThrowException_WhenSearchQueryIsBlank() {
+        assertThrows(ResourceBadRequestException.class, () -> bookService.searchBooks("  ", null));
+        verifyNoInteractions(bookSearchIndex);
+    }
+
+    @Test
+    @DisplayName("Should delegate suggestions to the prefix index")
+    void shouldSuggestBooks_WhenPrefixIsPresent() {
+        // Given
+        var suggestion = new BookSuggestion("Clean Code", BookSuggestion.Field.TITLE, 42);
+        when(bookSuggestIndex.suggest("cle", 5)).thenReturn(List.of(suggestion));
+
+        // When
+        List<BookSuggestion> suggestions = bookService.suggestBooks("cle", 5);
+
+        // Then
+        assertEquals(List.of(suggestion), suggestions);
+        verifyNoInteractions(bookRepository);
     }
 
     @Test
     @DisplayName("Should check if book is available successfully")
     void shouldCheckIfBookIsAvailable_WhenBookExists() {
         // Given
-        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookRepository.findAvailableCopies(BOOK_ID)).thenReturn(Optional.of(2));
 
         // When
         boolean result = bookService.isBookAvailable(BOOK_ID);
 
         // Then
         assertTrue(result);
-        verify(bookRepository, times(1)).findById(BOOK_ID);
+        verify(bookRepository, times(1)).findAvailableCopies(BOOK_ID);
+        verify(bookRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("Should return false when book is not available")
     void shouldReturnFalse_WhenBookIsNotAvailable() {
         // Given
-        book.setStatus(BookStatus.BORROWED);
-        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookRepository.findAvailableCopies(BOOK_ID)).thenReturn(Optional.of(0));
 
         // When
         boolean result = bookService.isBookAvailable(BOOK_ID);
 
         // Then
         assertFalse(result);
-        verify(bookRepository, times(1)).findById(BOOK_ID);
+        verify(bookRepository, times(1)).findAvailableCopies(BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("Should add a copy with a generated barcode")
+    void shouldAddCopy_WhenBarcodeIsMissing() {
+        // Given
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookRepository.findLastCopyNumberByBookId(BOOK_ID)).thenReturn(2);
+        when(bookCopyRepository.existsBookCopyByBarcode("1234567890-002")).thenReturn(false);
+
+        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
+            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
+
+            // When
+            bookService.addCopy(BOOK_ID, null);
+
+            // Then
+            verify(bookCopyRepository, times(1)).save(argThat(copy -> "1234567890-002".equals(copy.getBarcode())));
+            verify(bookRepository, times(1)).addCopies(BOOK_ID, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not reuse the barcode of a deleted copy, nor one already taken")
+    void shouldSkipTakenBarcodes_WhenGeneratingOne() {
+        // Given: copies 1 to 3 were added, copy 2 deleted, and 4 was given explicitly
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookRepository.findLastCopyNumberByBookId(BOOK_ID)).thenReturn(4, 5);
+        when(bookCopyRepository.existsBookCopyByBarcode("1234567890-004")).thenReturn(true);
+        when(bookCopyRepository.existsBookCopyByBarcode("1234567890-005")).thenReturn(false);
+
+        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
+            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
+
+            // When
+            bookService.addCopy(BOOK_ID, null);
+
+            // Then
+            verify(bookRepository, times(2)).incrementLastCopyNumber(BOOK_ID);
+            verify(bookCopyRepository, times(1)).save(argThat(copy -> "1234567890-005".equals(copy.getBarcode())));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an update to AVAILABLE when no copy is on the shelf")
+    void shouldThrowException_WhenStatusContradictsCopies() {
+        // Given
+        book.setStatus(BookStatus.BORROWED);
+        book.setAvailableCopies(0);
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(memberRepository.findMemberByIdIn(Set.of(MEMBER_ID))).thenReturn(Optional.of(Set.of(member)));
+
+        // When & Then
+        assertThrows(ResourceBadRequestException.class, () -> bookService.updateBook(bookRequest, BOOK_ID));
+        bookRequest.setStatus(BookStatus.RESERVED);
+        assertThrows(ResourceBadRequestException.class, () -> bookService.updateBook(bookRequest, BOOK_ID));
+        verify(bookRepository, never()).save(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a copy whose barcode already exists")
+    void shouldThrowException_WhenCopyBarcodeExists() {
+        // Given
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookCopyRepository.existsBookCopyByBarcode("BC-1")).thenReturn(true);
+
+        // When & Then
+        assertThrows(ResourceConflictException.class,
+                () -> bookService.addCopy(BOOK_ID, new BookCopyRequest("BC-1", "Main")));
+        verify(bookRepository, never()).addCopies(anyLong(), anyInt());
     }
 
     @Test
-    @Disabled
     @DisplayName("Should borrow book successfully")
     void shouldBorrowBook_WhenBookIsAvailable() {
         // Given
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookRepository.checkoutCopy(BOOK_ID, librarian))
+                .thenReturn(1);
+        when(bookRepository.addBorrower(BOOK_ID, MEMBER_ID)).thenReturn(1);
         when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
-        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+
+        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
+            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
+
+            // When
+            BookResponse result = bookService.borrowBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID);
+
+            // Then
+            assertNotNull(result);
+            assertEquals(BOOK_ID, result.getId());
+            verify(bookRepository, times(1)).addBorrower(BOOK_ID, MEMBER_ID);
+            verify(bookRepository, never()).save(any(Book.class));
+            verify(bookSuggestIndex, times(1)).index(book);
+            verify(loanRepository, times(1)).save(argThat(loan -> loan.getBookId() == BOOK_ID
+                    && loan.getMemberId() == MEMBER_ID
+                    && loan.getReturnedAt() == null
+                    && loan.getDueDate().equals(loan.getCheckedOutAt().toLocalDate().plusDays(14))));
+        }
+    }
+
+    @Test
+    @DisplayName("Should borrow a basket and report each book on its own")
+    void shouldBorrowBasket_WithPerBookOutcome() {
+        // Given
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
         when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
-        when(bookRepository.save(any(Book.class))).thenReturn(book);
+        when(bookCirculationRepository.findExistingBookIds(List.of(1L, 2L, 3L, 4L))).thenReturn(Set.of(1L, 2L, 3L));
+        when(bookCirculationRepository.findBorrowedBookIds(MEMBER_ID, List.of(1L, 2L, 3L))).thenReturn(Set.of(3L));
+        when(bookCirculationRepository.checkoutCopies(List.of(1L, 2L), LIBRARIAN_ID)).thenReturn(new int[]{1, 0});
+        when(bookCirculationRepository.addBorrowers(MEMBER_ID, List.of(1L))).thenReturn(new int[]{1});
+        var request = new BookCirculationRequest(MEMBER_ID, LIBRARIAN_ID, List.of(1L, 2L, 3L, 4L, 1L));
 
         // When
-        BookResponse result = bookService.borrowBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID);
+        BookCirculationResponse response = bookService.borrowBooks(request);
 
         // Then
-        assertNotNull(result);
-        assertEquals(BOOK_ID, result.getId());
-        verify(bookRepository, times(1)).findById(BOOK_ID);
-        verify(memberRepository, times(1)).findById(MEMBER_ID);
+        assertEquals(1, response.succeeded());
+        assertEquals(3, response.failed());
+        assertEquals(List.of(1L, 2L, 3L, 4L), response.results().stream().map(BookCirculationResult::bookId).toList());
+        assertEquals(List.of(true, false, false, false),
+                response.results().stream().map(BookCirculationResult::success).toList());
         verify(librarianRepository, times(1)).findById(LIBRARIAN_ID);
-        verify(bookRepository, times(1)).save(any(Book.class));
+        verify(bookCirculationRepository, never()).releaseCopies(List.of(1L));
+        verify(bookSuggestIndex, times(1)).recordBorrow(1L);
+        verify(bookRepository, never()).checkoutCopy(anyLong(), any());
+        verify(bookCirculationRepository, times(1))
+                .openLoans(eq(MEMBER_ID), eq(LIBRARIAN_ID), eq(List.of(1L)), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should lend the copy set aside for a ready hold in a basket")
+    void shouldBorrowBasket_FromReadyHold() {
+        // Given
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookCirculationRepository.findExistingBookIds(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(bookCirculationRepository.findBorrowedBookIds(MEMBER_ID, List.of(1L, 2L))).thenReturn(Set.of());
+        when(bookCirculationRepository.findReadyHoldBookIds(MEMBER_ID, List.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(bookHoldService.fulfilHold(1L, MEMBER_ID)).thenReturn(true);
+        when(bookCirculationRepository.checkoutReservedCopies(List.of(1L), LIBRARIAN_ID)).thenReturn(new int[]{1});
+        when(bookCirculationRepository.checkoutCopies(List.of(2L), LIBRARIAN_ID)).thenReturn(new int[]{1});
+        when(bookCirculationRepository.addBorrowers(MEMBER_ID, List.of(1L, 2L))).thenReturn(new int[]{1, 1});
+
+        // When
+        BookCirculationResponse response = bookService.borrowBooks(
+                new BookCirculationRequest(MEMBER_ID, LIBRARIAN_ID, List.of(1L, 2L)));
+
+        // Then
+        assertEquals(2, response.succeeded());
+        verify(bookHoldService, times(1)).fulfilHold(1L, MEMBER_ID);
+        verify(bookHoldService, never()).fulfilHold(2L, MEMBER_ID);
+        verify(bookCirculationRepository, times(1)).checkoutReservedCopies(List.of(1L), LIBRARIAN_ID);
+        verify(bookCirculationRepository, times(1)).checkoutCopies(List.of(2L), LIBRARIAN_ID);
+        verify(bookCirculationRepository, times(1))
+                .openLoans(eq(MEMBER_ID), eq(LIBRARIAN_ID), eq(List.of(1L, 2L)), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should put a copy back when the member already got the book concurrently")
+    void shouldReleaseCopy_WhenBorrowerAlreadyLinked() {
+        // Given
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookCirculationRepository.findExistingBookIds(List.of(1L))).thenReturn(Set.of(1L));
+        when(bookCirculationRepository.findBorrowedBookIds(MEMBER_ID, List.of(1L))).thenReturn(Set.of());
+        when(bookCirculationRepository.checkoutCopies(List.of(1L), LIBRARIAN_ID)).thenReturn(new int[]{1});
+        when(bookCirculationRepository.addBorrowers(MEMBER_ID, List.of(1L))).thenReturn(new int[]{0});
+
+        // When
+        BookCirculationResponse response = bookService.borrowBooks(
+                new BookCirculationRequest(MEMBER_ID, LIBRARIAN_ID, List.of(1L)));
+
+        // Then
+        assertEquals(0, response.succeeded());
+        verify(bookCirculationRepository, times(1)).releaseCopies(List.of(1L));
+        verify(bookSuggestIndex, never()).recordBorrow(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return a basket and report each book on its own")
+    void shouldReturnBasket_WithPerBookOutcome() {
+        // Given
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookCirculationRepository.findExistingBookIds(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(bookCirculationRepository.checkinCopies(List.of(1L, 2L), MEMBER_ID, LIBRARIAN_ID))
+                .thenReturn(new int[]{0, 1});
+
+        // When
+        BookCirculationResponse response = bookService.returnBooks(
+                new BookCirculationRequest(MEMBER_ID, LIBRARIAN_ID, List.of(1L, 2L)));
+
+        // Then
+        assertEquals(1, response.succeeded());
+        assertFalse(response.results().get(0).success());
+        assertTrue(response.results().get(1).success());
+        verify(bookCirculationRepository, times(1)).removeBorrowers(MEMBER_ID, List.of(2L));
+        verify(bookCirculationRepository, times(1)).closeLoans(eq(MEMBER_ID), eq(LIBRARIAN_ID), eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty basket")
+    void shouldThrowException_WhenBasketIsEmpty() {
+        var request = new BookCirculationRequest(MEMBER_ID, LIBRARIAN_ID, List.of());
+        assertThrows(ResourceBadRequestException.class, () -> bookService.borrowBooks(request));
+        verifyNoInteractions(bookCirculationRepository);
     }
 
     @Test
@@ -300,44 +657,106 @@ class BookServiceTest {
     void shouldThrowException_WhenBorrowingUnavailableBook() {
         // Given
         book.setStatus(BookStatus.BORROWED);
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookRepository.checkoutCopy(BOOK_ID, librarian))
+                .thenReturn(0);
         when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
 
         // When & Then
         assertThrows(ResourceBadRequestException.class, () -> bookService.borrowBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID));
-        verify(bookRepository, times(1)).findById(BOOK_ID);
-        verify(memberRepository, never()).findById(anyLong());
-        verify(librarianRepository, never()).findById(anyLong());
+        verify(bookRepository, never()).addBorrower(anyLong(), anyLong());
         verify(bookRepository, never()).save(any(Book.class));
+        verify(loanRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when borrowing for an unknown member")
+    void shouldThrowException_WhenBorrowingMemberIsNotFound() {
+        // Given
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> bookService.borrowBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID));
+        verify(bookRepository, never()).checkoutCopy(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse to lend to a member whose unpaid fines are above the limit")
+    void shouldThrowException_WhenBorrowingMemberOwesTooMuch() {
+        // Given
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        doThrow(new ResourceBadRequestException("owes too much"))
+                .when(memberBalanceService).requireBorrowingAllowed(MEMBER_ID);
+
+        // When & Then
+        assertThrows(ResourceBadRequestException.class, () -> bookService.borrowBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID));
+        verify(bookRepository, never()).checkoutCopy(anyLong(), any());
+        verify(loanRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Should return book successfully")
-    @Disabled
     void shouldReturnBook_WhenBookIsBorrowed() {
         // Given
-        book.setStatus(BookStatus.BORROWED);
-        Set<Member> members = new HashSet<>();
-        members.add(member);
-        book.setMembers(members);
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookRepository.checkinCopy(BOOK_ID, MEMBER_ID, librarian)).thenReturn(1);
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
 
-        Set<Book> books = new HashSet<>();
-        books.add(book);
-        member.setBorrowedBooks(books);
+        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
+            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
+
+            // When
+            BookResponse result = bookService.returnBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID);
 
+            // Then
+            assertNotNull(result);
+            assertEquals(BOOK_ID, result.getId());
+            verify(bookRepository, times(1)).removeBorrower(BOOK_ID, MEMBER_ID);
+            verify(loanRepository, times(1)).closeLoan(eq(BOOK_ID), eq(MEMBER_ID), eq(LIBRARIAN_ID), any());
+            verify(bookHoldService, times(1)).promoteNextHold(BOOK_ID);
+        }
+    }
+
+    @Test
+    @DisplayName("Should lend the copy set aside for a member's ready hold")
+    void shouldBorrowReservedCopy_WhenMemberHoldIsReady() {
+        // Given
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
+        when(bookHoldService.fulfilHold(BOOK_ID, MEMBER_ID)).thenReturn(true);
+        when(bookRepository.checkoutReservedCopy(BOOK_ID, librarian)).thenReturn(1);
+        when(bookRepository.addBorrower(BOOK_ID, MEMBER_ID)).thenReturn(1);
         when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
-        when(memberRepository.getReferenceById(MEMBER_ID)).thenReturn(member);
+
+        try (MockedStatic<BookMapper> mockedBookMapper = mockStatic(BookMapper.class)) {
+            mockedBookMapper.when(() -> BookMapper.mapToBookResponse(any(Book.class))).thenReturn(bookResponse);
+
+            // When
+            bookService.borrowBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID);
+
+            // Then
+            verify(bookRepository, never()).checkoutCopy(anyLong(), any());
+            verify(bookRepository, times(1)).addBorrower(BOOK_ID, MEMBER_ID);
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw exception when returning a book the member has not borrowed")
+    void shouldThrowException_WhenReturningBookNotBorrowedByMember() {
+        // Given
         when(librarianRepository.findById(LIBRARIAN_ID)).thenReturn(Optional.of(librarian));
-        when(bookRepository.save(any(Book.class))).thenReturn(book);
+        when(bookRepository.checkinCopy(BOOK_ID, MEMBER_ID, librarian)).thenReturn(0);
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
 
-        // When
-        BookResponse result = bookService.returnBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID);
+        // When & Then
+        assertThrows(ResourceBadRequestException.class, () -> bookService.returnBook(BOOK_ID, MEMBER_ID, LIBRARIAN_ID));
+        verify(bookRepository, never()).removeBorrower(anyLong(), anyLong());
+        verify(loanRepository, never()).closeLoan(anyLong(), anyLong(), anyLong(), any());
+    }
 
-        // Then
-        assertNotNull(result);
-        assertEquals(BOOK_ID, result.getId());
-        verify(bookRepository, times(1)).findById(BOOK_ID);
-        verify(memberRepository, times(1)).getReferenceById(MEMBER_ID);
-        verify(librarianRepository, times(1)).findById(LIBRARIAN_ID);
-        verify(bookRepository, times(1)).save(any(Book.class));
+    private static BookView view(Long bookId) {
+        return new BookView(bookId, "Test Book", "Test Author", "1234567890", "Test Genre", "Test Publisher", 2023,
+                BookStatus.AVAILABLE, 1, 1, 0L, null);
     }
 }
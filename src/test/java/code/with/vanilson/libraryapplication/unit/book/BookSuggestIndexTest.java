@@ -0,0 +1,116 @@
+package code.with.vanilson.libraryapplication.unit.book;
+
+import code.with.vanilson.libraryapplication.book.*;
+import code.with.vanilson.libraryapplication.book.BookSuggestion.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Book Suggest Index Test")
+class BookSuggestIndexTest {
+
+    private BookRepository bookRepository;
+    private BookSuggestIndex bookSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        bookSuggestIndex = new BookSuggestIndex(bookRepository);
+        bookSuggestIndex.index(book(1L, "Clean Code", "Robert Martin", 40));
+        bookSuggestIndex.index(book(2L, "The Clean Coder", "Robert Martin", 10));
+        bookSuggestIndex.index(book(3L, "Clean Architecture", "Robert Martin", 25));
+        bookSuggestIndex.index(book(4L, "Cien Años de Soledad", "Gabriel García Márquez", 5));
+    }
+
+    @Test
+    @DisplayName("Should complete titles by descending borrow count")
+    void shouldRankCompletionsByPopularity() {
+        assertThat(bookSuggestIndex.suggest("clea", null))
+                .extracting(BookSuggestion::text)
+                .containsExactly("Clean Code", "Clean Architecture", "The Clean Coder");
+    }
+
+    @Test
+    @DisplayName("Should complete from any word start and ignore case and accents")
+    void shouldMatchWordStarts_IgnoringCaseAndAccents() {
+        assertThat(bookSuggestIndex.suggest("MARQ", null))
+                .containsExactly(new BookSuggestion("Gabriel García Márquez", Field.AUTHOR, 5));
+        assertThat(bookSuggestIndex.suggest("anos de", null))
+                .extracting(BookSuggestion::text)
+                .containsExactly("Cien Años de Soledad");
+    }
+
+    @Test
+    @DisplayName("Should merge books by the same author and add up their checkouts")
+    void shouldMergeSharedAuthors() {
+        assertThat(bookSuggestIndex.suggest("robert m", null))
+                .containsExactly(new BookSuggestion("Robert Martin", Field.AUTHOR, 75));
+    }
+
+    @Test
+    @DisplayName("Should re-rank when a borrow count changes")
+    void shouldReRank_WhenBorrowCountChanges() {
+        bookSuggestIndex.index(book(2L, "The Clean Coder", "Robert Martin", 100));
+
+        assertThat(bookSuggestIndex.suggest("clean", 1))
+                .containsExactly(new BookSuggestion("The Clean Coder", Field.TITLE, 100));
+        assertThat(bookSuggestIndex.suggest("martin", null))
+                .containsExactly(new BookSuggestion("Robert Martin", Field.AUTHOR, 165));
+    }
+
+    @Test
+    @DisplayName("Should replace and remove books")
+    void shouldReplaceAndRemoveBooks() {
+        bookSuggestIndex.index(book(1L, "Refactoring", "Martin Fowler", 40));
+        bookSuggestIndex.remove(3L);
+
+        assertThat(bookSuggestIndex.suggest("clean", null))
+                .extracting(BookSuggestion::text)
+                .containsExactly("The Clean Coder");
+        assertThat(bookSuggestIndex.suggest("martin", null))
+                .extracting(BookSuggestion::text)
+                .containsExactly("Martin Fowler", "Robert Martin");
+        assertThat(bookSuggestIndex.suggest("clean a", null)).isEmpty();
+        assertThat(bookSuggestIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should cap the number of completions")
+    void shouldCapSuggestions() {
+        assertThat(bookSuggestIndex.suggest("c", 2)).hasSize(2);
+        assertThat(bookSuggestIndex.suggest("   ", 10)).isEmpty();
+        assertThat(bookSuggestIndex.suggest("zzz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the catalog page by page")
+    void shouldRebuildFromRepository() {
+        when(bookRepository.findBooksAfter(eq(0L), isNull(), isNull(), any()))
+                .thenReturn(List.of(book(10L, "Dune", "Frank Herbert", 7)));
+
+        bookSuggestIndex.rebuild();
+
+        assertThat(bookSuggestIndex.size()).isEqualTo(1);
+        assertThat(bookSuggestIndex.suggest("du", null))
+                .containsExactly(new BookSuggestion("Dune", Field.TITLE, 7));
+        assertThat(bookSuggestIndex.suggest("clean", null)).isEmpty();
+    }
+
+    private Book book(Long id, String title, String author, long borrowCount) {
+        return Book.builder()
+                .bookId(id)
+                .title(title)
+                .author(author)
+                .isbn("978000000000" + id)
+                .status(BookStatus.AVAILABLE)
+                .borrowCount(borrowCount)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package code.with.vanilson.libraryapplication.unit.common;
+
+import code.with.vanilson.libraryapplication.book.BookController;
+import code.with.vanilson.libraryapplication.common.hateoas.LinkTemplate;
+import code.with.vanilson.libraryapplication.fine.FineController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@DisplayName("Link Template Test")
+class LinkTemplateTest {
+
+    private static final LinkTemplate BOOK =
+            LinkTemplate.of(BookController.class, "getBookById", long.class, WebRequest.class);
+    private static final LinkTemplate BOOKS = LinkTemplate.of(BookController.class, "getAllBooks");
+    private static final LinkTemplate FINE =
+            LinkTemplate.of(FineController.class, "getFineById", Long.class, WebRequest.class);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should resolve the controller and method mappings into one template")
+    void shouldResolveMappings() {
+        assertThat(BOOK).hasToString("/api/books/{bookId}");
+        assertThat(BOOKS).hasToString("/api/books");
+        assertThat(FINE).hasToString("/api/fines/{id}");
+    }
+
+    @Test
+    @DisplayName("Should produce the same href and rel as linkTo(methodOn(...))")
+    void shouldMatchLinkTo() {
+        bindRequest("http", "localhost", 80, "");
+        String baseUri = LinkTemplate.currentBaseUri();
+
+        assertSameLink(BOOK.toLink(baseUri, IanaLinkRelations.SELF, 42L),
+                linkTo(methodOn(BookController.class).getBookById(42L, null)).withSelfRel());
+        assertSameLink(BOOKS.toLink(baseUri, LinkRelation.of(BookController.BOOKS)),
+                linkTo(methodOn(BookController.class).getAllBooks()).withRel(BookController.BOOKS));
+        assertSameLink(FINE.toLink(baseUri, IanaLinkRelations.SELF, 7L),
+                linkTo(methodOn(FineController.class).getFineById(7L, null)).withSelfRel());
+    }
+
+    @Test
+    @DisplayName("Should keep the port and context path of the request, like linkTo")
+    void shouldMatchLinkTo_BehindContextPath() {
+        bindRequest("https", "library.example.com", 8443, "/library");
+
+        Link link = BOOK.toLink(LinkTemplate.currentBaseUri(), IanaLinkRelations.SELF, 3L);
+
+        assertThat(link.getHref()).isEqualTo("https://library.example.com:8443/library/api/books/3");
+        assertSameLink(link, linkTo(methodOn(BookController.class).getBookById(3L, null)).withSelfRel());
+    }
+
+    @Test
+    @DisplayName("Should encode values as path segments and reject a wrong number of values")
+    void shouldEncodeValues_AndCheckArity() {
+        assertThat(FINE.expand("http://localhost", "a b/c")).isEqualTo("http://localhost/api/fines/a%20b%2Fc");
+        assertThatThrownBy(() -> BOOK.expand("http://localhost"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LinkTemplate.of(BookController.class, "noSuchHandler"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // What ends up in _links; affordances are not rendered
+    private static void assertSameLink(Link actual, Link expected) {
+        assertThat(actual.getHref()).isEqualTo(expected.getHref());
+        assertThat(actual.getRel()).isEqualTo(expected.getRel());
+        assertThat(actual.isTemplated()).isEqualTo(expected.isTemplated());
+    }
+
+    private static void bindRequest(String scheme, String host, int port, String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", contextPath + "/api/books");
+        request.setScheme(scheme);
+        request.setServerName(host);
+        request.setServerPort(port);
+        request.setContextPath(contextPath);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,66 @@
+package code.with.vanilson.libraryapplication.unit.common;
+
+import code.with.vanilson.libraryapplication.common.money.Money;
+import code.with.vanilson.libraryapplication.common.money.MoneyConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money Test")
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should add up many small amounts without drifting")
+    void shouldAggregateExactly() {
+        Money total = Money.ZERO;
+        double drifting = 0;
+        for (int i = 0; i < 1_000; i++) {
+            total = total.plus(Money.of(new BigDecimal("0.10")));
+            drifting += 0.10;
+        }
+
+        assertThat(total).isEqualTo(Money.ofCents(10_000));
+        assertThat(total).hasToString("100.00");
+        assertThat(drifting).isNotEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Should refuse fractions of a cent and amounts that do not fit")
+    void shouldRejectInexactAmounts() {
+        assertThat(Money.of(new BigDecimal("12.5")).cents()).isEqualTo(1_250);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("12.345")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Should read and write JSON as a plain number with two decimals")
+    void shouldRoundTripJson() throws Exception {
+        assertThat(objectMapper.writeValueAsString(Money.ofCents(705))).isEqualTo("7.05");
+        assertThat(objectMapper.readValue("7.05", Money.class)).isEqualTo(Money.ofCents(705));
+        assertThat(objectMapper.readValue("7", Money.class)).isEqualTo(Money.ofCents(700));
+        assertThatThrownBy(() -> objectMapper.readValue("7.055", Money.class))
+                .isInstanceOf(ValueInstantiationException.class);
+    }
+
+    @Test
+    @DisplayName("Should store amounts in a two-decimal column")
+    void shouldConvertToColumn() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertThat(converter.convertToDatabaseColumn(Money.ofCents(-1_999))).isEqualByComparingTo("-19.99");
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("19.990"))).isEqualTo(Money.ofCents(1_999));
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,151 @@
+package code.with.vanilson.libraryapplication.unit.fine;
+
+import code.with.vanilson.libraryapplication.book.Loan;
+import code.with.vanilson.libraryapplication.book.LoanRepository;
+import code.with.vanilson.libraryapplication.fine.FineAccrualRepository;
+import code.with.vanilson.libraryapplication.fine.FineAccrualRepository.AccruingFine;
+import code.with.vanilson.libraryapplication.fine.FineAccrualRepository.Checkpoint;
+import code.with.vanilson.libraryapplication.fine.FineAccrualRepository.FineAccrual;
+import code.with.vanilson.libraryapplication.fine.FineAccrualService;
+import code.with.vanilson.libraryapplication.member.MemberBalanceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Fine Accrual Service Test")
+class FineAccrualServiceTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+
+    private LoanRepository loanRepository;
+    private FineAccrualRepository fineAccrualRepository;
+    private MemberBalanceService memberBalanceService;
+    private FineAccrualService fineAccrualService;
+    private final List<Loan> openLoans = new ArrayList<>();
+    // Cents by loan, written by the worker threads
+    private final Map<Long, Long> fines = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        loanRepository = mock(LoanRepository.class);
+        fineAccrualRepository = mock(FineAccrualRepository.class);
+        memberBalanceService = mock(MemberBalanceService.class);
+        fineAccrualService = new FineAccrualService(loanRepository, fineAccrualRepository, memberBalanceService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 2, 2);
+
+        // Keyset scan over the open loans, ordered by due date then ID like idx_loans_open_due
+        when(loanRepository.findOpenLoansDueBefore(any(), any(), anyLong(), any())).thenAnswer(invocation -> {
+            LocalDate dueBefore = invocation.getArgument(0);
+            LocalDate afterDue = invocation.getArgument(1);
+            long afterId = invocation.getArgument(2);
+            return openLoans.stream()
+                    .filter(loan -> loan.getDueDate().isBefore(dueBefore))
+                    .filter(loan -> loan.getDueDate().isAfter(afterDue)
+                            || loan.getDueDate().equals(afterDue) && loan.getLoanId() > afterId)
+                    .sorted(Comparator.comparing(Loan::getDueDate).thenComparing(Loan::getLoanId))
+                    .limit(invocation.<Pageable>getArgument(3).getPageSize())
+                    .toList();
+        });
+        // Raises the fines that exist, issues the others
+        when(fineAccrualRepository.lockAccruingFines(anyCollection(), eq(DAY))).thenAnswer(invocation -> {
+            Map<Long, AccruingFine> existing = new HashMap<>();
+            for (Long loanId : invocation.<Collection<Long>>getArgument(0)) {
+                if (fines.containsKey(loanId)) {
+                    existing.put(loanId, new AccruingFine(loanId, 7L, fines.get(loanId)));
+                }
+            }
+            return existing;
+        });
+        when(fineAccrualRepository.updateAccruals(anyList(), eq(DAY))).thenAnswer(invocation ->
+                invocation.<List<FineAccrual>>getArgument(0).stream()
+                        .mapToInt(accrual -> fines.replace(accrual.loanId(), accrual.amountCents()) == null ? 0 : 1)
+                        .toArray());
+        when(fineAccrualRepository.insertAccruals(anyList(), eq(DAY))).thenAnswer(invocation ->
+                invocation.<List<FineAccrual>>getArgument(0).stream()
+                        .mapToInt(accrual -> fines.putIfAbsent(accrual.loanId(), accrual.amountCents()) == null ? 1 : 0)
+                        .toArray());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fineAccrualService.close();
+    }
+
+    @Test
+    @DisplayName("Should charge every loan overdue past the grace period with the fine rules")
+    void shouldAccrueFines_ForLoansPastGracePeriod() {
+        openLoans.addAll(List.of(loan(1L, 2), loan(2L, 5), loan(3L, 10), loan(4L, 100), loan(5L, 3)));
+        fines.put(3L, 100L);
+        when(fineAccrualRepository.startRun(eq(DAY), any())).thenReturn(new Checkpoint(LocalDate.EPOCH, 0, 0, false));
+
+        long accrued = fineAccrualService.accrue(DAY);
+
+        // Within the grace period nothing is charged; afterwards one unit per day, capped
+        assertThat(accrued).isEqualTo(3);
+        assertThat(fines).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 200L, 3L, 700L, 4L, 5_000L));
+        verify(fineAccrualRepository).saveCheckpoint(DAY, DAY.minusDays(5), 2L, 3);
+        verify(fineAccrualRepository).finishRun(eq(DAY), any());
+        // The balance moves by what the fines went up, per chunk: 50.00 issued and 1.00 raised to 7.00, then 2.00
+        verify(memberBalanceService).adjust(Map.of(7L, 5_600L));
+        verify(memberBalanceService).adjust(Map.of(7L, 200L));
+    }
+
+    @Test
+    @DisplayName("Should resume after the checkpoint of an interrupted run")
+    void shouldResumeFromCheckpoint() {
+        openLoans.addAll(List.of(loan(1L, 30), loan(2L, 20), loan(3L, 10)));
+        when(fineAccrualRepository.startRun(eq(DAY), any()))
+                .thenReturn(new Checkpoint(DAY.minusDays(20), 2L, 2, false));
+
+        long accrued = fineAccrualService.accrue(DAY);
+
+        assertThat(accrued).isEqualTo(1);
+        assertThat(fines).containsOnlyKeys(3L);
+        verify(fineAccrualRepository).saveCheckpoint(DAY, DAY.minusDays(10), 3L, 3);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the run of the day already finished")
+    void shouldSkip_WhenRunAlreadyFinished() {
+        when(fineAccrualRepository.startRun(eq(DAY), any())).thenReturn(new Checkpoint(DAY, 9L, 9, true));
+
+        assertThat(fineAccrualService.accrue(DAY)).isZero();
+
+        verifyNoInteractions(loanRepository);
+        verify(fineAccrualRepository, never()).finishRun(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep the checkpoint where it was when a chunk fails")
+    void shouldNotAdvanceCheckpoint_WhenChunkFails() {
+        openLoans.addAll(List.of(loan(1L, 30), loan(2L, 20), loan(3L, 10)));
+        when(fineAccrualRepository.startRun(eq(DAY), any())).thenReturn(new Checkpoint(LocalDate.EPOCH, 0, 0, false));
+        when(fineAccrualRepository.insertAccruals(anyList(), eq(DAY))).thenThrow(new IllegalStateException("down"));
+
+        assertThatThrownBy(() -> fineAccrualService.accrue(DAY)).isInstanceOf(IllegalStateException.class);
+
+        verify(fineAccrualRepository, never()).saveCheckpoint(any(), any(), anyLong(), anyLong());
+        verify(fineAccrualRepository, never()).finishRun(any(), any());
+    }
+
+    private static Loan loan(Long loanId, int daysOverdue) {
+        return Loan.builder()
+                .loanId(loanId)
+                .bookId(loanId)
+                .memberId(7L)
+                .dueDate(DAY.minusDays(daysOverdue))
+                .build();
+    }
+}
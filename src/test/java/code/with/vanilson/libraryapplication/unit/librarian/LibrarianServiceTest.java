@@ -3,6 +3,7 @@ package code.with.vanilson.libraryapplication.unit.librarian;
 import code.with.vanilson.libraryapplication.TestDataHelper;
 import code.with.vanilson.libraryapplication.admin.AdminMapper;
 import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.admin.AdminView;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
@@ -16,6 +17,7 @@ import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static code.with.vanilson.libraryapplication.common.utils.MessageProvider.getMessage;
 import static org.junit.Assert.assertNotNull;
@@ -113,7 +115,14 @@ class LibrarianServiceTest {
     @DisplayName("Should return all librarians when librarians exist")
     void shouldReturnAllLibrarians_When_Librarians_Exist() {
         // given
-        when(librarianRepository.findAll()).thenReturn(librarians);
+        var admin = testDataHelper.createAdmin();
+        when(librarianRepository.findAllViews()).thenReturn(librarians.stream()
+                .map(l -> new LibrarianView(l.getId(), l.getName(), l.getEmail(), l.getAddress(), l.getContact(),
+                        l.getEmployeeCode(), l.getVersion(), l.getAdmin().getId()))
+                .toList());
+        when(adminRepository.findViewsByIdIn(Set.of(admin.getId()))).thenReturn(List.of(
+                new AdminView(admin.getId(), admin.getName(), admin.getEmail(), admin.getAddress(), admin.getContact(),
+                        admin.getAdminCode(), admin.getRole(), admin.getVersion())));
 
         // when
         var results = librarianService.getAllLibrarians();
@@ -122,10 +131,12 @@ class LibrarianServiceTest {
         assertNotNull(results.toString(), "The results should not be null");
         assertEquals(librarian.getId(), results.get(0).getId(), "The ID of the first librarian should match");
         assertEquals(librarian.getName(), results.get(0).getName(), "The name of the first librarian should match");
+        assertEquals(admin.getEmail(), results.get(1).getAdmin().getEmail(), "The admin should be mapped");
         assertFalse(results.isEmpty(), "The results list should not be empty");
 
-        // Verify that findAll() was called at least once
-        verify(librarianRepository, atLeast(1)).findAll();
+        // The admin shared by both librarians is read once, and no entity is loaded
+        verify(adminRepository, times(1)).findViewsByIdIn(Set.of(admin.getId()));
+        verify(librarianRepository, never()).findAll();
     }
 
     /**
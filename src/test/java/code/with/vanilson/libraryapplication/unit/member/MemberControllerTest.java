@@ -1,5 +1,8 @@
 package code.with.vanilson.libraryapplication.unit.member;
 
+import code.with.vanilson.libraryapplication.common.money.Money;
+import code.with.vanilson.libraryapplication.member.MemberBalanceResponse;
+import code.with.vanilson.libraryapplication.member.MemberBalanceService;
 import code.with.vanilson.libraryapplication.member.MemberRequest;
 import code.with.vanilson.libraryapplication.member.MemberResponse;
 import code.with.vanilson.libraryapplication.member.MemberService;
@@ -14,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
@@ -44,6 +48,9 @@ class MemberControllerTest {
     @MockBean
     private MemberService memberService;
 
+    @MockBean
+    private MemberBalanceService memberBalanceService;
+
     private MemberResponse memberResponse;
 
     private static final String API_URL = "/api/v1/members/create-member";
@@ -103,6 +110,34 @@ class MemberControllerTest {
                 .andDo(print());  // Print the response for debugging
     }
 
+    /**
+     * Tests that a member is sent with its version as ETag and that a request still holding that ETag
+     * gets 304 Not Modified without the member being loaded.
+     *
+     * @throws Exception if an error occurs during the request.
+     */
+    @Test
+    @DisplayName("Test that retrieving an unchanged member with If-None-Match returns 304 NOT_MODIFIED")
+    void testRetrieveMemberById_NotModified_WhenETagMatches() throws Exception {
+        // Arrange: The member is at version 3
+        memberResponse.setVersion(3L);
+        when(memberService.getMemberVersion(ID)).thenReturn(3L);
+        when(memberService.getMemberById(ID)).thenReturn(memberResponse);
+
+        // Act & Assert: The first request gets the ETag, the conditional one gets 304
+        mockMvc.perform(get("/api/v1/members/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        mockMvc.perform(get("/api/v1/members/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+        Mockito.verify(memberService, Mockito.times(1)).getMemberById(ID);
+    }
+
     /**
      * Tests the successful creation of a new member.
      * It expects a 201 CREATED status with the member's ID and name in the response.
@@ -197,9 +232,12 @@ class MemberControllerTest {
         MemberResponse mockUpdatedResponse = new MemberResponse();
         mockUpdatedResponse.setId(ID);  // Set member ID
         mockUpdatedResponse.setName("John Doe Updated");  // Set updated name
+        mockUpdatedResponse.setEmail("john.doe@example.com");
+        mockUpdatedResponse.setContact("+123 456-789-123");
+        mockUpdatedResponse.setVersion(4L);  // Version after the update
 
         // Mock the service method to return the updated member response
-        Mockito.when(memberService.updateMember(Mockito.any(MemberRequest.class), Mockito.eq(ID)))
+        Mockito.when(memberService.updateMember(Mockito.any(MemberRequest.class), Mockito.eq(ID), Mockito.isNull()))
                 .thenReturn(mockUpdatedResponse);
 
         // Act: Perform the PUT request and validate the result
@@ -212,6 +250,7 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.id").value(1))  // Check if the response contains ID 1
                 .andExpect(jsonPath("$.name").value(
                         "John Doe Updated"))  // Check if the response contains the updated name
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))  // New version as ETag
                 .andDo(print());
     }
 
@@ -225,7 +264,7 @@ class MemberControllerTest {
     @DisplayName("Test that updating a member with invalid data results in a 400 BAD_REQUEST status")
     void testUpdateMemberFailure() throws Exception {
         // Arrange: Mock the service method to throw an exception for invalid data
-        when(memberService.updateMember(Mockito.any(MemberRequest.class), Mockito.eq(ID)))
+        when(memberService.updateMember(Mockito.any(MemberRequest.class), Mockito.eq(ID), Mockito.isNull()))
                 .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid data"));
 
         // Act: Perform the PUT request with invalid data
@@ -277,6 +316,25 @@ class MemberControllerTest {
                 .andDo(print());
     }
 
+    /**
+     * Tests that the balance of a member is served from the running ledger.
+     *
+     * @throws Exception if an error occurs during the request.
+     */
+    @Test
+    @DisplayName("Test that retrieving a member balance returns the outstanding amount with status 200 OK")
+    void testRetrieveMemberBalanceSuccessfully() throws Exception {
+        when(memberBalanceService.getBalance(ID)).thenReturn(new MemberBalanceResponse(ID,
+                Money.ofCents(1_250), Money.ofCents(1_000), true));
+
+        mockMvc.perform(get("/api/v1/members/{id}/balance", ID)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value(ID))
+                .andExpect(jsonPath("$.outstanding").value(12.5))
+                .andExpect(jsonPath("$.borrowingBlocked").value(true));
+    }
+
     /**
      * Test that when updating a member with invalid data (e.g., invalid email format),
      * the system responds with a 400 Bad Request status and returns a meaningful error message.
@@ -2,11 +2,15 @@ package code.with.vanilson.libraryapplication.unit.member;
 
 import code.with.vanilson.libraryapplication.admin.Admin;
 import code.with.vanilson.libraryapplication.admin.AdminRepository;
+import code.with.vanilson.libraryapplication.book.LoanRepository;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceConflictException;
 import code.with.vanilson.libraryapplication.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.libraryapplication.common.exceptions.ResourcePreconditionFailedException;
 import code.with.vanilson.libraryapplication.librarian.Librarian;
 import code.with.vanilson.libraryapplication.librarian.LibrarianRepository;
+import code.with.vanilson.libraryapplication.librarian.LibrarianResponse;
+import code.with.vanilson.libraryapplication.librarian.StaffDirectory;
 import code.with.vanilson.libraryapplication.member.*;
 import code.with.vanilson.libraryapplication.person.Address;
 import code.with.vanilson.libraryapplication.person.AddressDTO;
@@ -21,7 +25,9 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +61,12 @@ class MemberServiceTest {
     @Mock
     private AdminRepository adminRepository;
 
+    @Mock
+    private StaffDirectory staffDirectory;
+
+    @Mock
+    private LoanRepository loanRepository;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -83,14 +95,22 @@ class MemberServiceTest {
     @DisplayName("Should return all members when repository is queried")
     void shouldReturnAllMembers_WhenRepositoryIsQueried() {
         // Given
-        when(memberRepository.findAll()).thenReturn(List.of(member));
+        when(memberRepository.findAllViews()).thenReturn(List.of(new MemberView(member.getId(), member.getName(),
+                member.getEmail(), member.getAddress(), member.getContact(), member.getMembershipStatus(),
+                member.getVersion(), librarian.getId(), admin.getId())));
+        var librarianResponse = new LibrarianResponse();
+        librarianResponse.setEmail(librarian.getEmail());
+        when(staffDirectory.resolve(Set.of(librarian.getId()), Set.of(admin.getId())))
+                .thenReturn(new StaffDirectory.Staff(Map.of(librarian.getId(), librarianResponse), Map.of()));
         // When
         List<MemberResponse> members = memberService.getAllMembers();
         // Then
         assertThat(members).hasSize(1);
         assertThat(members.get(0).getName()).isEqualTo(JOHN_DOE);
         assertEquals(members.get(0).getName(), JOHN_DOE);
-        verify(memberRepository, times(1)).findAll();
+        assertThat(members.get(0).getLibrarianResponse()).isSameAs(librarianResponse);
+        assertThat(members.get(0).getAdminResponse()).isNull();
+        verify(memberRepository, never()).findAll();
     }
 
     /**
@@ -285,6 +305,22 @@ class MemberServiceTest {
         verify(memberRepository, times(1)).save(any(Member.class));
     }
 
+    /**
+     * Tests that an update carrying an If-Match of an older version is refused before anything is written.
+     */
+    @Test
+    @DisplayName("Should throw ResourcePreconditionFailedException when If-Match holds a stale version")
+    void shouldThrowPreconditionFailedException_WhenIfMatchIsStale() {
+        // Arrange
+        member.setVersion(3L);
+        when(memberRepository.findById(anyLong())).thenReturn(Optional.of(member));
+
+        // Act & Assert
+        assertThrows(ResourcePreconditionFailedException.class,
+                () -> memberService.updateMember(memberRequest, MEMBER_ID, "\"2\""));
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
     /**
      * Tests the scenario where a null request is passed for updating a member.
      * This should throw a ResourceBadRequestException.
@@ -327,6 +363,23 @@ class MemberServiceTest {
         verify(memberRepository, times(1)).deleteById(MEMBER_ID);
     }
 
+    /**
+     * Tests the scenario where the member has loan history, which is never deleted.
+     * This should throw a ResourceConflictException.
+     */
+    @Test
+    @DisplayName("Should throw ResourceConflictException when the member has loan history")
+    void shouldThrowConflictException_WhenMemberHasLoans() {
+        // Arrange
+        when(memberRepository.existsById(MEMBER_ID)).thenReturn(true);
+        when(loanRepository.existsByMemberId(MEMBER_ID)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ResourceConflictException.class,
+                () -> memberService.deleteMemberById(MEMBER_ID));
+        verify(memberRepository, never()).deleteById(MEMBER_ID);
+    }
+
     /**
      * Tests the scenario where the provided ID is invalid (e.g., 0).
      * This should throw a ResourceBadRequestException.
@@ -0,0 +1,114 @@
+package code.with.vanilson.libraryapplication.unit.security;
+
+import code.with.vanilson.libraryapplication.security.JwtTokenService;
+import code.with.vanilson.libraryapplication.security.TokenPrincipal;
+import code.with.vanilson.libraryapplication.user.Role;
+import code.with.vanilson.libraryapplication.user.User;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Jwt Token Service Test")
+class JwtTokenServiceTest {
+    private static final String SECRET = "test-secret";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenService jwtTokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenService = new JwtTokenService(SECRET, Duration.ofMinutes(15), 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and answer later presentations from the cache")
+    void shouldCacheVerifiedToken() {
+        String token = jwtTokenService.generateToken(new User("reader", "secret", Role.USER));
+
+        assertThat(jwtTokenService.validateToken(token)).isEqualTo("reader");
+        assertThat(jwtTokenService.validateToken(token)).isEqualTo("reader");
+        assertThat(jwtTokenService.validateToken(token)).isEqualTo("reader");
+
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read the login and roles of the caller from the token claims")
+    void shouldBuildPrincipalFromClaims() {
+        String token = jwtTokenService.generateToken(new User("librarian", "secret", Role.ADMIN));
+
+        TokenPrincipal principal = jwtTokenService.verify(token);
+
+        assertThat(principal.login()).isEqualTo("librarian");
+        assertThat(principal.authorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(principal.tokenId()).isNotBlank();
+        assertThat(principal.expiresAt()).isBetween(Instant.now().plus(14, ChronoUnit.MINUTES),
+                Instant.now().plus(15, ChronoUnit.MINUTES));
+        assertThat(jwtTokenService.verify(token)).isEqualTo(principal);
+    }
+
+    @Test
+    @DisplayName("Should accept a token without roles claim with no roles")
+    void shouldBuildPrincipalWithoutRoles_ForTokenWithoutRolesClaim() {
+        String token = token(Algorithm.HMAC256(SECRET), Instant.now().plus(1, ChronoUnit.HOURS));
+
+        TokenPrincipal principal = jwtTokenService.verify(token);
+
+        assertThat(principal.login()).isEqualTo("reader");
+        assertThat(principal.authorities()).isEmpty();
+        assertThat(principal.tokenId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should refuse forged and expired tokens without caching them")
+    void shouldRejectInvalidTokens() {
+        String forged = token(Algorithm.HMAC256("other-secret"), Instant.now().plus(1, ChronoUnit.HOURS));
+        String expired = token(Algorithm.HMAC256(SECRET), Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        assertThat(jwtTokenService.validateToken(forged)).isNull();
+        assertThat(jwtTokenService.validateToken(forged)).isNull();
+        assertThat(jwtTokenService.validateToken(expired)).isNull();
+
+        assertThat(gets("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop accepting a cached token at its exp")
+    void shouldExpireCachedToken_AtExp() throws InterruptedException {
+        Instant expiresAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(2);
+        String token = token(Algorithm.HMAC256(SECRET), expiresAt);
+        assertThat(jwtTokenService.validateToken(token)).isEqualTo("reader");
+
+        while (!Instant.now().isAfter(expiresAt)) {
+            Thread.sleep(50);
+        }
+
+        assertThat(jwtTokenService.validateToken(token)).isNull();
+    }
+
+    private static String token(Algorithm algorithm, Instant expiresAt) {
+        return JWT.create()
+                .withIssuer("auth-api")
+                .withSubject("reader")
+                .withExpiresAt(expiresAt)
+                .sign(algorithm);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,82 @@
+package code.with.vanilson.libraryapplication.unit.security;
+
+import code.with.vanilson.libraryapplication.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Password Hashing Executor Test")
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.close();
+    }
+
+    @Test
+    @DisplayName("Should refuse tasks at once while the thread and the queue are full")
+    void shouldRefuseTasks_WhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = passwordHashingExecutor.submit("login", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }).orElseThrow();
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = passwordHashingExecutor.submit("login", () -> "second").orElseThrow();
+
+        assertThat(passwordHashingExecutor.submit("login", () -> "third")).isEmpty();
+        assertThat(meterRegistry.get("auth.hashing.rejected").tag("operation", "login").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.hashing.queue.size").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(meterRegistry.get("auth.hashing.queue.wait").tag("operation", "login").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("auth.hashing.duration").tag("operation", "login").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should pass the exception of a task to its caller")
+    void shouldCompleteExceptionally_WhenTaskFails() {
+        CompletableFuture<Object> result = passwordHashingExecutor.submit("login", () -> {
+            throw new BadCredentialsException("Bad credentials");
+        }).orElseThrow();
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BadCredentialsException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package code.with.vanilson.libraryapplication.unit.security;
+
+import code.with.vanilson.libraryapplication.security.RateLimiter;
+import code.with.vanilson.libraryapplication.security.RateLimiter.Decision;
+import code.with.vanilson.libraryapplication.security.RouteClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Rate Limiter Test")
+class RateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Refills too slowly to matter within a test: capacity is all a client gets
+        rateLimiter = new RateLimiter(meterRegistry, 3, 0.001, 5, 0.001, 2, 0.001, 1_000, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should allow a burst of capacity requests, then reject with a retry delay")
+    void shouldRejectRequests_OverCapacity() {
+        List<Decision> decisions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            decisions.add(rateLimiter.tryAcquire("ip:10.0.0.1", RouteClass.AUTH));
+        }
+
+        assertThat(decisions).extracting(Decision::allowed).containsExactly(true, true, true, false);
+        assertThat(decisions).extracting(Decision::remaining).containsExactly(2L, 1L, 0L, 0L);
+        assertThat(decisions.get(3).limit()).isEqualTo(3);
+        // One token every 1000 seconds
+        assertThat(decisions.get(3).retryAfterSeconds()).isBetween(990L, 1000L);
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("route", "auth").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per client and per route class")
+    void shouldKeepSeparateBuckets() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0.1", RouteClass.AUTH);
+        }
+
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", RouteClass.AUTH).allowed()).isFalse();
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.2", RouteClass.AUTH).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", RouteClass.READS).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("user:reader", RouteClass.AUTH).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly capacity tokens under concurrent requests")
+    void shouldNotOverGrant_UnderContention() throws Exception {
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10; j++) {
+                        if (rateLimiter.tryAcquire("user:kiosk", RouteClass.READS).allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(allowed).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("Should classify routes into auth, reads and writes")
+    void shouldClassifyRoutes() {
+        assertThat(RouteClass.of(new MockHttpServletRequest("POST", "/auth/login"))).isEqualTo(RouteClass.AUTH);
+        assertThat(RouteClass.of(new MockHttpServletRequest("GET", "/api/books"))).isEqualTo(RouteClass.READS);
+        assertThat(RouteClass.of(new MockHttpServletRequest("DELETE", "/api/books/1"))).isEqualTo(RouteClass.WRITES);
+        assertThat(RouteClass.of(new MockHttpServletRequest("GET", "/actuator/health"))).isNull();
+    }
+}
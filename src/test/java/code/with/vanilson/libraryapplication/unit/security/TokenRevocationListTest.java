@@ -0,0 +1,83 @@
+package code.with.vanilson.libraryapplication.unit.security;
+
+import code.with.vanilson.libraryapplication.security.RevokedTokenRepository;
+import code.with.vanilson.libraryapplication.security.TokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Token Revocation List Test")
+class TokenRevocationListTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1_000);
+    }
+
+    @Test
+    @DisplayName("Should report revoked tokens and only those")
+    void shouldReportRevokedTokens() {
+        Instant expiresAt = Instant.now().plus(15, ChronoUnit.MINUTES);
+        IntStream.range(0, 2_000).forEach(i -> tokenRevocationList.revoke("revoked-" + i, expiresAt));
+
+        // Twice the expected size: the filter answers "maybe" more often, the exact set keeps the answer right
+        assertThat(IntStream.range(0, 2_000)).allMatch(i -> tokenRevocationList.isRevoked("revoked-" + i));
+        assertThat(IntStream.range(0, 10_000))
+                .noneMatch(i -> tokenRevocationList.isRevoked(UUID.randomUUID().toString()));
+        verify(revokedTokenRepository).insert("revoked-0", expiresAt);
+    }
+
+    @Test
+    @DisplayName("Should ignore tokens that have already expired")
+    void shouldIgnoreExpiredTokens() {
+        tokenRevocationList.revoke("expired", Instant.now().minusSeconds(1));
+
+        assertThat(tokenRevocationList.isRevoked("expired")).isFalse();
+        verify(revokedTokenRepository, never()).insert(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should drop revocations once their token has expired")
+    void shouldPurgeExpiredRevocations() throws InterruptedException {
+        Instant soon = Instant.now().plusMillis(100);
+        tokenRevocationList.revoke("short", soon);
+        tokenRevocationList.revoke("long", Instant.now().plus(15, ChronoUnit.MINUTES));
+
+        while (!Instant.now().isAfter(soon)) {
+            Thread.sleep(20);
+        }
+        tokenRevocationList.purgeExpired();
+
+        assertThat(tokenRevocationList.isRevoked("short")).isFalse();
+        assertThat(tokenRevocationList.isRevoked("long")).isTrue();
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should load the stored revocations at startup")
+    void shouldLoadStoredRevocations() {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, BiConsumer.class).accept("stored", Instant.now().plus(5, ChronoUnit.MINUTES));
+            return null;
+        }).when(revokedTokenRepository).forEachUnexpired(any(), any());
+
+        tokenRevocationList.load();
+
+        assertThat(tokenRevocationList.isRevoked("stored")).isTrue();
+    }
+}
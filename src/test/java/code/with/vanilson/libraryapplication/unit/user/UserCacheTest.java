@@ -0,0 +1,50 @@
+package code.with.vanilson.libraryapplication.unit.user;
+
+import code.with.vanilson.libraryapplication.user.Role;
+import code.with.vanilson.libraryapplication.user.User;
+import code.with.vanilson.libraryapplication.user.UserCache;
+import code.with.vanilson.libraryapplication.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("User Cache Test")
+class UserCacheTest {
+
+    private UserRepository userRepository;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCache = new UserCache(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should load a user once and answer later lookups from the cache")
+    void shouldLoadUserOnce() {
+        User user = new User("reader", "secret", Role.USER);
+        when(userRepository.findUserByLogin("reader")).thenReturn(user);
+
+        assertThat(userCache.getByLogin("reader")).isSameAs(user);
+        assertThat(userCache.getByLogin("reader")).isSameAs(user);
+
+        verify(userRepository, times(1)).findUserByLogin("reader");
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown logins")
+    void shouldNotCacheUnknownLogin() {
+        User user = new User("newcomer", "secret", Role.USER);
+        when(userRepository.findUserByLogin("newcomer")).thenReturn(null, user);
+
+        assertThat(userCache.getByLogin("newcomer")).isNull();
+        assertThat(userCache.getByLogin("newcomer")).isSameAs(user);
+    }
+}